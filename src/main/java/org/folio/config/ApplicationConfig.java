@@ -47,8 +47,10 @@ import org.folio.service.orders.OrderInvoiceRelationService;
 import org.folio.service.orders.OrderLinesSummaryPopulateService;
 import org.folio.service.orders.OrderReEncumberService;
 import org.folio.service.orders.OrderRolloverService;
+import org.folio.service.orders.PoNumberPool;
 import org.folio.service.orders.PurchaseOrderLineService;
 import org.folio.service.orders.PurchaseOrderService;
+import org.folio.service.orders.ReEncumberJobService;
 import org.folio.service.orders.ReEncumbranceHoldersBuilder;
 import org.folio.service.orders.TransactionsTotalFieldsPopulateService;
 import org.folio.service.orders.flows.unopen.UnOpenCompositeOrderManager;
@@ -58,6 +60,7 @@ import org.folio.service.pieces.PieceDeletionFlowManager;
 import org.folio.service.pieces.PieceService;
 import org.folio.service.pieces.PieceStorageService;
 import org.folio.service.pieces.PieceUpdateInventoryService;
+import org.folio.service.pieces.ReceivingHistoryCache;
 import org.folio.service.titles.TitlesService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -141,8 +144,9 @@ public class ApplicationConfig {
   }
 
   @Bean
-  ExpenseClassValidationService expenseClassValidationService(BudgetExpenseClassService budgetExpenseClassService, ExpenseClassService expenseClassService) {
-    return new ExpenseClassValidationService(budgetExpenseClassService, expenseClassService);
+  ExpenseClassValidationService expenseClassValidationService(BudgetExpenseClassService budgetExpenseClassService,
+                                                              ExpenseClassService expenseClassService, BudgetService budgetService) {
+    return new ExpenseClassValidationService(budgetExpenseClassService, expenseClassService, budgetService);
   }
 
   @Bean
@@ -255,6 +259,13 @@ public class ApplicationConfig {
                                       transactionSummaryService, budgetRestrictionService);
   }
 
+  @Bean
+  ReEncumberJobService reEncumberJobService(OrderReEncumberService orderReEncumberService,
+                                            RolloverErrorService rolloverErrorService,
+                                            RolloverRetrieveService rolloverRetrieveService) {
+    return new ReEncumberJobService(orderReEncumberService, rolloverErrorService, rolloverRetrieveService);
+  }
+
   @Bean
   RolloverErrorService rolloverErrorService(RestClient restClient) {
     return new RolloverErrorService(restClient);
@@ -308,8 +319,8 @@ public class ApplicationConfig {
 
   @Bean
   CompositeOrderDynamicDataPopulateService orderLinesSummaryPopulateService(ConfigurationEntriesService configurationEntriesService,
-                                                                            ExchangeRateProviderResolver exchangeRateProviderResolver) {
-    return new OrderLinesSummaryPopulateService(configurationEntriesService, exchangeRateProviderResolver);
+                                                                            FinanceExchangeRateService financeExchangeRateService) {
+    return new OrderLinesSummaryPopulateService(configurationEntriesService, financeExchangeRateService);
   }
 
   @Bean
@@ -323,6 +334,11 @@ public class ApplicationConfig {
     return new CombinedOrderDataPopulateService(compositeOrderRetrieveHolderBuilder, populateServices);
   }
 
+  @Bean
+  PoNumberPool poNumberPool(RestClient restClient) {
+    return new PoNumberPool(restClient);
+  }
+
   @Bean
   TitlesService titlesService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService) {
     return new TitlesService(restClient, purchaseOrderLineService);
@@ -345,8 +361,13 @@ public class ApplicationConfig {
   }
 
   @Bean
-  PieceChangeReceiptStatusPublisher receiptStatusPublisher() {
-    return new PieceChangeReceiptStatusPublisher();
+  ReceivingHistoryCache receivingHistoryCache() {
+    return new ReceivingHistoryCache();
+  }
+
+  @Bean
+  PieceChangeReceiptStatusPublisher receiptStatusPublisher(ReceivingHistoryCache receivingHistoryCache) {
+    return new PieceChangeReceiptStatusPublisher(receivingHistoryCache);
   }
 
   @Bean PieceStorageService pieceStorageService(RestClient restClient) {
@@ -28,6 +28,8 @@ import org.apache.logging.log4j.Logger;
 import org.folio.orders.events.handlers.MessageAddress;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.rest.core.OutboundRequestLogger;
+import org.folio.rest.core.OutboundRequestMetrics;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.Errors;
@@ -39,6 +41,7 @@ import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.http.HttpMethod;
@@ -173,20 +176,24 @@ public abstract class AbstractHelper {
    */
   protected CompletableFuture<String> createRecordInStorage(JsonObject recordData, String endpoint) {
     CompletableFuture<String> future = new CompletableFuture<>();
+    long startTime = OutboundRequestLogger.start();
     try {
-      if (logger.isDebugEnabled()) {
-        logger.debug("Sending 'POST {}' with body: {}", endpoint, recordData.encodePrettily());
-      }
+      Buffer buffer = recordData.toBuffer();
+      OutboundRequestLogger.logRequestBody(HttpMethod.POST, endpoint, recordData);
       httpClient
-        .request(HttpMethod.POST, recordData.toBuffer(), endpoint, okapiHeaders)
-        .thenApply(HelperUtils::verifyAndExtractRecordId)
+        .request(HttpMethod.POST, buffer, endpoint, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.POST, endpoint, okapiHeaders, startTime))
+        .thenApply(response -> {
+          OutboundRequestLogger.logResponse(HttpMethod.POST, endpoint, startTime, buffer.length(), response);
+          return HelperUtils.verifyAndExtractRecordId(response);
+        })
         .thenAccept(id -> {
           future.complete(id);
           logger.debug("'POST {}' request successfully processed. Record with '{}' id has been created", endpoint, id);
         })
         .exceptionally(throwable -> {
           future.completeExceptionally(throwable);
-          logger.error("'POST {}' request failed. Request body: {} {}", throwable, endpoint, recordData.encodePrettily());
+          OutboundRequestLogger.logFailure(HttpMethod.POST, endpoint, startTime, buffer.length(), throwable);
           return null;
         });
     } catch (Exception e) {
@@ -204,26 +211,29 @@ public abstract class AbstractHelper {
    */
   protected CompletableFuture<Void> handleUpdateRequest(String endpoint, Object recordData) {
     CompletableFuture<Void> future = new CompletableFuture<>();
+    long startTime = OutboundRequestLogger.start();
     try {
       JsonObject json = convertToJson(recordData);
-
-      if (logger.isDebugEnabled()) {
-        logger.debug(CALLING_ENDPOINT_WITH_BODY_MSG, HttpMethod.PUT, endpoint, json.encodePrettily());
-      }
-
-      httpClient.request(HttpMethod.PUT, json.toBuffer(), endpoint, okapiHeaders)
-        .thenApply(HelperUtils::verifyAndExtractBody)
+      Buffer buffer = json.toBuffer();
+      OutboundRequestLogger.logRequestBody(HttpMethod.PUT, endpoint, json);
+
+      httpClient.request(HttpMethod.PUT, buffer, endpoint, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.PUT, endpoint, okapiHeaders, startTime))
+        .thenApply(response -> {
+          OutboundRequestLogger.logResponse(HttpMethod.PUT, endpoint, startTime, buffer.length(), response);
+          return HelperUtils.verifyAndExtractBody(response);
+        })
         .thenAccept(response -> {
           logger.debug("'PUT {}' request successfully processed", endpoint);
           future.complete(null);
         })
         .exceptionally(e -> {
           future.completeExceptionally(e);
-          logger.error(EXCEPTION_CALLING_ENDPOINT_WITH_BODY_MSG, e, HttpMethod.PUT, endpoint, json.encodePrettily());
+          OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), e);
           return null;
         });
     } catch (Exception e) {
-      logger.error(EXCEPTION_CALLING_ENDPOINT_WITH_BODY_MSG, e, HttpMethod.PUT, endpoint, recordData);
+      OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, 0, e);
       future.completeExceptionally(e);
     }
 
@@ -18,9 +18,7 @@ import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.HelperUtils.convertIdsToCqlQuery;
 import static org.folio.orders.utils.HelperUtils.encodeQuery;
 import static org.folio.orders.utils.HelperUtils.handleGetRequest;
-import static org.folio.orders.utils.HelperUtils.handlePutRequest;
 import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
-import static org.folio.orders.utils.ResourcePathResolver.resourceByIdPath;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 import static org.folio.rest.jaxrs.model.PoLine.ReceiptStatus.AWAITING_RECEIPT;
 import static org.folio.rest.jaxrs.model.PoLine.ReceiptStatus.FULLY_RECEIVED;
@@ -66,6 +64,8 @@ import org.folio.rest.tools.client.interfaces.HttpClientInterface;
 import org.folio.service.ProtectionService;
 import org.folio.service.inventory.InventoryManager;
 import org.folio.service.orders.PurchaseOrderLineService;
+import org.folio.service.pieces.PieceStorageService;
+import org.folio.service.pieces.ReceivingHistoryCache;
 import org.folio.service.titles.TitlesService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -92,6 +92,10 @@ public abstract class CheckinReceivePiecesHelper<T> extends AbstractHelper {
   protected InventoryManager inventoryManager;
   @Autowired
   protected PurchaseOrderLineService purchaseOrderLineService;
+  @Autowired
+  protected PieceStorageService pieceStorageService;
+  @Autowired
+  private ReceivingHistoryCache receivingHistoryCache;
 
   private List<PoLine> poLineList;
 
@@ -395,36 +399,21 @@ public abstract class CheckinReceivePiecesHelper<T> extends AbstractHelper {
   protected CompletableFuture<Map<String, List<Piece>>> storeUpdatedPieceRecords(Map<String, List<Piece>> piecesGroupedByPoLine) {
     // Collect all piece records which marked as ready to be received and update
     // storage
-    CompletableFuture<?>[] futures = StreamEx
+    List<Piece> piecesToUpdate = StreamEx
       .ofValues(piecesGroupedByPoLine)
       .flatMap(List::stream)
       .filter(this::isSuccessfullyProcessedPiece)
-      .map(this::storeUpdatedPieceRecord)
-      .toArray(new CompletableFuture[0]);
-
-    return CompletableFuture.allOf(futures)
-      .thenApply(v -> piecesGroupedByPoLine);
-  }
+      .toList();
 
-  /**
-   * Sends request to update piece record with receiving/check-in details in the storage.
-   * In case of an error updating the piece, this is collected to return in
-   * the response to client
-   *
-   * @param piece
-   *          {@link Piece} with receiving information
-   */
-  private CompletableFuture<Void> storeUpdatedPieceRecord(Piece piece) {
-    String pieceId = piece.getId();
-    return handlePutRequest(resourceByIdPath(PIECES_STORAGE, pieceId), JsonObject.mapFrom(piece), httpClient, okapiHeaders,
-        logger)
-          .exceptionally(e -> {
-            addError(getPoLineIdByPieceId(pieceId), pieceId, PIECE_UPDATE_FAILED.toError());
-            return null;
-          });
+    // In case of an error updating the piece, this is collected to return in the response to client
+    return pieceStorageService.updatePieces(piecesToUpdate, getRequestContext())
+      .thenApply(failedPieces -> {
+        receivingHistoryCache.invalidate(getRequestContext());
+        failedPieces.keySet().forEach(pieceId -> addError(getPoLineIdByPieceId(pieceId), pieceId, PIECE_UPDATE_FAILED.toError()));
+        return piecesGroupedByPoLine;
+      });
   }
 
-
   protected List<String> getPoLineIdsForUpdatedPieces(Map<String, List<Piece>> piecesGroupedByPoLine) {
     return EntryStream
       .of(piecesGroupedByPoLine)
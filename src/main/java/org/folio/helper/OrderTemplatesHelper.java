@@ -12,36 +12,69 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.orders.utils.AsyncUtil;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.jaxrs.model.OrderTemplate;
 import org.folio.rest.jaxrs.model.OrderTemplateCollection;
+import org.folio.rest.tools.client.interfaces.HttpClientInterface;
 
 import io.vertx.core.Context;
 import io.vertx.core.json.JsonObject;
 
-
+/**
+ * Order templates and collections of templates are cached per tenant, see {@link ReferenceDataCache}. The cached templates
+ * are invalidated when templates are created, updated or deleted through this instance of the module, the time to live
+ * limits the time other instances return outdated templates.
+ */
 public class OrderTemplatesHelper extends AbstractHelper {
 
   private static final String GET_ORDER_TEMPLATES_BY_QUERY = resourcesPath(ORDER_TEMPLATES) + SEARCH_PARAMS;
+  private static final long CACHE_TTL_SECONDS = 60;
+
+  private static final ReferenceDataCache<OrderTemplate> sharedOrderTemplatesCache = ReferenceDataCache
+    .create("orderTemplates", CACHE_TTL_SECONDS);
+  private static final ReferenceDataCache<OrderTemplateCollection> sharedOrderTemplateCollectionsCache = ReferenceDataCache
+    .create("orderTemplateCollections", CACHE_TTL_SECONDS);
+
+  private final ReferenceDataCache<OrderTemplate> orderTemplatesCache;
+  private final ReferenceDataCache<OrderTemplateCollection> orderTemplateCollectionsCache;
 
   public OrderTemplatesHelper(Map<String, String> okapiHeaders, Context ctx, String lang) {
-    super(getHttpClient(okapiHeaders), okapiHeaders, ctx, lang);
+    this(getHttpClient(okapiHeaders), okapiHeaders, ctx, lang, sharedOrderTemplatesCache, sharedOrderTemplateCollectionsCache);
+  }
+
+  OrderTemplatesHelper(HttpClientInterface httpClient, Map<String, String> okapiHeaders, Context ctx, String lang,
+      ReferenceDataCache<OrderTemplate> orderTemplatesCache, ReferenceDataCache<OrderTemplateCollection> orderTemplateCollectionsCache) {
+    super(httpClient, okapiHeaders, ctx, lang);
+    this.orderTemplatesCache = orderTemplatesCache;
+    this.orderTemplateCollectionsCache = orderTemplateCollectionsCache;
   }
 
   public CompletableFuture<OrderTemplate> createOrderTemplate(OrderTemplate template) {
-    return createRecordInStorage(JsonObject.mapFrom(template), resourcesPath(ORDER_TEMPLATES)).thenApply(template::withId);
+    return createRecordInStorage(JsonObject.mapFrom(template), resourcesPath(ORDER_TEMPLATES)).thenApply(template::withId)
+      .thenApply(created -> {
+        orderTemplateCollectionsCache.invalidateAll(getRequestContext());
+        return created;
+      });
   }
 
   public CompletableFuture<Void> updateOrderTemplate(OrderTemplate template) {
     String endpoint = resourceByIdPath(ORDER_TEMPLATES, template.getId());
-    return handlePutRequest(endpoint, JsonObject.mapFrom(template), httpClient, okapiHeaders, logger);
+    return handlePutRequest(endpoint, JsonObject.mapFrom(template), httpClient, okapiHeaders, logger)
+      .thenRun(() -> invalidateOrderTemplate(template.getId()));
   }
 
   public CompletableFuture<OrderTemplate> getOrderTemplateById(String id) {
-    return handleGetRequest(resourceByIdPath(ORDER_TEMPLATES, id), httpClient, okapiHeaders, logger)
-      .thenApply(json -> json.mapTo(OrderTemplate.class));
+    return orderTemplatesCache.get(id, getRequestContext(), () ->
+      handleGetRequest(resourceByIdPath(ORDER_TEMPLATES, id), httpClient, okapiHeaders, logger)
+        .thenApply(json -> json.mapTo(OrderTemplate.class)));
   }
 
   public CompletableFuture<OrderTemplateCollection> getOrderTemplates(String query, int offset, int limit) {
+    return orderTemplateCollectionsCache.get(ReferenceDataCache.getCollectionKey(query, offset, limit), getRequestContext(),
+      () -> loadOrderTemplates(query, offset, limit));
+  }
+
+  private CompletableFuture<OrderTemplateCollection> loadOrderTemplates(String query, int offset, int limit) {
     CompletableFuture<OrderTemplateCollection> future = new CompletableFuture<>();
     try {
       String endpoint = String.format(GET_ORDER_TEMPLATES_BY_QUERY, limit, offset, buildQuery(query, logger), lang);
@@ -59,6 +92,12 @@ public class OrderTemplatesHelper extends AbstractHelper {
   }
 
   public CompletableFuture<Void> deleteOrderTemplate(String id) {
-    return handleDeleteRequest(resourceByIdPath(ORDER_TEMPLATES, id), httpClient, okapiHeaders, logger);
+    return handleDeleteRequest(resourceByIdPath(ORDER_TEMPLATES, id), httpClient, okapiHeaders, logger)
+      .thenRun(() -> invalidateOrderTemplate(id));
+  }
+
+  private void invalidateOrderTemplate(String id) {
+    orderTemplatesCache.invalidate(id, getRequestContext());
+    orderTemplateCollectionsCache.invalidateAll(getRequestContext());
   }
 }
@@ -9,17 +9,23 @@ import java.util.concurrent.CompletableFuture;
 
 import javax.ws.rs.core.Response;
 
+import org.folio.completablefuture.FolioVertxCompletableFuture;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.ErrorCodes;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.acq.model.SequenceNumber;
 import org.folio.rest.jaxrs.model.PoNumber;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
+import org.folio.service.orders.PoNumberPool;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import io.vertx.core.Context;
 
 public class PoNumberHelper extends AbstractHelper {
 
+  @Autowired
+  private PoNumberPool poNumberPool;
+
   public PoNumberHelper(HttpClientInterface httpClient, Map<String, String> okapiHeaders, Context ctx, String lang) {
     super(httpClient, okapiHeaders, ctx, lang);
   }
@@ -47,6 +53,10 @@ public class PoNumberHelper extends AbstractHelper {
   }
 
   CompletableFuture<Void> checkPONumberUnique(String poNumber) {
+    if (poNumberPool.isIssued(poNumber, getRequestContext())) {
+      logger.debug("The PO Number '{}' has been reserved from the sequence", poNumber);
+      return CompletableFuture.completedFuture(null);
+    }
     return getPurchaseOrderByPONumber(poNumber, lang, httpClient, okapiHeaders, logger)
       .thenAccept(po -> {
          if (po.getInteger("totalRecords") != 0) {
@@ -57,6 +67,9 @@ public class PoNumberHelper extends AbstractHelper {
   }
 
   CompletableFuture<String> generatePoNumber() {
+    if (poNumberPool.isEnabled()) {
+      return FolioVertxCompletableFuture.from(ctx, poNumberPool.getPoNumber(getRequestContext()));
+    }
     return HelperUtils.handleGetRequest(resourcesPath(PO_NUMBER), httpClient, okapiHeaders, logger)
       .thenApply(seqNumber -> seqNumber.mapTo(SequenceNumber.class).getSequenceNumber());
   }
@@ -44,11 +44,9 @@ import static org.folio.orders.utils.POProtectedFields.getFieldNamesForOpenOrder
 import static org.folio.orders.utils.ProtectedOperationType.CREATE;
 import static org.folio.orders.utils.ProtectedOperationType.DELETE;
 import static org.folio.orders.utils.ProtectedOperationType.UPDATE;
-import static org.folio.orders.utils.ResourcePathResolver.ALERTS;
 import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
 import static org.folio.orders.utils.ResourcePathResolver.PO_LINE_NUMBER;
 import static org.folio.orders.utils.ResourcePathResolver.PURCHASE_ORDER;
-import static org.folio.orders.utils.ResourcePathResolver.REPORTING_CODES;
 import static org.folio.orders.utils.ResourcePathResolver.resourceByIdPath;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 import static org.folio.rest.jaxrs.model.CompositePurchaseOrder.WorkflowStatus.OPEN;
@@ -75,7 +73,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.folio.HttpStatus;
 import org.folio.completablefuture.CompletableFutureRepeater;
 import org.folio.completablefuture.FolioVertxCompletableFuture;
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.AcqDesiredPermissions;
 import org.folio.orders.utils.ErrorCodes;
@@ -86,10 +86,11 @@ import org.folio.orders.utils.PoLineCommonUtil;
 import org.folio.orders.utils.ProtectedOperationType;
 import org.folio.orders.utils.validators.CompositePoLineValidationUtil;
 import org.folio.orders.utils.validators.OngoingOrderValidator;
+import org.folio.orders.utils.validators.ValidationDag;
+import org.folio.rest.core.RequestTrace;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
-import org.folio.rest.jaxrs.model.Alert;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder.WorkflowStatus;
@@ -101,7 +102,6 @@ import org.folio.rest.jaxrs.model.PieceCollection;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PurchaseOrder;
 import org.folio.rest.jaxrs.model.PurchaseOrderCollection;
-import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.rest.jaxrs.model.Title;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
 import org.folio.service.AcquisitionsUnitsService;
@@ -129,6 +129,9 @@ import io.vertx.core.json.JsonObject;
 public class PurchaseOrderHelper extends AbstractHelper {
 
   private static final String PERMISSION_ORDER_APPROVE = "orders.item.approve";
+  private static final String CREATE_INVENTORY_DEFAULTS_STEP = "createInventoryDefaults";
+  private static final String ACQ_UNITS_CHECK = "acqUnits";
+  private static final String APPROVAL_CHECK = "approval";
   private static final String PERMISSION_ORDER_UNOPEN = "orders.item.unopen";
   private static final String PERMISSION_ORDER_REOPEN = "orders.item.reopen";
   private static final String SEARCH_ORDERS_BY_LINES_DATA = resourcesPath(PURCHASE_ORDER) + SEARCH_PARAMS;
@@ -238,11 +241,14 @@ public class PurchaseOrderHelper extends AbstractHelper {
    */
   public CompletableFuture<CompositePurchaseOrder> createPurchaseOrder(CompositePurchaseOrder compPO, RequestContext requestContext) {
 
-    return validateAcqUnitsOnCreate(compPO.getAcqUnitIds(), requestContext)
-        .thenCompose(ok -> checkOrderApprovalPermissions(compPO))
-        .thenCompose(ok -> setPoNumberIfMissing(compPO)
-        .thenCompose(v -> poNumberHelper.checkPONumberUnique(compPO.getPoNumber()))
-        .thenCompose(v -> processPoLineTags(compPO))
+    // PO number is generated or checked only for permitted requests, so the response does not reveal whether it is taken
+    return new ValidationDag(true)
+        .addCheck(ACQ_UNITS_CHECK, () -> validateAcqUnitsOnCreate(compPO.getAcqUnitIds(), requestContext))
+        .addCheck(APPROVAL_CHECK, () -> checkOrderApprovalPermissions(compPO))
+        .addCheck("poNumber", () -> setPoNumberIfMissing(compPO)
+          .thenCompose(v -> poNumberHelper.checkPONumberUnique(compPO.getPoNumber())), ACQ_UNITS_CHECK, APPROVAL_CHECK)
+        .run(this::addProcessingErrors)
+        .thenCompose(v -> processPoLineTags(compPO)
         .thenCompose(v -> createPOandPOLines(compPO, requestContext))
         .thenCompose(this::populateOrderSummary))
         .thenCompose(compOrder -> encumbranceService.updateEncumbrancesOrderStatus(compOrder, requestContext)
@@ -302,14 +308,18 @@ public class PurchaseOrderHelper extends AbstractHelper {
       .thenCompose(poFromStorage -> purchaseOrderLineService.populateOrderLines(poFromStorage, requestContext))
       .thenCompose(poFromStorage -> {
         boolean isTransitionToOpen = isTransitionToOpen(poFromStorage, compPO);
-        return validateAcqUnitsOnUpdate(compPO, poFromStorage)
-          .thenCompose(ok -> validatePoNumber(poFromStorage, compPO))
-          .thenCompose(ok -> {
+        RequestTrace.stage(okapiHeaders, "validation");
+        return new ValidationDag(true)
+          .addCheck(ACQ_UNITS_CHECK, () -> validateAcqUnitsOnUpdate(compPO, poFromStorage))
+          .addCheck(APPROVAL_CHECK, () -> {
             if (isTransitionToApproved(poFromStorage, compPO)) {
               return checkOrderApprovalPermissions(compPO);
             }
             return completedFuture(null);
           })
+          .addCheck("poNumber", () -> validatePoNumber(poFromStorage, compPO).toCompletableFuture(), ACQ_UNITS_CHECK,
+            APPROVAL_CHECK)
+          .run(this::addProcessingErrors)
           .thenCompose(ok -> {
             if (isTransitionToPending(poFromStorage, compPO)) {
               checkOrderUnopenPermissions();
@@ -326,7 +336,7 @@ public class PurchaseOrderHelper extends AbstractHelper {
           .thenCompose(v -> {
             if (isTransitionToOpen) {
               if (CollectionUtils.isEmpty(compPO.getCompositePoLines())) {
-                CompositePurchaseOrder clonedPoFromStorage = JsonObject.mapFrom(poFromStorage).mapTo(CompositePurchaseOrder.class);
+                CompositePurchaseOrder clonedPoFromStorage = HelperUtils.clone(poFromStorage);
                 compPO.setCompositePoLines(clonedPoFromStorage.getCompositePoLines());
               }
               compPO.getCompositePoLines().forEach(poLine -> orderLineHelper.updateLocationsQuantity(poLine.getLocations()));
@@ -342,26 +352,33 @@ public class PurchaseOrderHelper extends AbstractHelper {
             }
             return CompletableFuture.completedFuture(null);
           })
-          .thenCompose(v -> updatePoLines(poFromStorage, compPO))
+          .thenCompose(v -> {
+            RequestTrace.stage(okapiHeaders, "update-po-lines");
+            return updatePoLines(poFromStorage, compPO);
+          })
           .thenCompose(v -> {
             if (isTransitionToOpen) {
+              RequestTrace.stage(okapiHeaders, "open-order");
               return checkOrderApprovalRequired(compPO).thenCompose(ok -> openOrder(compPO, poFromStorage, requestContext));
             } else {
               return CompletableFuture.completedFuture(null);
             }
           })
-          .thenCompose(ok -> handleFinalOrderStatus(compPO, poFromStorage.getWorkflowStatus().value(), requestContext))
+          .thenCompose(ok -> {
+            RequestTrace.stage(okapiHeaders, "final-status");
+            return handleFinalOrderStatus(compPO, poFromStorage.getWorkflowStatus().value(), requestContext);
+          })
           .thenCompose(v -> encumbranceService.updateEncumbrancesOrderStatus(compPO, getRequestContext()));
       });
   }
 
   private CompletionStage<Void> closeOrder(CompositePurchaseOrder compPO, CompositePurchaseOrder poFromStorage) {
     EncumbranceWorkflowStrategy strategy = encumbranceWorkflowStrategyFactory.getStrategy(OrderWorkflowType.OPEN_TO_CLOSED);
-    CompositePurchaseOrder clonedCompPO = JsonObject.mapFrom(compPO).mapTo(CompositePurchaseOrder.class);
+    CompositePurchaseOrder clonedCompPO = HelperUtils.clone(compPO);
     if (CollectionUtils.isEmpty(clonedCompPO.getCompositePoLines())) {
       List<CompositePoLine> clonedLines = poFromStorage.getCompositePoLines()
         .stream()
-        .map(line -> JsonObject.mapFrom(line).mapTo(CompositePoLine.class))
+        .map(HelperUtils::clone)
         .collect(toList());
       clonedCompPO.setCompositePoLines(clonedLines);
     }
@@ -400,11 +417,11 @@ public class PurchaseOrderHelper extends AbstractHelper {
 
   private CompletionStage<Void> reopenOrder(CompositePurchaseOrder compPO, CompositePurchaseOrder poFromStorage) {
     EncumbranceWorkflowStrategy strategy = encumbranceWorkflowStrategyFactory.getStrategy(OrderWorkflowType.CLOSED_TO_OPEN);
-    CompositePurchaseOrder clonedCompPO = JsonObject.mapFrom(compPO).mapTo(CompositePurchaseOrder.class);
+    CompositePurchaseOrder clonedCompPO = HelperUtils.clone(compPO);
     if (CollectionUtils.isEmpty(clonedCompPO.getCompositePoLines())) {
       List<CompositePoLine> clonedLines = poFromStorage.getCompositePoLines()
         .stream()
-        .map(line -> JsonObject.mapFrom(line).mapTo(CompositePoLine.class))
+        .map(HelperUtils::clone)
         .collect(toList());
       clonedCompPO.setCompositePoLines(clonedLines);
     }
@@ -413,7 +430,8 @@ public class PurchaseOrderHelper extends AbstractHelper {
 
   public CompletableFuture<Void> handleFinalOrderStatus(CompositePurchaseOrder compPO, String initialOrdersStatus,
                                                         RequestContext requestContext) {
-    PurchaseOrder purchaseOrder = convertToPurchaseOrder(compPO).mapTo(PurchaseOrder.class);
+    removeDynamicData(compPO);
+    PurchaseOrder purchaseOrder = OrderMapper.INSTANCE.mapToPurchaseOrder(compPO);
     CompletableFuture<List<PoLine>> future;
 
     if (isEmpty(compPO.getCompositePoLines())) {
@@ -572,19 +590,24 @@ public class PurchaseOrderHelper extends AbstractHelper {
   /**
    * Gets purchase order by id
    *
-   * @param id purchase order uuid
+   * @param id      purchase order uuid
+   * @param include comma separated parts of the order to retrieve, see {@link CompositeOrderInclude}; all the parts are
+   *                retrieved if it is {@code null}
    * @return completable future with {@link CompositePurchaseOrder} on success or an exception if processing fails
    */
-  public CompletableFuture<CompositePurchaseOrder> getCompositeOrder(String id) {
+  public CompletableFuture<CompositePurchaseOrder> getCompositeOrder(String id, String include) {
+    Set<CompositeOrderInclude> includes;
+    try {
+      includes = CompositeOrderInclude.fromParameter(include);
+    } catch (HttpException e) {
+      return CompletableFuture.failedFuture(e);
+    }
 
     CompletableFuture<CompositePurchaseOrder> future = new CompletableFuture<>();
     getPurchaseOrderById(id, lang, httpClient, okapiHeaders, logger)
       .thenApply(HelperUtils::convertToCompositePurchaseOrder)
       .thenAccept(compPO -> protectionService.isOperationRestricted(compPO.getAcqUnitIds(), ProtectedOperationType.READ, getRequestContext())
-        .thenAccept(ok -> purchaseOrderLineService.populateOrderLines(compPO, getRequestContext())
-          .thenCompose(this::fetchNonPackageTitles)
-          .thenAccept(linesIdTitles -> populateInstanceId(linesIdTitles, compPO.getCompositePoLines()))
-          .thenCompose(po -> combinedPopulateService.populate(new CompositeOrderRetrieveHolder(compPO), getRequestContext()))
+        .thenAccept(ok -> populateOrderParts(compPO, includes)
           .thenApply(CompositeOrderRetrieveHolder::getOrder)
           .thenAccept(future::complete)
           .exceptionally(t -> {
@@ -606,6 +629,30 @@ public class PurchaseOrderHelper extends AbstractHelper {
     return future;
   }
 
+  private CompletableFuture<CompositeOrderRetrieveHolder> populateOrderParts(CompositePurchaseOrder compPO,
+      Set<CompositeOrderInclude> includes) {
+    CompositeOrderRetrieveHolder holder = new CompositeOrderRetrieveHolder(compPO).withIncludes(includes);
+    if (includes.isEmpty()) {
+      return completedFuture(holder);
+    }
+    return purchaseOrderLineService.populateOrderLines(compPO, getRequestContext())
+      .thenCompose(po -> {
+        if (includes.contains(CompositeOrderInclude.TITLES)) {
+          return fetchNonPackageTitles(compPO)
+            .thenAccept(linesIdTitles -> populateInstanceId(linesIdTitles, compPO.getCompositePoLines()));
+        }
+        return completedFuture(null);
+      })
+      .thenCompose(v -> combinedPopulateService.populate(holder, getRequestContext()))
+      .thenApply(populatedHolder -> {
+        // the lines are loaded for the other parts, but returned only if they are requested
+        if (!includes.contains(CompositeOrderInclude.PO_LINES)) {
+          compPO.setCompositePoLines(new ArrayList<>());
+        }
+        return populatedHolder;
+      });
+  }
+
   private CompletableFuture<CompositePurchaseOrder> populateOrderSummary(CompositePurchaseOrder order) {
     return orderLinesSummaryPopulateService.populate(new CompositeOrderRetrieveHolder(order), getRequestContext())
             .thenApply(CompositeOrderRetrieveHolder::getOrder);
@@ -655,13 +702,7 @@ public class PurchaseOrderHelper extends AbstractHelper {
   }
 
   public PoLine openOrderConvertToPoLine(CompositePoLine compPoLine) {
-    JsonObject pol = JsonObject.mapFrom(compPoLine);
-    pol.remove(ALERTS);
-    pol.remove(REPORTING_CODES);
-    PoLine poLine = pol.mapTo(PoLine.class);
-    poLine.setAlerts(compPoLine.getAlerts().stream().map(Alert::getId).collect(toList()));
-    poLine.setReportingCodes(compPoLine.getReportingCodes().stream().map(ReportingCode::getId).collect(toList()));
-    return poLine;
+    return OrderMapper.INSTANCE.mapToPoLine(compPoLine);
   }
 
   private CompletableFuture<Void> updateItemsInInventory(List<JsonObject> items) {
@@ -694,22 +735,28 @@ public class PurchaseOrderHelper extends AbstractHelper {
    *         processing fails
    */
   public CompletableFuture<Boolean> validateOrder(CompositePurchaseOrder compPO, RequestContext requestContext) {
-
-    return setCreateInventoryDefaultValues(compPO)
-      .thenAccept(v -> validateOrderPoLines(compPO))
-      .thenCompose(v -> validateIsbnValues(compPO, requestContext))
-      .thenCompose(v -> validatePoLineLimit(compPO))
-      .thenCompose(v -> validateVendor(compPO))
-      .thenAccept(v -> validateRenewalInfo(compPO))
+    // PO lines are validated after default inventory values are set, the other validators are independent
+    return new ValidationDag(false)
+      .addCheck(CREATE_INVENTORY_DEFAULTS_STEP, () -> setCreateInventoryDefaultValues(compPO))
+      .add("poLines", () -> completedFuture(getPoLinesErrors(compPO)), CREATE_INVENTORY_DEFAULTS_STEP)
+      .addCheck("isbn", () -> validateIsbnValues(compPO, requestContext))
+      .add("poLineLimit", () -> validatePoLineLimit(compPO))
+      .add("vendor", () -> validateVendor(compPO))
+      .add("renewalInfo", () -> completedFuture(getRenewalInfoErrors(compPO)))
+      .run(this::addProcessingErrors)
       .thenApply(v -> getErrors().isEmpty());
   }
 
   public void validateOrderPoLines(CompositePurchaseOrder compositeOrder) {
+    addProcessingErrors(getPoLinesErrors(compositeOrder));
+  }
+
+  private List<Error> getPoLinesErrors(CompositePurchaseOrder compositeOrder) {
     List<Error> errors = new ArrayList<>();
     for (CompositePoLine compositePoLine : compositeOrder.getCompositePoLines()) {
       errors.addAll(CompositePoLineValidationUtil.validatePoLine(compositePoLine));
     }
-    addProcessingErrors(errors);
+    return errors;
   }
 
   private CompletableFuture<Void> validateIsbnValues(CompositePurchaseOrder compPO, RequestContext requestContext) {
@@ -779,39 +826,43 @@ public class PurchaseOrderHelper extends AbstractHelper {
     return completedFuture(null);
   }
 
-  private CompletableFuture<Void> validateVendor(CompositePurchaseOrder compPO) {
+  private CompletableFuture<List<Error>> validateVendor(CompositePurchaseOrder compPO) {
     if (compPO.getWorkflowStatus() == WorkflowStatus.OPEN) {
       VendorHelper vendorHelper = new VendorHelper(httpClient, okapiHeaders, ctx, lang);
-      return vendorHelper.validateVendor(compPO)
-        .thenCompose(errors -> {
-          addProcessingErrors(errors.getErrors());
-          return fetchCompositePoLines(compPO)
-            .thenCompose(vendorHelper::validateAccessProviders);
-        })
-        .thenAccept(errors -> addProcessingErrors(errors.getErrors()));
+      // vendor and access providers are validated concurrently
+      CompletableFuture<Errors> vendorErrors = vendorHelper.validateVendor(compPO);
+      CompletableFuture<Errors> accessProvidersErrors = fetchCompositePoLines(compPO)
+        .thenCompose(vendorHelper::validateAccessProviders);
+      return vendorErrors.thenCombine(accessProvidersErrors, (vendor, accessProviders) -> {
+        List<Error> errors = new ArrayList<>(vendor.getErrors());
+        errors.addAll(accessProviders.getErrors());
+        return errors;
+      });
     }
-    return completedFuture(null);
+    return completedFuture(Collections.emptyList());
   }
 
-  private void validateRenewalInfo(CompositePurchaseOrder compPO) {
+  private List<Error> getRenewalInfoErrors(CompositePurchaseOrder compPO) {
     if (compPO.getOrderType() == CompositePurchaseOrder.OrderType.ONGOING && Objects.isNull(compPO.getOngoing())) {
-      addProcessingError(MISSING_ONGOING.toError());
+      return List.of(MISSING_ONGOING.toError());
     } else if (compPO.getOrderType() == CompositePurchaseOrder.OrderType.ONE_TIME && Objects.nonNull(compPO.getOngoing())) {
-      addProcessingError(ONGOING_NOT_ALLOWED.toError());
+      return List.of(ONGOING_NOT_ALLOWED.toError());
     }
+    return Collections.emptyList();
   }
 
-  private CompletableFuture<Void> validatePoLineLimit(CompositePurchaseOrder compPO) {
+  private CompletableFuture<List<Error>> validatePoLineLimit(CompositePurchaseOrder compPO) {
     if (CollectionUtils.isNotEmpty(compPO.getCompositePoLines())) {
        return getTenantConfiguration()
-        .thenAccept(config -> {
+        .thenApply(config -> {
           int limit = getPoLineLimit(config);
           if (compPO.getCompositePoLines().size() > limit) {
-            addProcessingError(ErrorCodes.POL_LINES_LIMIT_EXCEEDED.toError());
+            return List.of(ErrorCodes.POL_LINES_LIMIT_EXCEEDED.toError());
           }
+          return Collections.<Error>emptyList();
         });
     }
-    return completedFuture(null);
+    return completedFuture(Collections.emptyList());
   }
 
   private CompletableFuture<CompositePurchaseOrder> createPOandPOLines(CompositePurchaseOrder compPO, RequestContext requestContext) {
@@ -1003,16 +1054,19 @@ public class PurchaseOrderHelper extends AbstractHelper {
    * @return JsonObject representation of PurchaseOrder
    */
   private JsonObject convertToPurchaseOrder(CompositePurchaseOrder compPO) {
-    // Remove dynamically calculated data
+    removeDynamicData(compPO);
+
+    JsonObject purchaseOrder = JsonObject.mapFrom(compPO);
+    purchaseOrder.remove(COMPOSITE_PO_LINES);
+    return purchaseOrder;
+  }
+
+  private void removeDynamicData(CompositePurchaseOrder compPO) {
     compPO.setTotalEstimatedPrice(null);
     compPO.setTotalItems(null);
     compPO.setTotalEncumbered(null);
     compPO.setTotalExpended(null);
     compPO.setNeedReEncumber(null);
-
-    JsonObject purchaseOrder = JsonObject.mapFrom(compPO);
-    purchaseOrder.remove(COMPOSITE_PO_LINES);
-    return purchaseOrder;
   }
 
   private CompletableFuture<Void> updatePoLinesNumber(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage) {
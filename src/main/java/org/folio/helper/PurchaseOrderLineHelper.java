@@ -8,6 +8,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.completablefuture.FolioVertxCompletableFuture;
 import org.folio.orders.events.handlers.MessageAddress;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.ErrorCodes;
 import org.folio.orders.utils.HelperUtils;
@@ -151,12 +152,7 @@ public class PurchaseOrderLineHelper extends AbstractHelper {
       String queryParam = isEmpty(query) ? EMPTY : "&query=" + encodeQuery(query, logger);
       String endpoint = String.format(path, limit, offset, queryParam, lang);
       handleGetRequest(endpoint, httpClient, okapiHeaders, logger)
-        .thenAccept(jsonOrderLines -> {
-          if (logger.isInfoEnabled()) {
-            logger.info("Successfully retrieved order lines: {}", jsonOrderLines.encodePrettily());
-          }
-          future.complete(jsonOrderLines.mapTo(PoLineCollection.class));
-        })
+        .thenAccept(jsonOrderLines -> future.complete(jsonOrderLines.mapTo(PoLineCollection.class)))
         .exceptionally(t -> {
           future.completeExceptionally(t);
           return null;
@@ -412,7 +408,7 @@ public class PurchaseOrderLineHelper extends AbstractHelper {
     PoLine poLine = lineFromStorage.mapTo(PoLine.class);
     poLine.setAlerts(null);
     poLine.setReportingCodes(null);
-    CompositePoLine compPoLine = JsonObject.mapFrom(poLine).mapTo(CompositePoLine.class);
+    CompositePoLine compPoLine = OrderMapper.INSTANCE.mapToCompositePoLine(poLine);
     compOrder.getCompositePoLines().add(compPoLine);
     return compOrder;
   }
@@ -425,7 +421,7 @@ public class PurchaseOrderLineHelper extends AbstractHelper {
       OrderWorkflowType workflowType = compOrder.getWorkflowStatus() == PENDING ?
         OrderWorkflowType.PENDING_TO_PENDING : OrderWorkflowType.PENDING_TO_OPEN;
       EncumbranceWorkflowStrategy strategy = encumbranceWorkflowStrategyFactory.getStrategy(workflowType);
-      CompositePurchaseOrder poFromStorage = JsonObject.mapFrom(compOrder).mapTo(CompositePurchaseOrder.class);
+      CompositePurchaseOrder poFromStorage = HelperUtils.clone(compOrder);
       return strategy.processEncumbrances(compOrder.withCompositePoLines(Collections.singletonList(compositePoLine)),
         poFromStorage, getRequestContext());
     }
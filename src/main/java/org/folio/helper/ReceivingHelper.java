@@ -36,6 +36,7 @@ import org.folio.rest.jaxrs.model.ReceivingResult;
 import org.folio.rest.jaxrs.model.ReceivingResults;
 import org.folio.rest.jaxrs.model.ToBeReceived;
 import org.folio.service.AcquisitionsUnitsService;
+import org.folio.service.pieces.ReceivingHistoryCache;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.vertx.core.Context;
@@ -53,6 +54,8 @@ public class ReceivingHelper extends CheckinReceivePiecesHelper<ReceivedItem> {
   private final Map<String, Map<String, ReceivedItem>> receivingItems;
   @Autowired
   private AcquisitionsUnitsService acquisitionsUnitsService;
+  @Autowired
+  private ReceivingHistoryCache receivingHistoryCache;
 
   public ReceivingHelper(ReceivingCollection receivingCollection, Map<String, String> okapiHeaders, Context ctx, String lang) {
     super(getHttpClient(okapiHeaders), okapiHeaders, ctx, lang);
@@ -178,12 +181,13 @@ public class ReceivingHelper extends CheckinReceivePiecesHelper<ReceivedItem> {
 
     try {
       acquisitionsUnitsService.buildAcqUnitsCqlExprToSearchRecords(getRequestContext(), StringUtils.EMPTY)
-        .thenCompose(acqUnitsCqlExpr -> {
+        .thenCompose(acqUnitsCqlExpr -> receivingHistoryCache.get(acqUnitsCqlExpr, query, offset, limit, getRequestContext(), () -> {
           String cql = StringUtils.isEmpty(query) ? acqUnitsCqlExpr : combineCqlExpressions("and", acqUnitsCqlExpr, query);
           String endpoint = String.format(GET_RECEIVING_HISTORY_BY_QUERY, limit, offset, buildQuery(cql, logger), lang);
           return handleGetRequest(endpoint, httpClient, okapiHeaders, logger)
-            .thenAccept(jsonReceivingHistory -> future.complete(jsonReceivingHistory.mapTo(ReceivingHistoryCollection.class)));
-        })
+            .thenApply(jsonReceivingHistory -> jsonReceivingHistory.mapTo(ReceivingHistoryCollection.class));
+        }))
+        .thenAccept(future::complete)
         .exceptionally(t -> {
           logger.error("Error happened retrieving receiving history", t);
           future.completeExceptionally(t.getCause());
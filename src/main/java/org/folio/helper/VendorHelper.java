@@ -1,6 +1,7 @@
 package org.folio.helper;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.orders.utils.ErrorCodes.ORDER_VENDOR_IS_INACTIVE;
 import static org.folio.orders.utils.ErrorCodes.ORDER_VENDOR_NOT_FOUND;
 import static org.folio.orders.utils.ErrorCodes.ORGANIZATION_NOT_A_VENDOR;
@@ -16,12 +17,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.folio.HttpStatus;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.ErrorCodes;
 import org.folio.rest.acq.model.Organization;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.Error;
@@ -41,10 +44,24 @@ public class VendorHelper extends AbstractHelper {
   private static final String ORGANIZATIONS_STORAGE_VENDORS = "/organizations-storage/organizations/";
   private static final String ORGANIZATIONS_WITH_QUERY_ENDPOINT = "/organizations-storage/organizations?limit=%d&lang=%s&query=%s";
   private static final String PO_LINE_NUMBER = "poLineNumber";
+  private static final long CACHE_TTL_SECONDS = 60;
 
+  /**
+   * Summaries of the vendors and access providers with the fields needed for validation, shared by the helpers.
+   */
+  private static final ReferenceDataCache<Organization> sharedOrganizationsCache = ReferenceDataCache.create(ORGANIZATIONS,
+      CACHE_TTL_SECONDS);
+
+  private final ReferenceDataCache<Organization> organizationsCache;
 
   public VendorHelper(HttpClientInterface httpClient, Map<String, String> okapiHeaders, Context ctx, String lang) {
+    this(httpClient, okapiHeaders, ctx, lang, sharedOrganizationsCache);
+  }
+
+  VendorHelper(HttpClientInterface httpClient, Map<String, String> okapiHeaders, Context ctx, String lang,
+      ReferenceDataCache<Organization> organizationsCache) {
     super(httpClient, okapiHeaders, ctx, lang);
+    this.organizationsCache = organizationsCache;
   }
 
   /**
@@ -185,30 +202,46 @@ public class VendorHelper extends AbstractHelper {
   }
 
   /**
-   * Retrieves vendor by id
+   * Retrieves vendor by id. Vendors are cached, see {@link ReferenceDataCache}.
    *
    * @param vendorId vendor's id
    * @return CompletableFuture with {@link Organization} object
    */
   private CompletableFuture<Organization> getVendorById(String vendorId) {
-    return handleGetRequest(ORGANIZATIONS_STORAGE_VENDORS + vendorId, httpClient, okapiHeaders, logger)
-      .thenApply(json -> json.mapTo(Organization.class));
+    return organizationsCache.get(vendorId, getRequestContext(),
+      () -> handleGetRequest(ORGANIZATIONS_STORAGE_VENDORS + vendorId, httpClient, okapiHeaders, logger)
+        .thenApply(json -> toSummary(json.mapTo(Organization.class))));
   }
 
   /**
-   * Retrieves set of access providers
+   * Retrieves set of access providers. Access providers are cached, see {@link ReferenceDataCache}.
    *
    * @param accessProviderIds - {@link Set<String>} of access providers id
    * @return CompletableFuture with {@link List<Organization>} of vendors
    */
   private CompletableFuture<List<Organization>> getAccessProvidersByIds(Set<String> accessProviderIds) {
-    String query = convertIdsToCqlQuery(new ArrayList<>(accessProviderIds));
-    String endpoint = String.format(ORGANIZATIONS_WITH_QUERY_ENDPOINT, accessProviderIds.size(), lang, encodeQuery(query, logger));
+    return organizationsCache.getAll(accessProviderIds, getRequestContext(), this::getOrganizationsByIds)
+      .thenApply(organizationsById -> new ArrayList<>(organizationsById.values()));
+  }
+
+  private CompletableFuture<Map<String, Organization>> getOrganizationsByIds(List<String> ids) {
+    String query = convertIdsToCqlQuery(ids);
+    String endpoint = String.format(ORGANIZATIONS_WITH_QUERY_ENDPOINT, ids.size(), lang, encodeQuery(query, logger));
     return handleGetRequest(endpoint, httpClient, okapiHeaders, logger)
       .thenApply(jsonArray -> jsonArray.getJsonArray(ORGANIZATIONS)
         .stream()
-        .map(obj -> JsonObject.mapFrom(obj).mapTo(Organization.class))
-        .collect(toList())
+        .map(obj -> toSummary(JsonObject.mapFrom(obj).mapTo(Organization.class)))
+        .collect(toMap(Organization::getId, Function.identity(), (organization, duplicate) -> organization))
       );
   }
+
+  /**
+   * @return organization with the fields used for validation only, so the cached records don't hold addresses, contacts etc.
+   */
+  private static Organization toSummary(Organization organization) {
+    return new Organization().withId(organization.getId())
+      .withName(organization.getName())
+      .withStatus(organization.getStatus())
+      .withIsVendor(organization.getIsVendor());
+  }
 }
@@ -0,0 +1,68 @@
+package org.folio.models;
+
+import static org.folio.orders.utils.ErrorCodes.INVALID_INCLUDE_PARAMETER;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.jaxrs.model.Parameter;
+
+/**
+ * Parts of the composite order which are retrieved or calculated in addition to the purchase order record. The stages
+ * other than {@link #PO_LINES} need PO lines, so the lines are loaded if any part is requested, but they are returned
+ * only if {@link #PO_LINES} is requested. {@link #TITLES} are instance ids set on the lines, so they imply
+ * {@link #PO_LINES}.
+ */
+public enum CompositeOrderInclude {
+
+  PO_LINES("poLines"),
+  TITLES("titles"),
+  SUMMARY("summary"),
+  TOTALS("totals"),
+  NEED_RE_ENCUMBER("needReEncumber");
+
+  private final String value;
+
+  CompositeOrderInclude(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * @param include comma separated parts of the order, e.g. {@code poLines,summary}
+   * @return all the parts if the parameter is not specified, no parts if it is blank, {@link #PO_LINES} are added if
+   *         {@link #TITLES} are requested
+   * @throws HttpException with 400 status if the part is unknown
+   */
+  public static Set<CompositeOrderInclude> fromParameter(String include) {
+    if (include == null) {
+      return EnumSet.allOf(CompositeOrderInclude.class);
+    }
+    Set<CompositeOrderInclude> includes = EnumSet.noneOf(CompositeOrderInclude.class);
+    for (String part : StringUtils.split(include, ',')) {
+      String trimmed = part.trim();
+      if (!trimmed.isEmpty()) {
+        includes.add(fromValue(trimmed));
+      }
+    }
+    if (includes.contains(TITLES)) {
+      includes.add(PO_LINES);
+    }
+    return includes;
+  }
+
+  private static CompositeOrderInclude fromValue(String value) {
+    return Arrays.stream(values())
+      .filter(include -> include.value.equals(value))
+      .findFirst()
+      .orElseThrow(() -> new HttpException(400, INVALID_INCLUDE_PARAMETER.toError()
+        .withParameters(List.of(new Parameter().withKey("include").withValue(value)))));
+  }
+}
@@ -1,6 +1,8 @@
 package org.folio.models;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.folio.rest.acq.model.finance.FiscalYear;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -8,6 +10,7 @@ import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 public class CompositeOrderRetrieveHolder {
     private CompositePurchaseOrder order;
     private FiscalYear fiscalYear;
+    private Set<CompositeOrderInclude> includes = EnumSet.allOf(CompositeOrderInclude.class);
 
     public CompositeOrderRetrieveHolder(CompositePurchaseOrder order) {
         this.order = order;
@@ -22,6 +25,15 @@ public class CompositeOrderRetrieveHolder {
         return this;
     }
 
+    public CompositeOrderRetrieveHolder withIncludes(Set<CompositeOrderInclude> includes) {
+        this.includes = includes;
+        return this;
+    }
+
+    public boolean isIncluded(CompositeOrderInclude include) {
+        return includes.contains(include);
+    }
+
     public CompositePurchaseOrder getOrder() {
         return order;
     }
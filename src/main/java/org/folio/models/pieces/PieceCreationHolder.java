@@ -20,12 +20,12 @@ public class PieceCreationHolder {
 
   public PieceCreationHolder(CompositePurchaseOrder originPurchaseOrder) {
     this.originPurchaseOrder = originPurchaseOrder;
-    this.purchaseOrderToSave = HelperUtils.clone(CompositePurchaseOrder.class, originPurchaseOrder);
+    this.purchaseOrderToSave = HelperUtils.clone(originPurchaseOrder);
   }
 
   public PieceCreationHolder(PurchaseOrder originPurchaseOrder, PoLine originPoLine) {
     this.originPurchaseOrder = HelperUtils.convertToCompositePurchaseOrder(originPurchaseOrder, List.of(originPoLine));
-    this.purchaseOrderToSave = HelperUtils.clone(CompositePurchaseOrder.class, this.originPurchaseOrder);
+    this.purchaseOrderToSave = HelperUtils.clone(this.originPurchaseOrder);
   }
 
   public void shallowCopy(PieceCreationHolder sourcePieceCreationHolder) {
@@ -11,6 +11,7 @@ import java.util.concurrent.CompletableFuture;
 
 import org.folio.helper.AbstractHelper;
 import org.folio.helper.PurchaseOrderHelper;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.orders.utils.AsyncUtil;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.core.models.RequestContext;
@@ -107,7 +108,7 @@ public abstract class AbstractOrderStatusHandler extends AbstractHelper implemen
   }
 
   protected CompositePurchaseOrder convert(PurchaseOrder po) {
-    return JsonObject.mapFrom(po).mapTo(CompositePurchaseOrder.class);
+    return OrderMapper.INSTANCE.mapToCompositePurchaseOrder(po);
   }
 
   protected abstract boolean isOrdersStatusChangeSkip(PurchaseOrder purchaseOrder, JsonObject ordersPayload);
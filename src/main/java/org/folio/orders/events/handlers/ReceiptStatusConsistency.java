@@ -1,7 +1,6 @@
 package org.folio.orders.events.handlers;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static org.folio.orders.utils.HelperUtils.handleGetRequest;
 import static org.folio.orders.utils.HelperUtils.updatePoLineReceiptStatus;
 import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
@@ -10,17 +9,17 @@ import static org.folio.rest.jaxrs.model.PoLine.ReceiptStatus.FULLY_RECEIVED;
 import static org.folio.rest.jaxrs.model.PoLine.ReceiptStatus.PARTIALLY_RECEIVED;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
-import org.apache.logging.log4j.Logger;
 import org.folio.helper.AbstractHelper;
-import org.folio.orders.utils.AsyncUtil;
 import org.folio.rest.acq.model.Piece;
 import org.folio.rest.acq.model.Piece.ReceivingStatus;
-import org.folio.rest.acq.model.PieceCollection;
+import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PoLine.ReceiptStatus;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
@@ -38,15 +37,18 @@ import one.util.streamex.StreamEx;
 @Component("receiptStatusHandler")
 public class ReceiptStatusConsistency extends AbstractHelper implements Handler<Message<JsonObject>> {
 
-  private static final int LIMIT = Integer.MAX_VALUE;
-  private static final String PIECES_ENDPOINT = resourcesPath(PIECES_STORAGE) + "?query=poLineId==%s&limit=%s";
+  private static final String PIECES = "pieces";
+  private static final String PIECES_ENDPOINT = resourcesPath(PIECES_STORAGE);
+  private static final String PIECES_BY_POL_ID_QUERY = "poLineId==%s";
 
   private PurchaseOrderLineService purchaseOrderLineService;
+  private RestClient restClient;
 
   @Autowired
-  public ReceiptStatusConsistency(Vertx vertx, PurchaseOrderLineService purchaseOrderLineService) {
+  public ReceiptStatusConsistency(Vertx vertx, PurchaseOrderLineService purchaseOrderLineService, RestClient restClient) {
     super(vertx.getOrCreateContext());
     this.purchaseOrderLineService = purchaseOrderLineService;
+    this.restClient = restClient;
   }
 
   @Override
@@ -63,20 +65,19 @@ public class ReceiptStatusConsistency extends AbstractHelper implements Handler<
     futures.add(future);
 
     String poLineIdUpdate = messageFromEventBus.getString("poLineIdUpdate");
-    String query = String.format(PIECES_ENDPOINT, poLineIdUpdate, LIMIT);
+    RequestContext requestContext = new RequestContext(ctx, okapiHeaders);
 
-    // 1. Get all pieces for poLineId
-    getPieces(query, httpClient, okapiHeaders, logger).thenAccept(piecesCollection -> {
-      List<org.folio.rest.acq.model.Piece> listOfPieces = piecesCollection.getPieces();
+    // 1. Count pieces of the poLineId by receiving status
+    getPiecesQuantities(poLineIdUpdate, requestContext).thenAccept(piecesQuantities -> {
 
       // 2. Get PoLine for the poLineId which will be used to calculate PoLineReceiptStatus
-      purchaseOrderLineService.getOrderLineById(poLineIdUpdate, new RequestContext(ctx, okapiHeaders))
+      purchaseOrderLineService.getOrderLineById(poLineIdUpdate, requestContext)
         .thenAccept(poLine -> {
           if (poLine.getReceiptStatus().equals(PoLine.ReceiptStatus.ONGOING)) {
             return;
           }
-          calculatePoLineReceiptStatus(poLine, listOfPieces)
-          .thenCompose(status -> updatePoLineReceiptStatus(poLine, status, httpClient, okapiHeaders, logger))
+          ReceiptStatus status = calculatePoLineReceiptStatus(poLine, piecesQuantities);
+          updatePoLineReceiptStatus(poLine, status, httpClient, okapiHeaders, logger)
           .thenAccept(updatedPoLineId -> {
             if (updatedPoLineId != null) {
               // send event to update order status
@@ -115,62 +116,30 @@ public class ReceiptStatusConsistency extends AbstractHelper implements Handler<
     sendEvent(MessageAddress.RECEIVE_ORDER_STATUS_UPDATE, messageContent);
   }
 
-  private CompletableFuture<PoLine.ReceiptStatus> calculatePoLineReceiptStatus(PoLine poLine,
-      List<org.folio.rest.acq.model.Piece> pieces) {
-
-    if (pieces.isEmpty()) {
-      return completedFuture(poLine.getReceiptStatus());
-    } else {
-      return getPiecesQuantityByPoLineAndStatus(ReceivingStatus.EXPECTED, pieces)
-        .thenCompose(expectedQty -> calculatePoLineReceiptStatus(expectedQty, pieces))
-        .exceptionally(e -> {
-          logger.error("The expected receipt status for PO Line '{}' cannot be calculated", poLine.getId(), e);
-          return null;
-        });
+  private ReceiptStatus calculatePoLineReceiptStatus(PoLine poLine, Map<ReceivingStatus, Integer> piecesQuantities) {
+    if (piecesQuantities.isEmpty()) {
+      return poLine.getReceiptStatus();
     }
-  }
-
-  private CompletableFuture<ReceiptStatus> calculatePoLineReceiptStatus(int expectedPiecesQuantity,
-      List<org.folio.rest.acq.model.Piece> pieces) {
-
-    if (expectedPiecesQuantity == 0) {
-      return CompletableFuture.completedFuture(FULLY_RECEIVED);
+    if (piecesQuantities.getOrDefault(ReceivingStatus.EXPECTED, 0) == 0) {
+      return FULLY_RECEIVED;
     }
-    // Partially Received: In case there is at least one successfully received
-    // piece
-    if (StreamEx.of(pieces)
-      .anyMatch(piece -> ReceivingStatus.RECEIVED == piece.getReceivingStatus())) {
-      return CompletableFuture.completedFuture(PARTIALLY_RECEIVED);
-    }
-    // Pieces were rolled-back to Expected. In this case we have to check if
-    // there is any Received piece in the storage
-    return getPiecesQuantityByPoLineAndStatus(ReceivingStatus.RECEIVED, pieces)
-      .thenApply(receivedQty -> receivedQty == 0 ? AWAITING_RECEIPT : PARTIALLY_RECEIVED);
-  }
-
-  private CompletableFuture<Integer> getPiecesQuantityByPoLineAndStatus(ReceivingStatus receivingStatus, List<Piece> pieces) {
-    return AsyncUtil.executeBlocking(ctx, false, () -> (int) pieces.stream()
-      .filter(piece -> piece.getReceivingStatus() == receivingStatus)
-      .count());
+    // Partially Received: In case there is at least one successfully received piece
+    return piecesQuantities.getOrDefault(ReceivingStatus.RECEIVED, 0) > 0 ? PARTIALLY_RECEIVED : AWAITING_RECEIPT;
   }
 
-  CompletableFuture<PieceCollection> getPieces(String endpoint, HttpClientInterface httpClient, Map<String, String> okapiHeaders,
-      Logger logger) {
-    CompletableFuture<PieceCollection> future = new CompletableFuture<>();
-    try {
-      handleGetRequest(endpoint, httpClient, okapiHeaders, logger).thenAccept(jsonPieces -> {
-        if (logger.isInfoEnabled()) {
-          logger.info("Successfully retrieved all pieces: {}", jsonPieces.encodePrettily());
-        }
-        future.complete(jsonPieces.mapTo(PieceCollection.class));
+  /**
+   * Counts the pieces of the PO line by receiving status page by page, so the pieces of large PO lines are not held in
+   * memory at once.
+   *
+   * @return future with the number of the pieces by receiving status, empty if the PO line has no pieces
+   */
+  CompletableFuture<Map<ReceivingStatus, Integer>> getPiecesQuantities(String poLineId, RequestContext requestContext) {
+    RequestEntry requestEntry = new RequestEntry(PIECES_ENDPOINT).withQuery(String.format(PIECES_BY_POL_ID_QUERY, poLineId));
+    Map<ReceivingStatus, Integer> piecesQuantities = new HashMap<>();
+    return restClient.getPaged(requestEntry, requestContext, PIECES, Piece.class, page -> {
+        page.forEach(piece -> piecesQuantities.merge(piece.getReceivingStatus(), 1, Integer::sum));
+        return completedFuture(null);
       })
-      .exceptionally(t -> {
-        future.completeExceptionally(t);
-        return null;
-      });
-    } catch (Exception e) {
-      future.completeExceptionally(e);
-    }
-    return future;
+      .thenApply(v -> piecesQuantities);
   }
 }
@@ -0,0 +1,62 @@
+package org.folio.orders.mapper;
+
+import java.util.List;
+
+import org.folio.rest.jaxrs.model.Alert;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PurchaseOrder;
+import org.folio.rest.jaxrs.model.ReportingCode;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.control.DeepClone;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Compile-time generated conversions between order models. Replaces {@code JsonObject.mapFrom(x).mapTo(Y.class)}
+ * round trips, which serialize the whole object graph to a json tree and back, with plain getter/setter copies.
+ * All methods produce deep copies, so the result can be modified without affecting the source object.
+ */
+@Mapper(mappingControl = DeepClone.class, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface OrderMapper {
+
+  OrderMapper INSTANCE = Mappers.getMapper(OrderMapper.class);
+
+  CompositePurchaseOrder clone(CompositePurchaseOrder compPO);
+
+  CompositePoLine clone(CompositePoLine compPoLine);
+
+  /**
+   * Convert {@link PurchaseOrder} to {@link CompositePurchaseOrder} without PO lines.
+   * These objects are the same except PurchaseOrder doesn't contain poLines field.
+   */
+  @Mapping(target = "compositePoLines", ignore = true)
+  CompositePurchaseOrder mapToCompositePurchaseOrder(PurchaseOrder purchaseOrder);
+
+  PurchaseOrder mapToPurchaseOrder(CompositePurchaseOrder compPO);
+
+  /**
+   * Convert {@link PoLine} to {@link CompositePoLine}. Alerts and reporting codes are stored as ids in PO line and
+   * have to be resolved separately, so these are not populated.
+   */
+  @Mapping(target = "alerts", ignore = true)
+  @Mapping(target = "reportingCodes", ignore = true)
+  CompositePoLine mapToCompositePoLine(PoLine poLine);
+
+  /**
+   * Convert {@link CompositePoLine} to {@link PoLine}. Alerts and reporting codes are replaced with their ids.
+   */
+  PoLine mapToPoLine(CompositePoLine compPoLine);
+
+  List<PoLine> mapToPoLines(List<CompositePoLine> compPoLines);
+
+  default String mapAlertToId(Alert alert) {
+    return alert.getId();
+  }
+
+  default String mapReportingCodeToId(ReportingCode reportingCode) {
+    return reportingCode.getId();
+  }
+}
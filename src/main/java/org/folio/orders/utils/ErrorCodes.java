@@ -90,8 +90,13 @@ public enum ErrorCodes {
   HOLDINGS_ID_AND_LOCATION_ID_IS_NULL_ERROR("locationIdAndHoldingIdAbsentError", "Reference on holding or location must present"),
   MAY_BE_LINK_TO_EITHER_HOLDING_OR_LOCATION_ERROR("mayBeLinkToEitherHoldingOrLocationError", "There may be a link to either the holding or the location"),
   PO_LINE_NOT_FOUND("poLineNotFound", "The purchase order line record is not found"),
+  PIECES_FROM_DIFFERENT_PO_LINES("piecesFromDifferentPoLines", "All pieces in the batch must belong to the same purchase order line"),
   RECEIVING_PROCESS_ENCUMBRANCES_ERROR("receivingProcessEncumbrancesError",
-    "Pieces can not be added to or deleted from this Title until all the Fund distributions on the related purchase order line are converted from amounts to percentages.");
+    "Pieces can not be added to or deleted from this Title until all the Fund distributions on the related purchase order line are converted from amounts to percentages."),
+  INVALID_INCLUDE_PARAMETER("invalidIncludeParameter", "Unknown part of the order is requested, supported are poLines, titles, summary, totals and needReEncumber"),
+  RE_ENCUMBER_ORDERS_NOT_SPECIFIED("reEncumberOrdersNotSpecified", "Either ledger rollover or orders to re-encumber must be specified"),
+  RE_ENCUMBER_ORDERS_AMBIGUOUS("reEncumberOrdersAmbiguous", "Either ledger rollover or orders to re-encumber must be specified, not both"),
+  RE_ENCUMBER_JOB_NOT_FOUND("reEncumberJobNotFound", "Re-encumber job is not found");
 
 
   private final String code;
@@ -1,7 +1,6 @@
 package org.folio.orders.utils;
 
 import static io.vertx.core.Future.succeededFuture;
-import static java.util.Objects.nonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.HttpHeaders.LOCATION;
@@ -56,9 +55,11 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
 import org.folio.helper.AbstractHelper;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.rest.exceptions.InventoryException;
-import org.folio.rest.jaxrs.model.Alert;
+import org.folio.rest.core.OutboundRequestLogger;
+import org.folio.rest.core.OutboundRequestMetrics;
 import org.folio.rest.jaxrs.model.CloseReason;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -71,7 +72,6 @@ import org.folio.rest.jaxrs.model.Piece;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PoLine.ReceiptStatus;
 import org.folio.rest.jaxrs.model.PurchaseOrder;
-import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.rest.jaxrs.model.Title;
 import org.folio.rest.tools.client.Response;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
@@ -82,6 +82,7 @@ import org.javamoney.moneta.function.MonetaryOperators;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
@@ -241,11 +242,15 @@ public class HelperUtils {
       HttpClientInterface httpClient, Map<String, String> okapiHeaders, Logger logger) {
     CompletableFuture<JsonObject> future = new CompletableFuture<>();
 
-    logger.info("Calling {} {}", operation, url);
+    logger.debug("Calling {} {}", operation, url);
+    long startTime = OutboundRequestLogger.start();
 
     try {
-      httpClient.request(operation, (body != null ? body.toBuffer() : null), url, okapiHeaders)
+      Buffer buffer = body != null ? body.toBuffer() : null;
+      httpClient.request(operation, buffer, url, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(operation, url, okapiHeaders, startTime))
         .thenApply(response -> {
+          OutboundRequestLogger.logResponse(operation, url, startTime, buffer != null ? buffer.length() : 0, response);
           /*
            * In case there was failed attempt to delete order or particular PO line, the sub-objects might be already partially deleted.
            * This check allows user to retrieve order/line again and retry DELETE operation if required
@@ -262,13 +267,9 @@ public class HelperUtils {
         })
         .thenAccept(json -> {
           if (json != null) {
-            if (!json.isEmpty() && logger.isInfoEnabled()) {
-              logger.info("The {} {} operation completed with following response body: {}", operation, url, json.encodePrettily());
-            }
             future.complete(json);
           } else {
             //Handling the delete API where it sends no response body
-            logger.info("The {} {} operation completed with no response body", operation, url);
             future.complete(new JsonObject());
           }
         })
@@ -638,21 +639,18 @@ public class HelperUtils {
     httpClient, Map<String, String> okapiHeaders,
                                        Logger logger) {
     CompletableFuture<JsonObject> future = new CompletableFuture<>();
+    long startTime = OutboundRequestLogger.start();
     try {
-      logger.info("Calling GET {}", endpoint);
+      logger.debug("Calling GET {}", endpoint);
 
       httpClient
         .request(HttpMethod.GET, endpoint, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.GET, endpoint, okapiHeaders, startTime))
         .thenApply(response -> {
-          logger.debug("Validating response for GET {}", endpoint);
+          OutboundRequestLogger.logResponse(HttpMethod.GET, endpoint, startTime, 0, response);
           return verifyAndExtractBody(response);
         })
-        .thenAccept(body -> {
-          if (logger.isInfoEnabled()) {
-            logger.info("The response body for GET {}: {}", endpoint, nonNull(body) ? body.encodePrettily() : null);
-          }
-          future.complete(body);
-        })
+        .thenAccept(future::complete)
         .exceptionally(t -> {
           handleEndpointException(HttpMethod.GET, endpoint, t, future, logger);
           return null;
@@ -672,20 +670,21 @@ public class HelperUtils {
   public static CompletableFuture<Void> handlePutRequest(String endpoint, JsonObject recordData, HttpClientInterface httpClient,
       Map<String, String> okapiHeaders, Logger logger) {
     CompletableFuture<Void> future = new CompletableFuture<>();
+    long startTime = OutboundRequestLogger.start();
     try {
-      if (logger.isDebugEnabled()) {
-        logger.debug("Sending 'PUT {}' with body: {}", endpoint, recordData.encodePrettily());
-      }
+      Buffer buffer = recordData.toBuffer();
+      OutboundRequestLogger.logRequestBody(HttpMethod.PUT, endpoint, recordData);
       httpClient
-        .request(HttpMethod.PUT, recordData.toBuffer(), endpoint, okapiHeaders)
-        .thenApply(HelperUtils::verifyAndExtractBody)
-        .thenAccept(response -> {
-          logger.debug("'PUT {}' request successfully processed", endpoint);
-          future.complete(null);
+        .request(HttpMethod.PUT, buffer, endpoint, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.PUT, endpoint, okapiHeaders, startTime))
+        .thenApply(response -> {
+          OutboundRequestLogger.logResponse(HttpMethod.PUT, endpoint, startTime, buffer.length(), response);
+          return verifyAndExtractBody(response);
         })
+        .thenAccept(response -> future.complete(null))
         .exceptionally(e -> {
           future.completeExceptionally(e);
-          logger.error("'PUT {}' request failed wit error {}. Request body: {}", e, endpoint, recordData.encodePrettily());
+          OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), e);
           return null;
         });
     } catch (Exception e) {
@@ -711,9 +710,15 @@ public class HelperUtils {
     CompletableFuture<Void> future = new CompletableFuture<>();
 
     logger.debug(CALLING_ENDPOINT_MSG, HttpMethod.DELETE, endpoint);
+    long startTime = OutboundRequestLogger.start();
 
     try {
       httpClient.request(HttpMethod.DELETE, endpoint, okapiHeaders)
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.DELETE, endpoint, okapiHeaders, startTime))
+        .thenApply(response -> {
+          OutboundRequestLogger.logResponse(HttpMethod.DELETE, endpoint, startTime, 0, response);
+          return response;
+        })
         .thenAccept(HelperUtils::verifyResponse)
         .thenApply(future::complete)
         .exceptionally(t -> {
@@ -776,13 +781,7 @@ public class HelperUtils {
   }
 
   public static PoLine convertToPoLine(CompositePoLine compPoLine) {
-    JsonObject pol = JsonObject.mapFrom(compPoLine);
-    pol.remove(ALERTS);
-    pol.remove(REPORTING_CODES);
-    PoLine poLine = pol.mapTo(PoLine.class);
-    poLine.setAlerts(compPoLine.getAlerts().stream().map(Alert::getId).collect(toList()));
-    poLine.setReportingCodes(compPoLine.getReportingCodes().stream().map(ReportingCode::getId).collect(toList()));
-    return poLine;
+    return OrderMapper.INSTANCE.mapToPoLine(compPoLine);
   }
 
   public static CompletableFuture<String> updatePoLineReceiptStatus(PoLine poLine, ReceiptStatus status, HttpClientInterface httpClient,
@@ -841,10 +840,7 @@ public class HelperUtils {
   }
 
   public static List<PoLine> convertToPoLines(List<CompositePoLine> compositePoLines) {
-    return compositePoLines
-      .stream()
-      .map(HelperUtils::convertToPoLine)
-      .collect(toList());
+    return OrderMapper.INSTANCE.mapToPoLines(compositePoLines);
   }
 
   public static boolean isProductIdsExist(CompositePoLine compPOL) {
@@ -981,8 +977,15 @@ public class HelperUtils {
         compositePoLines.add(compositePoLine);
       });
     }
-    JsonObject jsonLine = JsonObject.mapFrom(purchaseOrder);
-    return jsonLine.mapTo(CompositePurchaseOrder.class).withCompositePoLines(compositePoLines);
+    return OrderMapper.INSTANCE.mapToCompositePurchaseOrder(purchaseOrder).withCompositePoLines(compositePoLines);
+  }
+
+  public static CompositePurchaseOrder clone(CompositePurchaseOrder compPO) {
+    return OrderMapper.INSTANCE.clone(compPO);
+  }
+
+  public static CompositePoLine clone(CompositePoLine compPoLine) {
+    return OrderMapper.INSTANCE.clone(compPoLine);
   }
 
   public static <T> T clone(Class<T> clazz, T object) {
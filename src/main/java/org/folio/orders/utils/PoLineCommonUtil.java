@@ -13,14 +13,13 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Eresource;
 import org.folio.rest.jaxrs.model.Location;
 import org.folio.rest.jaxrs.model.Physical;
 import org.folio.rest.jaxrs.model.PoLine;
 
-import io.vertx.core.json.JsonObject;
-
 public final class PoLineCommonUtil {
   public static final String DASH_SEPARATOR = "-";
 
@@ -155,7 +154,6 @@ public final class PoLineCommonUtil {
   public static CompositePoLine convertToCompositePoLine(PoLine poLine) {
     poLine.setAlerts(null);
     poLine.setReportingCodes(null);
-    JsonObject jsonLine = JsonObject.mapFrom(poLine);
-    return jsonLine.mapTo(CompositePoLine.class);
+    return OrderMapper.INSTANCE.mapToCompositePoLine(poLine);
   }
 }
@@ -0,0 +1,143 @@
+package org.folio.orders.utils.validators;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.folio.rest.jaxrs.model.Error;
+
+/**
+ * Runs validators of a request as a dependency graph: each validator starts as soon as the validators it depends on are
+ * completed, so independent validators (e.g. vendor check and PO line limit check) are run concurrently and validation
+ * takes as long as the slowest chain of dependent validators.
+ * <p>
+ * Validators report problems either as errors which are aggregated, or as exceptions which block further processing.
+ * In fail-fast mode the validation is completed on the first error or exception and validators which are not started yet
+ * are skipped. Otherwise all the validators are run, errors are reported in the order the validators are added and the
+ * exception of the first added failed validator is rethrown.
+ */
+public class ValidationDag {
+
+  private final boolean failFast;
+  private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+  public ValidationDag(boolean failFast) {
+    this.failFast = failFast;
+  }
+
+  /**
+   * @param name         unique name of the validator
+   * @param validator    starts the validation and returns future with found errors
+   * @param dependencies names of the validators which have to be completed before this one, must be added before
+   * @return this graph
+   */
+  public ValidationDag add(String name, Supplier<CompletableFuture<List<Error>>> validator, String... dependencies) {
+    for (String dependency : dependencies) {
+      if (!nodes.containsKey(dependency)) {
+        throw new IllegalArgumentException(String.format("Validator '%s' depends on unknown validator '%s'", name, dependency));
+      }
+    }
+    if (nodes.putIfAbsent(name, new Node(validator, dependencies)) != null) {
+      throw new IllegalArgumentException(String.format("Validator '%s' is already added", name));
+    }
+    return this;
+  }
+
+  /**
+   * Adds validator which has nothing to report but may fail, e.g. permission check or preparation of the validated data.
+   */
+  public ValidationDag addCheck(String name, Supplier<CompletableFuture<Void>> check, String... dependencies) {
+    return add(name, () -> check.get().thenApply(v -> Collections.<Error>emptyList()), dependencies);
+  }
+
+  /**
+   * Runs all the validators.
+   *
+   * @param errorsConsumer receives errors of the completed validators once, before the returned future is completed,
+   *                       also if the validation fails
+   * @return future completed when the validation is done or completed exceptionally with the blocking exception
+   */
+  public CompletableFuture<Void> run(Consumer<List<Error>> errorsConsumer) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Map<String, CompletableFuture<List<Error>>> futures = new LinkedHashMap<>();
+    for (Map.Entry<String, Node> entry : nodes.entrySet()) {
+      Node node = entry.getValue();
+      CompletableFuture<?>[] prerequisites = new CompletableFuture[node.dependencies.length];
+      for (int i = 0; i < prerequisites.length; i++) {
+        prerequisites[i] = futures.get(node.dependencies[i]);
+      }
+      CompletableFuture<List<Error>> future = CompletableFuture.allOf(prerequisites)
+        .thenCompose(v -> result.isDone() ? completedFuture(Collections.<Error>emptyList()) : start(node.validator));
+      futures.put(entry.getKey(), future);
+    }
+    if (failFast) {
+      futures.values().forEach(future -> future.whenComplete((errors, t) -> {
+        if (t != null || !errors.isEmpty()) {
+          complete(result, futures, errorsConsumer);
+        }
+      }));
+    }
+    CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+      .whenComplete((v, t) -> complete(result, futures, errorsConsumer));
+    return result;
+  }
+
+  private static CompletableFuture<List<Error>> start(Supplier<CompletableFuture<List<Error>>> validator) {
+    try {
+      return validator.get();
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private static void complete(CompletableFuture<Void> result, Map<String, CompletableFuture<List<Error>>> futures,
+      Consumer<List<Error>> errorsConsumer) {
+    synchronized (result) {
+      if (!result.isDone()) {
+        completeWithErrors(result, futures, errorsConsumer);
+      }
+    }
+  }
+
+  private static void completeWithErrors(CompletableFuture<Void> result, Map<String, CompletableFuture<List<Error>>> futures,
+      Consumer<List<Error>> errorsConsumer) {
+    List<Error> errors = new ArrayList<>();
+    Throwable failure = null;
+    for (CompletableFuture<List<Error>> future : futures.values()) {
+      if (!future.isDone()) {
+        continue;
+      }
+      try {
+        errors.addAll(future.join());
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = e.getCause() == null ? e : e.getCause();
+        }
+      }
+    }
+    errorsConsumer.accept(errors);
+    if (failure == null) {
+      result.complete(null);
+    } else {
+      result.completeExceptionally(failure);
+    }
+  }
+
+  private static class Node {
+    private final Supplier<CompletableFuture<List<Error>>> validator;
+    private final String[] dependencies;
+
+    Node(Supplier<CompletableFuture<List<Error>>> validator, String[] dependencies) {
+      this.validator = validator;
+      this.dependencies = dependencies;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.rest.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
+
+/**
+ * Decodes records of the collection response one by one instead of mapping the whole collection with
+ * {@link JsonObject#mapTo(Class)}. Each record is converted directly to the model object and its json is released from
+ * the response right after that, so the json tree and the model objects of the whole collection are not held at the same
+ * time.
+ */
+public final class JsonCollectionDecoder {
+
+  private JsonCollectionDecoder() {
+
+  }
+
+  /**
+   * @param collection  collection response, records are removed from it while decoding
+   * @param entitiesKey name of the array with records, e.g. {@code pieces}
+   * @param recordType  type of the records
+   * @return decoded records, empty list if the collection has no such array
+   */
+  public static <T> List<T> decode(JsonObject collection, String entitiesKey, Class<T> recordType) {
+    JsonArray entities = collection.getJsonArray(entitiesKey);
+    List<T> records = new ArrayList<>(entities == null ? 0 : entities.size());
+    decode(collection, entitiesKey, recordType, records::add);
+    return records;
+  }
+
+  /**
+   * Passes each decoded record to the consumer, so the caller can process records without collecting them.
+   *
+   * @return number of decoded records
+   */
+  public static <T> int decode(JsonObject collection, String entitiesKey, Class<T> recordType, Consumer<T> consumer) {
+    JsonArray entities = collection.getJsonArray(entitiesKey);
+    if (entities == null) {
+      return 0;
+    }
+    ObjectMapper mapper = DatabindCodec.mapper();
+    List<Object> values = entities.getList();
+    for (int i = 0; i < values.size(); i++) {
+      Object value = values.set(i, null);
+      consumer.accept(value == null ? null : mapper.convertValue(value, recordType));
+    }
+    return values.size();
+  }
+}
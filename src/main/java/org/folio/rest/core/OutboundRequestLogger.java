@@ -0,0 +1,128 @@
+package org.folio.rest.core;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.tools.client.Response;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Structured logging of the calls to other modules. Each call is logged as a single line with method, endpoint (without
+ * query), status, latency and sizes. Successful calls are sampled, failed calls are always logged exactly once: calls with
+ * unsuccessful response status by {@link #logResponse}, calls which did not get a response by {@link #logFailure}. Bodies
+ * are logged only on DEBUG level and are truncated to avoid encoding huge collections.
+ */
+public final class OutboundRequestLogger {
+
+  public static final String SAMPLE_RATE_PROPERTY = "orders.outbound.log.sampleRate";
+  public static final String MAX_BODY_LENGTH_PROPERTY = "orders.outbound.log.maxBodyLength";
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private static final String REQUEST_MSG = "method={} endpoint={} status={} latencyMs={} requestBytes={} responseBytes={}";
+  private static final String FAILURE_MSG = "method={} endpoint={} status=- latencyMs={} requestBytes={} error={}";
+  private static final String BODY_MSG = "method={} endpoint={} {}: {}";
+  private static final String TRUNCATED_SUFFIX = "...(truncated, %d chars total)";
+
+  private static final double DEFAULT_SAMPLE_RATE = 0.1;
+  private static final double SAMPLE_RATE = parseSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+  private static final int MAX_BODY_LENGTH = Integer.getInteger(MAX_BODY_LENGTH_PROPERTY, 2048);
+
+  private OutboundRequestLogger() {
+
+  }
+
+  public static long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Logs completed call. Calls with unsuccessful status are always logged, successful ones only if sampled.
+   *
+   * @param method       http method of the call
+   * @param endpoint     endpoint with query parameters
+   * @param startTime    value returned by {@link #start()} before sending the request
+   * @param requestBytes size of the request body, 0 if there is no body
+   * @param response     response of the call
+   */
+  public static void logResponse(HttpMethod method, String endpoint, long startTime, int requestBytes, Response response) {
+    int code = response.getCode();
+    boolean success = Response.isSuccess(code);
+    if (!success && logger.isWarnEnabled()) {
+      logger.warn(REQUEST_MSG, method, getPath(endpoint), code, getLatency(startTime), requestBytes, getResponseBytes(response));
+    } else if (success && logger.isInfoEnabled() && isSampled()) {
+      logger.info(REQUEST_MSG, method, getPath(endpoint), code, getLatency(startTime), requestBytes, getResponseBytes(response));
+    }
+    if (success) {
+      logBody(method, endpoint, "response body", response.getBody());
+    }
+  }
+
+  /**
+   * Logs the call which completed exceptionally. The calls failed because of unsuccessful response status are skipped as
+   * they are already logged by {@link #logResponse}, so only the calls without response (connection errors, timeouts,
+   * response processing errors) are logged here.
+   *
+   * @param requestBytes size of the request body, 0 if there is no body
+   */
+  public static void logFailure(HttpMethod method, String endpoint, long startTime, int requestBytes, Throwable t) {
+    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    if (!(cause instanceof HttpException)) {
+      logger.error(FAILURE_MSG, method, getPath(endpoint), getLatency(startTime), requestBytes, cause.getMessage(), cause);
+    }
+  }
+
+  public static void logRequestBody(HttpMethod method, String endpoint, JsonObject body) {
+    logBody(method, endpoint, "request body", body);
+  }
+
+  private static void logBody(HttpMethod method, String endpoint, String bodyType, JsonObject body) {
+    if (body != null && logger.isDebugEnabled()) {
+      logger.debug(BODY_MSG, method, endpoint, bodyType, truncate(body.encode()));
+    }
+  }
+
+  static String truncate(String value) {
+    if (value == null || value.length() <= MAX_BODY_LENGTH) {
+      return value;
+    }
+    return value.substring(0, MAX_BODY_LENGTH) + String.format(TRUNCATED_SUFFIX, value.length());
+  }
+
+  static String getPath(String endpoint) {
+    return StringUtils.substringBefore(endpoint, "?");
+  }
+
+  static double parseSampleRate(String value) {
+    if (StringUtils.isBlank(value)) {
+      return DEFAULT_SAMPLE_RATE;
+    }
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      logger.warn("Invalid value '{}' of {} property, {} is used", value, SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE);
+      return DEFAULT_SAMPLE_RATE;
+    }
+  }
+
+  private static boolean isSampled() {
+    return SAMPLE_RATE >= 1 || (SAMPLE_RATE > 0 && ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE);
+  }
+
+  private static long getLatency(long startTime) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+  }
+
+  private static String getResponseBytes(Response response) {
+    return response.getHeaders() != null ? StringUtils.defaultIfEmpty(response.getHeaders().get(CONTENT_LENGTH), "-") : "-";
+  }
+}
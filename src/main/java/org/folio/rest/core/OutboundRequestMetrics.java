@@ -0,0 +1,155 @@
+package org.folio.rest.core;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.folio.rest.tools.client.Response;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Metrics of the calls to other modules. Calls are grouped by downstream module and endpoint template, i.e. the path
+ * without query and with record ids replaced by {@code {id}}, so the number of time series stays bounded.
+ * <ul>
+ * <li>{@code orders_outbound_requests_seconds} - latency histogram, tagged with module, method, endpoint and status</li>
+ * <li>{@code orders_outbound_errors_total} - calls completed with non-2xx status or without response</li>
+ * <li>{@code orders_outbound_inflight} - calls currently awaiting response per module</li>
+ * </ul>
+ */
+public final class OutboundRequestMetrics {
+
+  public static final String REQUESTS_METRIC = "orders.outbound.requests";
+  public static final String ERRORS_METRIC = "orders.outbound.errors";
+  public static final String IN_FLIGHT_METRIC = "orders.outbound.inflight";
+
+  private static final String MODULE_TAG = "module";
+  private static final String METHOD_TAG = "method";
+  private static final String ENDPOINT_TAG = "endpoint";
+  private static final String STATUS_TAG = "status";
+  private static final String NO_RESPONSE_STATUS = "none";
+  private static final String ID_PLACEHOLDER = "{id}";
+
+  private static final Pattern ID_SEGMENT = Pattern
+    .compile("^([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+)$");
+
+  private static final Map<String, String> MODULES = Map.ofEntries(
+    Map.entry("inventory", "inventory"),
+    Map.entry("instance-storage", "inventory"),
+    Map.entry("holdings-storage", "inventory"),
+    Map.entry("item-storage", "inventory"),
+    Map.entry("instance-types", "inventory"),
+    Map.entry("instance-statuses", "inventory"),
+    Map.entry("identifier-types", "inventory"),
+    Map.entry("contributor-name-types", "inventory"),
+    Map.entry("loan-types", "inventory"),
+    Map.entry("isbn", "inventory"),
+    Map.entry("finance", "finance"),
+    Map.entry("finance-storage", "finance"),
+    Map.entry("orders-storage", "storage"),
+    Map.entry("configurations", "configuration"),
+    Map.entry("acquisitions-units-storage", "acquisitions-units"),
+    Map.entry("organizations-storage", "organizations")
+  );
+
+  private static final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+  private static final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  private OutboundRequestMetrics() {
+
+  }
+
+  public static PrometheusMeterRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Marks the call as in flight and returns callback which has to be invoked when the call completes, e.g.
+   * {@code httpClient.request(...).whenComplete(OutboundRequestMetrics.track(method, endpoint, headers, startTime))}.
+   * If the incoming request is traced, the call is also added to its {@link RequestTrace}.
+   *
+   * @param method    http method of the call
+   * @param endpoint  endpoint with query parameters
+   * @param headers   okapi headers the call is sent with
+   * @param startTime value of {@link System#nanoTime()} before sending the request
+   * @return callback recording latency and status of the call
+   */
+  public static BiConsumer<Response, Throwable> track(HttpMethod method, String endpoint, Map<String, String> headers,
+      long startTime) {
+    String template = getEndpointTemplate(endpoint);
+    String module = getModule(template);
+    AtomicInteger moduleInFlight = getInFlight(module);
+    moduleInFlight.incrementAndGet();
+    RequestTrace trace = RequestTrace.find(headers);
+    return (response, t) -> {
+      moduleInFlight.decrementAndGet();
+      if (trace != null) {
+        trace.record(method, module, template, startTime, getResponseSize(response),
+          response != null && t == null ? response.getCode() : 0);
+      }
+      String status = response != null && t == null ? String.valueOf(response.getCode()) : NO_RESPONSE_STATUS;
+      Timer.builder(REQUESTS_METRIC)
+        .tag(MODULE_TAG, module)
+        .tag(METHOD_TAG, method.name())
+        .tag(ENDPOINT_TAG, template)
+        .tag(STATUS_TAG, status)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+      if (NO_RESPONSE_STATUS.equals(status) || !Response.isSuccess(response.getCode())) {
+        Counter.builder(ERRORS_METRIC)
+          .tag(MODULE_TAG, module)
+          .tag(METHOD_TAG, method.name())
+          .tag(ENDPOINT_TAG, template)
+          .register(registry)
+          .increment();
+      }
+    };
+  }
+
+  static String getEndpointTemplate(String endpoint) {
+    String path = OutboundRequestLogger.getPath(endpoint);
+    if (path.contains("://")) {
+      path = "/" + StringUtils.substringAfter(StringUtils.substringAfter(path, "://"), "/");
+    }
+    String[] segments = StringUtils.split(path, '/');
+    for (int i = 0; i < segments.length; i++) {
+      if (ID_SEGMENT.matcher(segments[i]).matches()) {
+        segments[i] = ID_PLACEHOLDER;
+      }
+    }
+    return "/" + String.join("/", segments);
+  }
+
+  static String getModule(String endpointTemplate) {
+    String root = StringUtils.substringBefore(StringUtils.removeStart(endpointTemplate, "/"), "/");
+    return MODULES.getOrDefault(root, root);
+  }
+
+  private static long getResponseSize(Response response) {
+    String contentLength = response != null && response.getHeaders() != null ? response.getHeaders().get(CONTENT_LENGTH) : null;
+    return NumberUtils.toLong(contentLength, -1);
+  }
+
+  private static AtomicInteger getInFlight(String module) {
+    return inFlight.computeIfAbsent(module, key -> {
+      AtomicInteger counter = new AtomicInteger();
+      Gauge.builder(IN_FLIGHT_METRIC, counter, AtomicInteger::get)
+        .tag(MODULE_TAG, key)
+        .register(registry);
+      return counter;
+    });
+  }
+}
@@ -0,0 +1,262 @@
+package org.folio.rest.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.folio.completablefuture.FolioVertxCompletableFuture;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Per-tenant cache of the records which change rarely, e.g. funds or ledgers. Records are kept for the configured time
+ * and concurrent lookups of the same record share one call, so a record is requested at most once per time to live.
+ * Failed lookups and records which are not found are not cached.
+ * <p>
+ * Time to live of the cache is set with {@code -Dorders.cache.<name>.ttlSeconds}, zero disables the cache. All the caches
+ * are disabled with {@code -Dorders.cache.enabled=false}. Hits and misses are counted in
+ * {@value #CACHE_METRIC} metric tagged with the cache name.
+ * <p>
+ * The cache holds at most {@value #MAX_ENTRIES} records of all the tenants. When it is full, the expired records are
+ * removed first and then the records which expire soonest, i.e. the oldest ones.
+ */
+public class ReferenceDataCache<T> {
+
+  public static final String ENABLED_PROPERTY = "orders.cache.enabled";
+  public static final String CACHE_METRIC = "orders.cache.requests";
+
+  private static final String TTL_PROPERTY = "orders.cache.%s.ttlSeconds";
+  private static final String TENANT_SPECIFIC_KEY_FORMAT = "%s.%s";
+  private static final String COLLECTION_KEY_FORMAT = "%s|%d|%d";
+  private static final String CACHE_TAG = "cache";
+  private static final String RESULT_TAG = "result";
+  static final int MAX_ENTRIES = 10_000;
+  // share of the entries evicted at once when the cache is full, so the eviction is not repeated for every new record
+  private static final int EVICTION_BATCH = MAX_ENTRIES / 10;
+
+  private final long ttl;
+  private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  ReferenceDataCache(String name, long ttl, TimeUnit unit) {
+    this.ttl = unit.toNanos(ttl);
+    this.hits = Counter.builder(CACHE_METRIC)
+      .tag(CACHE_TAG, name)
+      .tag(RESULT_TAG, "hit")
+      .register(OutboundRequestMetrics.getRegistry());
+    this.misses = Counter.builder(CACHE_METRIC)
+      .tag(CACHE_TAG, name)
+      .tag(RESULT_TAG, "miss")
+      .register(OutboundRequestMetrics.getRegistry());
+  }
+
+  /**
+   * @param name              name of the cache used in the system property and metrics, e.g. {@code funds}
+   * @param defaultTtlSeconds time to live of the records if it is not set with system property
+   * @return cache configured with system properties
+   */
+  public static <T> ReferenceDataCache<T> create(String name, long defaultTtlSeconds) {
+    long ttlSeconds = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))
+      ? Long.getLong(String.format(TTL_PROPERTY, name), defaultTtlSeconds)
+      : 0;
+    return new ReferenceDataCache<>(name, ttlSeconds, TimeUnit.SECONDS);
+  }
+
+  public boolean isEnabled() {
+    return ttl > 0;
+  }
+
+  /**
+   * Returns the cached record or loads it if it is not cached yet or expired.
+   *
+   * @param key    id of the record
+   * @param loader loads the record, completed with {@code null} if the record is not found
+   * @return future with the record
+   */
+  public CompletableFuture<T> get(String key, RequestContext requestContext, Supplier<CompletableFuture<T>> loader) {
+    if (!isEnabled()) {
+      return loader.get();
+    }
+    String cacheKey = getCacheKey(key, requestContext);
+    Entry<T> created = new Entry<>(System.nanoTime() + ttl);
+    Entry<T> entry = getOrPut(cacheKey, created);
+    if (entry == created) {
+      misses.increment();
+      load(Map.of(cacheKey, created), () -> loader.get().thenApply(value -> value == null ? Map.<String, T>of() : Map.of(cacheKey, value)));
+    } else {
+      hits.increment();
+    }
+    return onCallerContext(entry.future, requestContext);
+  }
+
+  /**
+   * Returns cached records and loads the ones which are not cached yet or expired with one call of the loader.
+   *
+   * @param keys   ids of the records
+   * @param loader loads records by ids, the records which are not found are skipped
+   * @return future with the found records by ids
+   */
+  public CompletableFuture<Map<String, T>> getAll(Collection<String> keys, RequestContext requestContext,
+      Function<List<String>, CompletableFuture<Map<String, T>>> loader) {
+    List<String> distinctKeys = keys.stream().distinct().collect(Collectors.toList());
+    if (!isEnabled()) {
+      return loader.apply(distinctKeys);
+    }
+    Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+    Map<String, Entry<T>> createdEntries = new LinkedHashMap<>();
+    Map<String, String> keysByCacheKey = new LinkedHashMap<>();
+    for (String key : distinctKeys) {
+      String cacheKey = getCacheKey(key, requestContext);
+      Entry<T> created = new Entry<>(System.nanoTime() + ttl);
+      Entry<T> entry = getOrPut(cacheKey, created);
+      if (entry == created) {
+        misses.increment();
+        createdEntries.put(cacheKey, created);
+        keysByCacheKey.put(cacheKey, key);
+      } else {
+        hits.increment();
+      }
+      futures.put(key, entry.future);
+    }
+    if (!createdEntries.isEmpty()) {
+      load(createdEntries, () -> loader.apply(new ArrayList<>(keysByCacheKey.values()))
+        .thenApply(values -> {
+          Map<String, T> valuesByCacheKey = new LinkedHashMap<>();
+          keysByCacheKey.forEach((cacheKey, key) -> {
+            T value = values.get(key);
+            if (value != null) {
+              valuesByCacheKey.put(cacheKey, value);
+            }
+          });
+          return valuesByCacheKey;
+        }));
+    }
+    CompletableFuture<Map<String, T>> result = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+      .thenApply(v -> {
+        Map<String, T> values = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+          T value = future.join();
+          if (value != null) {
+            values.put(key, value);
+          }
+        });
+        return values;
+      });
+    return onCallerContext(result, requestContext);
+  }
+
+  /**
+   * Replaces the cached record with the one just retrieved bypassing the cache.
+   */
+  public void put(String key, T value, RequestContext requestContext) {
+    if (isEnabled() && value != null) {
+      Entry<T> entry = new Entry<>(System.nanoTime() + ttl);
+      entry.future.complete(value);
+      evictIfFull();
+      entries.put(getCacheKey(key, requestContext), entry);
+    }
+  }
+
+  public void invalidate(String key, RequestContext requestContext) {
+    if (isEnabled()) {
+      entries.remove(getCacheKey(key, requestContext));
+    }
+  }
+
+  /**
+   * Removes all the records of the tenant.
+   */
+  public void invalidateAll(RequestContext requestContext) {
+    if (isEnabled()) {
+      String prefix = getCacheKey("", requestContext);
+      entries.keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+    }
+  }
+
+  /**
+   * @return key of the page of the collection matching the query
+   */
+  public static String getCollectionKey(String query, int offset, int limit) {
+    return String.format(COLLECTION_KEY_FORMAT, query, offset, limit);
+  }
+
+  private Entry<T> getOrPut(String cacheKey, Entry<T> created) {
+    Entry<T> entry = entries.get(cacheKey);
+    if (entry != null && !entry.isExpired()) {
+      return entry;
+    }
+    evictIfFull();
+    return entries.compute(cacheKey, (k, current) -> current == null || current.isExpired() ? created : current);
+  }
+
+  private void load(Map<String, Entry<T>> createdEntries, Supplier<CompletableFuture<Map<String, T>>> loader) {
+    CompletableFuture<Map<String, T>> future;
+    try {
+      future = loader.get();
+    } catch (Exception e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    future.whenComplete((values, t) -> createdEntries.forEach((cacheKey, entry) -> {
+      T value = t == null ? values.get(cacheKey) : null;
+      if (value == null) {
+        entries.remove(cacheKey, entry);
+      }
+      if (t == null) {
+        entry.future.complete(value);
+      } else {
+        entry.future.completeExceptionally(t);
+      }
+    }));
+  }
+
+  private void evictIfFull() {
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.values().removeIf(Entry::isExpired);
+      int excess = entries.size() - MAX_ENTRIES + EVICTION_BATCH;
+      if (excess > 0) {
+        entries.entrySet().stream()
+          .sorted(Comparator.comparingLong((Map.Entry<String, Entry<T>> cached) -> cached.getValue().expirationTime))
+          .limit(excess)
+          .collect(Collectors.toList())
+          .forEach(cached -> entries.remove(cached.getKey(), cached.getValue()));
+      }
+    }
+  }
+
+  private static <V> CompletableFuture<V> onCallerContext(CompletableFuture<V> future, RequestContext requestContext) {
+    // Cached futures are shared by requests, so the dependent stages of the caller are run on its own context
+    if (requestContext.getContext() == null) {
+      return future.thenApply(Function.identity());
+    }
+    return FolioVertxCompletableFuture.from(requestContext.getContext(), future);
+  }
+
+  private static String getCacheKey(String key, RequestContext requestContext) {
+    return String.format(TENANT_SPECIFIC_KEY_FORMAT, TenantTool.tenantId(requestContext.getHeaders()), key);
+  }
+
+  private static final class Entry<T> {
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final long expirationTime;
+
+    private Entry(long expirationTime) {
+      this.expirationTime = expirationTime;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - expirationTime > 0;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package org.folio.rest.core;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Trace of the calls to other modules made while processing one incoming request. Calls are correlated by
+ * {@value #REQUEST_ID_HEADER} header which is passed to all the helpers and services with okapi headers.
+ * <p>
+ * Tracing is enabled for the request if it has {@value #TRACE_HEADER} header or {@value #TRACE_ENABLED_PROPERTY} system
+ * property is set. On completion the summary (calls by module, time spent waiting for other modules and the most
+ * frequent endpoints) is logged, and returned in {@value #SUMMARY_HEADER} response header if the request asked for it.
+ * <p>
+ * Traces of the requests which are not completed within {@value #TRACE_TTL_PROPERTY} seconds (the handler is never
+ * called, e.g. because of an unhandled error) are dropped when the next trace is started.
+ */
+public class RequestTrace {
+
+  public static final String TRACE_HEADER = "X-Okapi-Orders-Call-Trace";
+  public static final String SUMMARY_HEADER = "X-Orders-Call-Summary";
+  public static final String REQUEST_ID_HEADER = "X-Okapi-Request-Id";
+  public static final String TRACE_ENABLED_PROPERTY = "orders.trace.enabled";
+  public static final String TRACE_TTL_PROPERTY = "orders.trace.ttlSeconds";
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private static final int MAX_ACTIVE_TRACES = 1000;
+  private static final long TRACE_TTL = TimeUnit.SECONDS.toNanos(Integer.getInteger(TRACE_TTL_PROPERTY, 600));
+  private static final int TOP_ENDPOINTS = 5;
+  private static final String DEFAULT_STAGE = "request";
+  private static final Map<String, RequestTrace> activeTraces = new ConcurrentHashMap<>();
+
+  private final String requestId;
+  private final String name;
+  private final long startTime;
+  private final boolean returnSummary;
+  private final Queue<Call> calls = new ConcurrentLinkedQueue<>();
+  private volatile String stage = DEFAULT_STAGE;
+
+  private RequestTrace(String requestId, String name, boolean returnSummary) {
+    this.requestId = requestId;
+    this.name = name;
+    this.returnSummary = returnSummary;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Starts the trace of the incoming request if tracing is enabled for it. Okapi headers are populated with request id
+   * if it is missing, so the calls can be correlated.
+   *
+   * @param name         name of the incoming request, e.g. {@code PUT /orders/composite-orders/{id}}
+   * @param okapiHeaders headers of the incoming request
+   * @param handler      handler of the incoming request
+   * @return the handler completing the trace before passing the response to the original handler
+   */
+  public static Handler<AsyncResult<Response>> start(String name, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> handler) {
+    boolean returnSummary = Boolean.parseBoolean(getHeader(okapiHeaders, TRACE_HEADER));
+    if (!returnSummary && !Boolean.getBoolean(TRACE_ENABLED_PROPERTY)) {
+      return handler;
+    }
+    removeExpired(System.nanoTime());
+    if (activeTraces.size() >= MAX_ACTIVE_TRACES) {
+      return handler;
+    }
+    String requestId = getHeader(okapiHeaders, REQUEST_ID_HEADER);
+    if (requestId == null) {
+      requestId = UUID.randomUUID().toString();
+      okapiHeaders.put(REQUEST_ID_HEADER, requestId);
+    }
+    RequestTrace trace = new RequestTrace(requestId, name, returnSummary);
+    if (activeTraces.putIfAbsent(requestId, trace) != null) {
+      return handler;
+    }
+    return result -> handler.handle(trace.finish(result));
+  }
+
+  /**
+   * @return trace of the request the headers belong to or {@code null} if the request is not traced
+   */
+  public static RequestTrace find(Map<String, String> okapiHeaders) {
+    if (activeTraces.isEmpty() || okapiHeaders == null) {
+      return null;
+    }
+    String requestId = getHeader(okapiHeaders, REQUEST_ID_HEADER);
+    return requestId == null ? null : activeTraces.get(requestId);
+  }
+
+  /**
+   * Sets processing stage of the traced request. Calls sent after that are attributed to this stage.
+   */
+  public static void stage(Map<String, String> okapiHeaders, String stage) {
+    RequestTrace trace = find(okapiHeaders);
+    if (trace != null) {
+      trace.stage = stage;
+    }
+  }
+
+  /**
+   * Drops the traces started more than {@value #TRACE_TTL_PROPERTY} seconds before the given time.
+   */
+  static void removeExpired(long now) {
+    activeTraces.values().removeIf(trace -> {
+      if (now - trace.startTime > TRACE_TTL) {
+        logger.warn("Trace of '{}' [{}] is dropped as the request is not completed", trace.name, trace.requestId);
+        return true;
+      }
+      return false;
+    });
+  }
+
+  void record(HttpMethod method, String module, String endpoint, long callStartTime, long size, int status) {
+    calls.add(new Call(method.name() + " " + endpoint, module, stage, callStartTime, System.nanoTime(), size, status));
+  }
+
+  private AsyncResult<Response> finish(AsyncResult<Response> result) {
+    activeTraces.remove(requestId, this);
+    String summary = getSummary(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    logger.info("Calls of '{}' [{}]: {}", name, requestId, summary);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Calls of '{}' [{}] by stage: {}", name, requestId, getStages());
+    }
+    if (returnSummary && result.succeeded() && result.result() != null) {
+      return Future.succeededFuture(Response.fromResponse(result.result())
+        .header(SUMMARY_HEADER, summary)
+        .build());
+    }
+    return result;
+  }
+
+  String getSummary(long totalMs) {
+    List<Call> snapshot = new ArrayList<>(calls);
+    Map<String, List<Call>> byModule = snapshot.stream().collect(groupingBy(Call::getModule, TreeMap::new, toList()));
+    String modules = byModule.entrySet().stream()
+      .map(entry -> String.format("%s=%d/%dms", entry.getKey(), entry.getValue().size(), getBusyTime(entry.getValue())))
+      .collect(joining(" "));
+    String topEndpoints = snapshot.stream()
+      .collect(groupingBy(Call::getEndpoint, counting()))
+      .entrySet().stream()
+      .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+      .limit(TOP_ENDPOINTS)
+      .map(entry -> entry.getKey() + " x" + entry.getValue())
+      .collect(joining(", "));
+    long failed = snapshot.stream().filter(call -> call.status < 200 || call.status > 299).count();
+    long bytes = snapshot.stream().mapToLong(call -> Math.max(call.size, 0)).sum();
+
+    return String.format("totalMs=%d calls=%d failed=%d responseBytes=%d outboundMs=%d %s top=[%s]", totalMs,
+      snapshot.size(), failed, bytes, getBusyTime(snapshot), modules, topEndpoints);
+  }
+
+  private String getStages() {
+    return calls.stream()
+      .collect(groupingBy(call -> call.stage, TreeMap::new, counting()))
+      .toString();
+  }
+
+  /**
+   * Time when at least one of the calls was awaiting response, i.e. the part of the request processing time on the
+   * critical path which is spent in other modules.
+   */
+  static long getBusyTime(List<Call> calls) {
+    List<Call> sorted = new ArrayList<>(calls);
+    sorted.sort(Comparator.comparingLong(call -> call.start));
+    long busy = 0;
+    long intervalStart = 0;
+    long intervalEnd = Long.MIN_VALUE;
+    for (Call call : sorted) {
+      if (call.start > intervalEnd) {
+        busy += intervalEnd > intervalStart ? intervalEnd - intervalStart : 0;
+        intervalStart = call.start;
+        intervalEnd = call.end;
+      } else {
+        intervalEnd = Math.max(intervalEnd, call.end);
+      }
+    }
+    busy += intervalEnd > intervalStart ? intervalEnd - intervalStart : 0;
+    return TimeUnit.NANOSECONDS.toMillis(busy);
+  }
+
+  private static String getHeader(Map<String, String> headers, String name) {
+    String value = headers.get(name);
+    if (value == null) {
+      value = headers.get(name.toLowerCase());
+    }
+    return value;
+  }
+
+  static class Call {
+    private final String endpoint;
+    private final String module;
+    private final String stage;
+    private final long start;
+    private final long end;
+    private final long size;
+    private final int status;
+
+    Call(String endpoint, String module, String stage, long start, long end, long size, int status) {
+      this.endpoint = endpoint;
+      this.module = module;
+      this.stage = stage;
+      this.start = start;
+      this.end = end;
+      this.size = size;
+      this.status = status;
+    }
+
+    String getEndpoint() {
+      return endpoint;
+    }
+
+    String getModule() {
+      return module;
+    }
+  }
+}
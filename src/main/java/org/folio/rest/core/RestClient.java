@@ -1,15 +1,19 @@
 package org.folio.rest.core;
 
-import static java.util.Objects.nonNull;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
-import static org.folio.orders.utils.HelperUtils.verifyAndExtractBody;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.orders.utils.HelperUtils;
@@ -17,17 +21,26 @@ import org.folio.rest.RestConstants;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.tools.client.HttpClientFactory;
+import org.folio.rest.tools.client.Response;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
 import org.folio.rest.tools.utils.TenantTool;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class RestClient {
 
     private static final Logger logger = LogManager.getLogger();
     private static final String CALLING_ENDPOINT_MSG = "Sending {} {}";
-    private static final String EXCEPTION_CALLING_ENDPOINT_MSG = "Exception calling %s %s - %s";
+
+    public static final String PAGE_SIZE_PROPERTY = "orders.paging.pageSize";
+    public static final int DEFAULT_PAGE_SIZE = Integer.getInteger(PAGE_SIZE_PROPERTY, 1000);
+
+    private static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
+    private static final String SORT_BY_ID = " sortBy id";
+    private static final Pattern SORT_BY_PATTERN = Pattern.compile("\\ssortBy\\s", Pattern.CASE_INSENSITIVE);
 
 
     public <T> CompletableFuture<T> getById(String baseEndpoint, String id, RequestContext requestContext, Class<T> responseType) {
@@ -39,32 +52,30 @@ public class RestClient {
         CompletableFuture<T> future = new CompletableFuture<>();
         String endpoint = requestEntry.buildEndpoint();
         JsonObject recordData = JsonObject.mapFrom(entity);
-
-        if (logger.isDebugEnabled()) {
-            logger.debug("Sending 'POST {}' with body: {}", endpoint, recordData.encodePrettily());
-        }
+        Buffer buffer = recordData.toBuffer();
+        OutboundRequestLogger.logRequestBody(HttpMethod.POST, endpoint, recordData);
 
         HttpClientInterface client = getHttpClient(requestContext.getHeaders());
+        long startTime = OutboundRequestLogger.start();
         try {
             client
-                    .request(HttpMethod.POST, recordData.toBuffer(), endpoint, requestContext.getHeaders())
+                    .request(HttpMethod.POST, buffer, endpoint, requestContext.getHeaders())
+                    .whenComplete(OutboundRequestMetrics.track(HttpMethod.POST, endpoint, requestContext.getHeaders(), startTime))
+                    .thenApply(response -> logResponse(HttpMethod.POST, endpoint, startTime, buffer.length(), response))
                     .thenApply(HelperUtils::verifyAndExtractBody)
                     .thenAccept(body -> {
                         client.closeClient();
                         T responseEntity = body.mapTo(responseType);
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("'POST {}' request successfully processed. Record with '{}' id has been created", endpoint, body);
-                        }
                         future.complete(responseEntity);
                     })
                     .exceptionally(t -> {
                         client.closeClient();
-                        logger.error("'POST {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), t.getCause());
+                        OutboundRequestLogger.logFailure(HttpMethod.POST, endpoint, startTime, buffer.length(), t);
                         future.completeExceptionally(t.getCause());
                         return null;
                     });
         } catch (Exception e) {
-            logger.error("'POST {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), e);
+            OutboundRequestLogger.logFailure(HttpMethod.POST, endpoint, startTime, buffer.length(), e);
             client.closeClient();
             future.completeExceptionally(e);
         }
@@ -76,15 +87,16 @@ public class RestClient {
                                        Class<T> responseType, RequestContext requestContext) {
     CompletableFuture<T> future = new CompletableFuture<>();
     String endpoint = requestEntry.buildEndpoint();
-
-    if (logger.isDebugEnabled()) {
-      logger.debug("Sending 'POST {}' with body: {}", endpoint, recordData.encodePrettily());
-    }
+    Buffer buffer = recordData.toBuffer();
+    OutboundRequestLogger.logRequestBody(HttpMethod.POST, endpoint, recordData);
 
     HttpClientInterface client = getHttpClient(requestContext.getHeaders());
+    long startTime = OutboundRequestLogger.start();
     try {
       client
-        .request(HttpMethod.POST, recordData.toBuffer(), endpoint, requestContext.getHeaders())
+        .request(HttpMethod.POST, buffer, endpoint, requestContext.getHeaders())
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.POST, endpoint, requestContext.getHeaders(), startTime))
+        .thenApply(response -> logResponse(HttpMethod.POST, endpoint, startTime, buffer.length(), response))
         .thenApply(response -> {
           if (postResponseType == PostResponseType.BODY) {
             return HelperUtils.verifyAndExtractBody(response);
@@ -95,19 +107,16 @@ public class RestClient {
         })
         .thenAccept(body -> {
           client.closeClient();
-          if (logger.isDebugEnabled()) {
-            logger.debug("'POST {}' request successfully processed. Record with '{}' id has been created", endpoint, body);
-          }
           future.complete(responseType.cast(body));
         })
         .exceptionally(t -> {
           client.closeClient();
-          logger.error("'POST {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), t.getCause());
+          OutboundRequestLogger.logFailure(HttpMethod.POST, endpoint, startTime, buffer.length(), t);
           future.completeExceptionally(t.getCause());
           return null;
         });
     } catch (Exception e) {
-      logger.error("'POST {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), e);
+      OutboundRequestLogger.logFailure(HttpMethod.POST, endpoint, startTime, buffer.length(), e);
       client.closeClient();
       future.completeExceptionally(e);
     }
@@ -119,16 +128,17 @@ public class RestClient {
         CompletableFuture<Void> future = new CompletableFuture<>();
         String endpoint = requestEntry.buildEndpoint();
         JsonObject recordData = JsonObject.mapFrom(entity);
-
-        if (logger.isDebugEnabled()) {
-            logger.debug("Sending 'PUT {}' with body: {}", endpoint, recordData.encodePrettily());
-        }
+        Buffer buffer = recordData.toBuffer();
+        OutboundRequestLogger.logRequestBody(HttpMethod.PUT, endpoint, recordData);
 
         HttpClientInterface client = getHttpClient(requestContext.getHeaders());
         setDefaultHeaders(client);
+        long startTime = OutboundRequestLogger.start();
         try {
             client
-                    .request(HttpMethod.PUT, recordData.toBuffer(), endpoint, requestContext.getHeaders())
+                    .request(HttpMethod.PUT, buffer, endpoint, requestContext.getHeaders())
+                    .whenComplete(OutboundRequestMetrics.track(HttpMethod.PUT, endpoint, requestContext.getHeaders(), startTime))
+                    .thenApply(response -> logResponse(HttpMethod.PUT, endpoint, startTime, buffer.length(), response))
                     .thenAccept(HelperUtils::verifyResponse)
                     .thenAccept(avoid -> {
                         client.closeClient();
@@ -137,11 +147,11 @@ public class RestClient {
                     .exceptionally(t -> {
                         client.closeClient();
                         future.completeExceptionally(t.getCause());
-                        logger.error("'PUT {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), t.getCause());
+                        OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), t);
                         return null;
                     });
         } catch (Exception e) {
-            logger.error("'PUT {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), e);
+            OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), e);
             client.closeClient();
             future.completeExceptionally(e);
         }
@@ -152,16 +162,17 @@ public class RestClient {
   public CompletableFuture<Void> put(RequestEntry requestEntry, JsonObject recordData, RequestContext requestContext) {
     CompletableFuture<Void> future = new CompletableFuture<>();
     String endpoint = requestEntry.buildEndpoint();
-
-    if (logger.isDebugEnabled()) {
-      logger.debug("Sending 'PUT {}' with body: {}", endpoint, recordData.encodePrettily());
-    }
+    Buffer buffer = recordData.toBuffer();
+    OutboundRequestLogger.logRequestBody(HttpMethod.PUT, endpoint, recordData);
 
     HttpClientInterface client = getHttpClient(requestContext.getHeaders());
     setDefaultHeaders(client);
+    long startTime = OutboundRequestLogger.start();
     try {
       client
-        .request(HttpMethod.PUT, recordData.toBuffer(), endpoint, requestContext.getHeaders())
+        .request(HttpMethod.PUT, buffer, endpoint, requestContext.getHeaders())
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.PUT, endpoint, requestContext.getHeaders(), startTime))
+        .thenApply(response -> logResponse(HttpMethod.PUT, endpoint, startTime, buffer.length(), response))
         .thenAccept(HelperUtils::verifyResponse)
         .thenAccept(avoid -> {
           client.closeClient();
@@ -170,11 +181,11 @@ public class RestClient {
         .exceptionally(t -> {
           client.closeClient();
           future.completeExceptionally(t.getCause());
-          logger.error("'PUT {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), t.getCause());
+          OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), t);
           return null;
         });
     } catch (Exception e) {
-      logger.error("'PUT {}' request failed. Request body: {}", endpoint, recordData.encodePrettily(), e);
+      OutboundRequestLogger.logFailure(HttpMethod.PUT, endpoint, startTime, buffer.length(), e);
       client.closeClient();
       future.completeExceptionally(e);
     }
@@ -190,9 +201,12 @@ public class RestClient {
         }
         HttpClientInterface client = getHttpClient(requestContext.getHeaders());
         setDefaultHeaders(client);
+        long startTime = OutboundRequestLogger.start();
 
         try {
           client.request(HttpMethod.DELETE, endpoint, requestContext.getHeaders())
+            .whenComplete(OutboundRequestMetrics.track(HttpMethod.DELETE, endpoint, requestContext.getHeaders(), startTime))
+            .thenApply(response -> logResponse(HttpMethod.DELETE, endpoint, startTime, 0, response))
             .thenAccept(HelperUtils::verifyResponse)
             .thenAccept(aVoid -> {
               client.closeClient();
@@ -200,13 +214,13 @@ public class RestClient {
             })
             .exceptionally(t -> {
               client.closeClient();
-              logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.DELETE, endpoint, requestContext), t);
+              OutboundRequestLogger.logFailure(HttpMethod.DELETE, endpoint, startTime, 0, t);
               future.completeExceptionally(t.getCause());
               return null;
             });
         } catch (Exception e) {
           client.closeClient();
-          logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.DELETE, endpoint, requestContext), e);
+          OutboundRequestLogger.logFailure(HttpMethod.DELETE, endpoint, startTime, 0, e);
           future.completeExceptionally(e);
         }
 
@@ -220,32 +234,27 @@ public class RestClient {
         if (logger.isDebugEnabled()) {
             logger.debug("Calling GET {}", endpoint);
         }
+        long startTime = OutboundRequestLogger.start();
 
         try {
             client
                     .request(HttpMethod.GET, endpoint, requestContext.getHeaders())
-                    .thenApply(response -> {
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("Validating response for GET {}", endpoint);
-                        }
-                        return verifyAndExtractBody(response);
-                    })
+                    .whenComplete(OutboundRequestMetrics.track(HttpMethod.GET, endpoint, requestContext.getHeaders(), startTime))
+                    .thenApply(response -> logResponse(HttpMethod.GET, endpoint, startTime, 0, response))
+                    .thenApply(HelperUtils::verifyAndExtractBody)
                     .thenAccept(body -> {
                         client.closeClient();
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("The response body for GET {}: {}", endpoint, nonNull(body) ? body.encodePrettily() : null);
-                        }
                         S responseEntity = body.mapTo(responseType);
                         future.complete(responseEntity);
                     })
                     .exceptionally(t -> {
                         client.closeClient();
-                        logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.GET, endpoint, requestContext), t);
+                        OutboundRequestLogger.logFailure(HttpMethod.GET, endpoint, startTime, 0, t);
                         future.completeExceptionally(t.getCause());
                         return null;
                     });
         } catch (Exception e) {
-          logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.GET, requestEntry.getBaseEndpoint(), requestContext), e);
+          OutboundRequestLogger.logFailure(HttpMethod.GET, endpoint, startTime, 0, e);
           client.closeClient();
           future.completeExceptionally(e);
         }
@@ -259,37 +268,147 @@ public class RestClient {
     if (logger.isDebugEnabled()) {
       logger.debug("Calling GET {}", endpoint);
     }
+    long startTime = OutboundRequestLogger.start();
 
     try {
       client
         .request(HttpMethod.GET, endpoint, requestContext.getHeaders())
-        .thenApply(response -> {
-          if (logger.isDebugEnabled()) {
-            logger.debug("Validating response for GET {}", endpoint);
-          }
-          return verifyAndExtractBody(response);
-        })
+        .whenComplete(OutboundRequestMetrics.track(HttpMethod.GET, endpoint, requestContext.getHeaders(), startTime))
+        .thenApply(response -> logResponse(HttpMethod.GET, endpoint, startTime, 0, response))
+        .thenApply(HelperUtils::verifyAndExtractBody)
         .thenAccept(body -> {
           client.closeClient();
-          if (logger.isDebugEnabled()) {
-            logger.debug("The response body for GET {}: {}", endpoint, nonNull(body) ? body.encodePrettily() : null);
-          }
           future.complete(body);
         })
         .exceptionally(t -> {
           client.closeClient();
-          logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.GET, endpoint, requestContext), t);
+          OutboundRequestLogger.logFailure(HttpMethod.GET, endpoint, startTime, 0, t);
           future.completeExceptionally(t.getCause());
           return null;
         });
     } catch (Exception e) {
-      logger.error(String.format(EXCEPTION_CALLING_ENDPOINT_MSG, HttpMethod.GET, requestEntry.getBaseEndpoint(), requestContext), e);
+      OutboundRequestLogger.logFailure(HttpMethod.GET, endpoint, startTime, 0, e);
       client.closeClient();
       future.completeExceptionally(e);
     }
     return future;
   }
 
+  /**
+   * Retrieves collection and decodes the records of {@code entitiesKey} array one by one with
+   * {@link JsonCollectionDecoder}, without mapping the whole collection.
+   *
+   * @param entitiesKey name of the array with records in the collection, e.g. {@code pieces}
+   * @param recordType  type of the records
+   * @return future with the records of the collection
+   */
+  public <T> CompletableFuture<List<T>> getRecords(RequestEntry requestEntry, RequestContext requestContext, String entitiesKey,
+      Class<T> recordType) {
+    return getAsJsonObject(requestEntry, requestContext)
+      .thenApply(collection -> JsonCollectionDecoder.decode(collection, entitiesKey, recordType));
+  }
+
+  /**
+   * Retrieves all the records matching the request page by page using offset paging. The next page is requested only when
+   * the consumer completes processing of the previous one, so at most one page of the response is held in memory at a time.
+   * Offset paging is stable only if the records are sorted by a unique field, so {@code sortBy id} is appended to the
+   * query if it has no sorting.
+   *
+   * @param requestEntry request with the query, it is not changed: limit and offset are set on the copy for each page
+   * @param entitiesKey  name of the array with records in the collection, e.g. {@code pieces}
+   * @param recordType   type of the records
+   * @param pageConsumer consumer of the records of each page
+   * @return future completed when all the pages are consumed
+   */
+  public <T> CompletableFuture<Void> getPaged(RequestEntry requestEntry, RequestContext requestContext, String entitiesKey,
+      Class<T> recordType, Function<List<T>, CompletableFuture<Void>> pageConsumer) {
+    return getPaged(requestEntry, requestContext, entitiesKey, recordType, DEFAULT_PAGE_SIZE, pageConsumer);
+  }
+
+  /**
+   * Retrieves all the records matching the request with pages of {@code pageSize} records.
+   *
+   * @see #getPaged(RequestEntry, RequestContext, String, Class, Function)
+   */
+  public <T> CompletableFuture<Void> getPaged(RequestEntry requestEntry, RequestContext requestContext, String entitiesKey,
+      Class<T> recordType, int pageSize, Function<List<T>, CompletableFuture<Void>> pageConsumer) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    getNextPage(entry -> getRecords(entry, requestContext, entitiesKey, recordType), sortedById(requestEntry), 0, pageSize,
+      pageConsumer, future);
+    return future;
+  }
+
+  /**
+   * Retrieves all the records matching the request with pages of {@link #DEFAULT_PAGE_SIZE} records instead of one
+   * response with the whole collection. Only the size of the responses is bounded, all the records are collected in
+   * memory, so this method is only for the callers which need all the records at once. Use
+   * {@link #getPaged(RequestEntry, RequestContext, String, Class, Function)} to count, filter or otherwise process the
+   * records page by page.
+   */
+  public <T> CompletableFuture<List<T>> getAll(RequestEntry requestEntry, RequestContext requestContext, String entitiesKey,
+      Class<T> recordType) {
+    List<T> records = new ArrayList<>();
+    return getPaged(requestEntry, requestContext, entitiesKey, recordType, page -> {
+      records.addAll(page);
+      return CompletableFuture.completedFuture(null);
+    }).thenApply(v -> records);
+  }
+
+  /**
+   * Retrieves all the records matching the request as json objects page by page. As with
+   * {@link #getAll(RequestEntry, RequestContext, String, Class)}, all the records are collected in memory.
+   *
+   * @param entitiesKey name of the array with records in the collection, e.g. {@code items}
+   */
+  public CompletableFuture<List<JsonObject>> getAllAsJsonObjects(RequestEntry requestEntry, String entitiesKey,
+      RequestContext requestContext) {
+    List<JsonObject> records = new ArrayList<>();
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    getNextPage(entry -> getAsJsonObject(entry, requestContext).thenApply(collection -> getEntities(collection, entitiesKey)),
+      sortedById(requestEntry), 0, DEFAULT_PAGE_SIZE, page -> {
+        records.addAll(page);
+        return CompletableFuture.completedFuture(null);
+      }, future);
+    return future.thenApply(v -> records);
+  }
+
+  private <T> void getNextPage(Function<RequestEntry, CompletableFuture<List<T>>> pageLoader, RequestEntry requestEntry,
+      int offset, int pageSize, Function<List<T>, CompletableFuture<Void>> pageConsumer, CompletableFuture<Void> future) {
+    pageLoader.apply(requestEntry.copy().withOffset(offset).withLimit(pageSize))
+      .thenCompose(page -> pageConsumer.apply(page).thenApply(v -> page.size()))
+      .thenAccept(size -> {
+        if (size < pageSize) {
+          future.complete(null);
+        } else {
+          getNextPage(pageLoader, requestEntry, offset + size, pageSize, pageConsumer, future);
+        }
+      })
+      .exceptionally(t -> {
+        future.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+        return null;
+      });
+  }
+
+  private RequestEntry sortedById(RequestEntry requestEntry) {
+    String query = requestEntry.getQuery();
+    if (StringUtils.isBlank(query)) {
+      return requestEntry.copy().withQuery(ALL_RECORDS_QUERY + SORT_BY_ID);
+    }
+    return SORT_BY_PATTERN.matcher(query).find() ? requestEntry : requestEntry.copy().withQuery(query + SORT_BY_ID);
+  }
+
+  private List<JsonObject> getEntities(JsonObject collection, String entitiesKey) {
+    JsonArray entities = collection.getJsonArray(entitiesKey);
+    if (entities == null) {
+      return Collections.emptyList();
+    }
+    List<JsonObject> records = new ArrayList<>(entities.size());
+    for (int i = 0; i < entities.size(); i++) {
+      records.add(entities.getJsonObject(i));
+    }
+    return records;
+  }
+
   public HttpClientInterface getHttpClient(Map<String, String> okapiHeaders) {
     final String okapiURL = okapiHeaders.getOrDefault(RestConstants.OKAPI_URL, "");
     final String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -297,6 +416,11 @@ public class RestClient {
      return HttpClientFactory.getHttpClient(okapiURL, tenantId);
   }
 
+  private Response logResponse(HttpMethod method, String endpoint, long startTime, int requestBytes, Response response) {
+    OutboundRequestLogger.logResponse(method, endpoint, startTime, requestBytes, response);
+    return response;
+  }
+
   private void setDefaultHeaders(HttpClientInterface httpClient) {
     // The RMB's HttpModuleClient2.ACCEPT is in sentence case. Using the same format to avoid duplicates
     httpClient.setDefaultHeaders(Collections.singletonMap("Accept", APPLICATION_JSON + ", " + TEXT_PLAIN));
@@ -0,0 +1,154 @@
+package org.folio.rest.core;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.utils.HelperUtils;
+import org.folio.orders.utils.validators.CompositePoLineValidationUtil;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.Cost;
+import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.rest.jaxrs.model.Location;
+import org.folio.rest.jaxrs.model.Physical;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.reflect.ClassPath;
+
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
+
+/**
+ * Warms up the module before it starts serving requests, so the first requests after deployment don't pay for Jackson
+ * introspection of the generated models and interpretation of the hot code paths:
+ * <ul>
+ * <li>every model generated from the RAML and JSON schemas is serialized and deserialized once</li>
+ * <li>representative composite order is mapped to JSON and back and validated {@code orders.warmup.iterations} times</li>
+ * </ul>
+ * The warm-up is enabled with {@code -Dorders.warmup.enabled=true}. Time of each stage is logged and recorded in
+ * {@value #WARM_UP_METRIC} metric.
+ */
+public class WarmUp {
+
+  public static final String ENABLED_PROPERTY = "orders.warmup.enabled";
+  public static final String ITERATIONS_PROPERTY = "orders.warmup.iterations";
+  public static final String WARM_UP_METRIC = "orders.warmup";
+
+  private static final Logger logger = LogManager.getLogger(WarmUp.class);
+  private static final List<String> MODEL_PACKAGES = List.of("org.folio.rest.jaxrs.model", "org.folio.rest.acq.model");
+  private static final String STAGE_TAG = "stage";
+
+  private final int iterations;
+
+  public WarmUp() {
+    this(Integer.getInteger(ITERATIONS_PROPERTY, 200));
+  }
+
+  WarmUp(int iterations) {
+    this.iterations = iterations;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(ENABLED_PROPERTY);
+  }
+
+  /**
+   * Runs the warm-up on the calling thread, failures are logged and don't prevent the module from starting.
+   */
+  public void run() {
+    long start = System.nanoTime();
+    int models = timed("models", this::warmUpModels);
+    int orders = timed("orders", this::warmUpOrders);
+    logger.info("Warm-up completed in {} ms: {} models mapped, {} orders processed",
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), models, orders);
+  }
+
+  int warmUpModels() {
+    ObjectMapper mapper = DatabindCodec.mapper();
+    ClassPath classPath;
+    try {
+      classPath = ClassPath.from(WarmUp.class.getClassLoader());
+    } catch (IOException e) {
+      logger.warn("Failed to scan models for warm-up", e);
+      return 0;
+    }
+    int count = 0;
+    for (String modelPackage : MODEL_PACKAGES) {
+      for (ClassPath.ClassInfo classInfo : classPath.getTopLevelClassesRecursive(modelPackage)) {
+        if (warmUpModel(mapper, classInfo)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private boolean warmUpModel(ObjectMapper mapper, ClassPath.ClassInfo classInfo) {
+    try {
+      Class<?> modelClass = classInfo.load();
+      if (modelClass.isInterface() || modelClass.isEnum() || Modifier.isAbstract(modelClass.getModifiers())) {
+        return false;
+      }
+      Object model = mapper.readValue("{}", modelClass);
+      mapper.writeValueAsString(model);
+      return true;
+    } catch (Exception | LinkageError e) {
+      logger.debug("Model {} is skipped in warm-up", classInfo.getName(), e);
+      return false;
+    }
+  }
+
+  int warmUpOrders() {
+    int count = 0;
+    for (int i = 0; i < iterations; i++) {
+      try {
+        CompositePurchaseOrder order = JsonObject.mapFrom(buildOrder())
+          .mapTo(CompositePurchaseOrder.class);
+        for (CompositePoLine poLine : order.getCompositePoLines()) {
+          CompositePoLineValidationUtil.validatePoLine(poLine);
+          HelperUtils.calculateTotalQuantity(poLine);
+        }
+        count++;
+      } catch (Exception e) {
+        logger.debug("Order warm-up failed", e);
+      }
+    }
+    return count;
+  }
+
+  private CompositePurchaseOrder buildOrder() {
+    CompositePoLine poLine = new CompositePoLine().withId(UUID.randomUUID().toString())
+      .withTitleOrPackage("Warm-up")
+      .withOrderFormat(CompositePoLine.OrderFormat.PHYSICAL_RESOURCE)
+      .withCost(new Cost().withListUnitPrice(10d)
+        .withQuantityPhysical(1)
+        .withCurrency("USD"))
+      .withPhysical(new Physical().withCreateInventory(Physical.CreateInventory.NONE))
+      .withLocations(List.of(new Location().withLocationId(UUID.randomUUID().toString())
+        .withQuantity(1)
+        .withQuantityPhysical(1)))
+      .withFundDistribution(List.of(new FundDistribution().withFundId(UUID.randomUUID().toString())
+        .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+        .withValue(100d)));
+    return new CompositePurchaseOrder().withId(UUID.randomUUID().toString())
+      .withOrderType(CompositePurchaseOrder.OrderType.ONE_TIME)
+      .withCompositePoLines(List.of(poLine));
+  }
+
+  private int timed(String stage, IntSupplier action) {
+    Timer.Sample sample = Timer.start(OutboundRequestMetrics.getRegistry());
+    int result = action.getAsInt();
+    long nanos = sample.stop(Timer.builder(WARM_UP_METRIC)
+      .tag(STAGE_TAG, stage)
+      .register(OutboundRequestMetrics.getRegistry()));
+    logger.info("Warm-up of {} took {} ms", stage, TimeUnit.NANOSECONDS.toMillis(nanos));
+    return result;
+  }
+}
@@ -18,6 +18,7 @@ public class RequestEntry {
   private String baseEndpoint;
   private Map<String, String> pathParams = new HashMap<>();
   private Map<String, Object> queryParams = new HashMap<>();
+  private String query;
 
   public RequestEntry(String baseEndpoint) {
     this.baseEndpoint = baseEndpoint;
@@ -42,6 +43,7 @@ public class RequestEntry {
     if (StringUtils.isEmpty(query)) {
       return this;
     }
+    this.query = query;
     queryParams.put("query", encodeQuery(query, logger));
     return this;
   }
@@ -56,6 +58,24 @@ public class RequestEntry {
     return this;
   }
 
+  /**
+   * @return copy of the entry which can be changed without affecting this one
+   */
+  public RequestEntry copy() {
+    RequestEntry copy = new RequestEntry(baseEndpoint);
+    copy.pathParams = new HashMap<>(pathParams);
+    copy.queryParams = new HashMap<>(queryParams);
+    copy.query = query;
+    return copy;
+  }
+
+  /**
+   * @return not encoded query set by {@link #withQuery(String)}
+   */
+  public String getQuery() {
+    return query;
+  }
+
   public String getBaseEndpoint() {
     return baseEndpoint;
   }
@@ -11,6 +11,7 @@ import org.folio.helper.PurchaseOrderLineHelper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.ErrorCodes;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.core.RequestTrace;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Error;
@@ -46,6 +47,7 @@ public class CompositePoLineAPI implements OrdersOrderLines {
   @Validate
   public void postOrdersOrderLines(String lang, CompositePoLine poLine, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("POST /orders/order-lines", okapiHeaders, asyncResultHandler);
 
     PurchaseOrderLineHelper helper = new PurchaseOrderLineHelper(okapiHeaders, vertxContext, lang);
 
@@ -61,13 +63,13 @@ public class CompositePoLineAPI implements OrdersOrderLines {
             logger.info("Successfully added PO Line: {}", JsonObject.mapFrom(pol)
               .encodePrettily());
           }
-          asyncResultHandler
+          handler
             .handle(succeededFuture(helper.buildResponseWithLocation(String.format(ORDER_LINE_LOCATION_PREFIX, pol.getId()), pol)));
         } else {
           throw new HttpException(422, "");
         }
       })
-      .exceptionally(t -> handleErrorResponse(asyncResultHandler, helper, t));
+      .exceptionally(t -> handleErrorResponse(handler, helper, t));
   }
 
   @Override
@@ -103,6 +105,7 @@ public class CompositePoLineAPI implements OrdersOrderLines {
   @Validate
   public void putOrdersOrderLinesById(String lineId, String lang, CompositePoLine poLine, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("PUT /orders/order-lines/{id}", okapiHeaders, asyncResultHandler);
     logger.info("Handling PUT Order Line operation...");
 
     PurchaseOrderLineHelper helper = new PurchaseOrderLineHelper(okapiHeaders, vertxContext, lang);
@@ -125,14 +128,14 @@ public class CompositePoLineAPI implements OrdersOrderLines {
         if (!errors.isEmpty()) {
           PutOrdersOrderLinesByIdResponse response = PutOrdersOrderLinesByIdResponse
             .respond422WithApplicationJson(new Errors().withErrors(errors));
-          asyncResultHandler.handle(succeededFuture(response));
+          handler.handle(succeededFuture(response));
           return;
         }
         helper.updateOrderLine(poLine, new RequestContext(vertxContext, okapiHeaders))
-          .thenAccept(v -> asyncResultHandler.handle(succeededFuture(helper.buildNoContentResponse())))
-          .exceptionally(t -> handleErrorResponse(asyncResultHandler, helper, t));
+          .thenAccept(v -> handler.handle(succeededFuture(helper.buildNoContentResponse())))
+          .exceptionally(t -> handleErrorResponse(handler, helper, t));
       })
-      .exceptionally(t -> handleErrorResponse(asyncResultHandler, helper, t));
+      .exceptionally(t -> handleErrorResponse(handler, helper, t));
   }
 
 }
@@ -34,12 +34,12 @@ public class HoldingsSummaryAPI extends BaseApi implements OrdersHoldingSummary
 
   @Override
   @Validate
-  public void getOrdersHoldingSummaryById(String holdingId, String lang, Map<String, String> okapiHeaders,
-      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+  public void getOrdersHoldingSummaryById(String holdingId, int offset, int limit, String lang,
+      Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     var requestContext = new RequestContext(vertxContext, okapiHeaders);
 
-    holdingsSummaryService.getHoldingsSummary(holdingId, requestContext)
+    holdingsSummaryService.getHoldingsSummary(holdingId, offset, limit, requestContext)
       .thenAccept(holdingSummary -> {
         if (logger.isInfoEnabled()) {
           logger.info("Successfully retrieved : {}", JsonObject.mapFrom(holdingSummary).encodePrettily());
@@ -0,0 +1,60 @@
+package org.folio.rest.impl;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.core.OutboundRequestMetrics;
+import org.folio.rest.resource.interfaces.PostDeployVerticle;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The class exposes metrics in Prometheus format on separate port. The endpoint is started only if
+ * {@value #METRICS_PORT_PROPERTY} system property is set.
+ */
+public class InitMetrics implements PostDeployVerticle {
+  public static final String METRICS_PORT_PROPERTY = "orders.metrics.port";
+  public static final String METRICS_PATH = "/metrics";
+
+  private final Logger logger = LogManager.getLogger();
+
+  @Override
+  public void init(Vertx vertx, Context context, Handler<AsyncResult<Boolean>> resultHandler) {
+    Integer port = Integer.getInteger(METRICS_PORT_PROPERTY);
+    if (port == null) {
+      resultHandler.handle(Future.succeededFuture(true));
+      return;
+    }
+
+    PrometheusMeterRegistry registry = OutboundRequestMetrics.getRegistry();
+    vertx.createHttpServer()
+      .requestHandler(request -> handleRequest(request, registry))
+      .listen(port, result -> {
+        if (result.succeeded()) {
+          logger.info("Metrics are available on port {} at {}", port, METRICS_PATH);
+          resultHandler.handle(Future.succeededFuture(true));
+        } else {
+          logger.error("Failed to start metrics endpoint on port {}", port, result.cause());
+          resultHandler.handle(Future.failedFuture(result.cause()));
+        }
+      });
+  }
+
+  private void handleRequest(HttpServerRequest request, PrometheusMeterRegistry registry) {
+    if (METRICS_PATH.equals(request.path())) {
+      request.response()
+        .putHeader(CONTENT_TYPE, TextFormat.CONTENT_TYPE_004)
+        .end(registry.scrape());
+    } else {
+      request.response().setStatusCode(404).end();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.rest.impl;
 
 import static io.vertx.core.Future.succeededFuture;
 import static org.folio.orders.utils.ErrorCodes.GENERIC_ERROR_CODE;
+import static org.folio.rest.RestConstants.OKAPI_URL;
 
 import java.util.Map;
 
@@ -16,13 +17,16 @@ import org.folio.helper.PurchaseOrderHelper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.core.RequestTrace;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.LedgerFiscalYearRollover;
+import org.folio.rest.jaxrs.model.ReEncumberJob;
 import org.folio.rest.jaxrs.resource.OrdersCompositeOrders;
 import org.folio.rest.jaxrs.resource.OrdersRollover;
 import org.folio.service.orders.OrderReEncumberService;
 import org.folio.service.orders.OrderRolloverService;
+import org.folio.service.orders.ReEncumberJobService;
 import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -37,11 +41,14 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   private static final Logger logger = LogManager.getLogger();
 
   private static final String ORDERS_LOCATION_PREFIX = "/orders/composite-orders/%s";
+  private static final String RE_ENCUMBER_JOBS_LOCATION_PREFIX = "/orders/rollover/re-encumber-jobs/%s";
 
   @Autowired
   private OrderRolloverService orderRolloverService;
   @Autowired
   private OrderReEncumberService orderReEncumberService;
+  @Autowired
+  private ReEncumberJobService reEncumberJobService;
 
   public OrdersApi(Vertx vertx, String tenantId) {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
@@ -51,30 +58,33 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   @Validate
   public void deleteOrdersCompositeOrdersById(String id, String lang, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("DELETE /orders/composite-orders/{id}", okapiHeaders, asyncResultHandler);
 
     PurchaseOrderHelper helper = new PurchaseOrderHelper(okapiHeaders, vertxContext, lang);
     helper
       .deleteOrder(id)
-      .thenAccept(v -> asyncResultHandler.handle(succeededFuture(helper.buildNoContentResponse())))
-      .exceptionally(t -> HelperUtils.handleErrorResponse(asyncResultHandler, helper, t));
+      .thenAccept(v -> handler.handle(succeededFuture(helper.buildNoContentResponse())))
+      .exceptionally(t -> HelperUtils.handleErrorResponse(handler, helper, t));
   }
 
   @Override
   @Validate
-  public void getOrdersCompositeOrdersById(String id, String lang, Map<String, String> okapiHeaders,
+  public void getOrdersCompositeOrdersById(String id, String include, String lang, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("GET /orders/composite-orders/{id}", okapiHeaders, asyncResultHandler);
 
     PurchaseOrderHelper helper = new PurchaseOrderHelper(okapiHeaders, vertxContext, lang);
     helper
-      .getCompositeOrder(id)
-      .thenAccept(order -> asyncResultHandler.handle(succeededFuture(helper.buildOkResponse(order))))
-      .exceptionally(t -> HelperUtils.handleErrorResponse(asyncResultHandler, helper, t));
+      .getCompositeOrder(id, include)
+      .thenAccept(order -> handler.handle(succeededFuture(helper.buildOkResponse(order))))
+      .exceptionally(t -> HelperUtils.handleErrorResponse(handler, helper, t));
   }
 
   @Override
   @Validate
   public void postOrdersCompositeOrders(String lang, CompositePurchaseOrder compPO, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("POST /orders/composite-orders", okapiHeaders, asyncResultHandler);
 
     PurchaseOrderHelper helper = new PurchaseOrderHelper(okapiHeaders, vertxContext, lang);
 
@@ -87,20 +97,21 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
           return helper.createPurchaseOrder(compPO, new RequestContext(vertxContext, okapiHeaders))
             .thenAccept(withIds -> {
               logger.info("Successfully Placed Order: {}", JsonObject.mapFrom(withIds).encodePrettily());
-              asyncResultHandler.handle(succeededFuture(helper
+              handler.handle(succeededFuture(helper
                 .buildResponseWithLocation(String.format(ORDERS_LOCATION_PREFIX, withIds.getId()), withIds)));
             });
         } else {
           throw new HttpException(422, GENERIC_ERROR_CODE);
         }
       })
-      .exceptionally(t -> HelperUtils.handleErrorResponse(asyncResultHandler, helper, t));
+      .exceptionally(t -> HelperUtils.handleErrorResponse(handler, helper, t));
   }
 
   @Override
   @Validate
   public void putOrdersCompositeOrdersById(String orderId, String lang, CompositePurchaseOrder compPO,
       Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("PUT /orders/composite-orders/{id}", okapiHeaders, asyncResultHandler);
     // Set order id from path if not specified in body
     populateOrderId(orderId, compPO);
 
@@ -115,16 +126,16 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
               if (logger.isInfoEnabled()) {
                 logger.info("Successfully Updated Order: {}", JsonObject.mapFrom(compPO).encodePrettily());
               }
-              asyncResultHandler.handle(succeededFuture(helper.buildNoContentResponse()));
+              handler.handle(succeededFuture(helper.buildNoContentResponse()));
             });
         } else {
           logger.error("Validation error. Failed to update purchase order with id={}", orderId);
-          return FolioVertxCompletableFuture.runAsync(vertxContext, () -> asyncResultHandler.handle(succeededFuture(helper.buildErrorResponse(422))));
+          return FolioVertxCompletableFuture.runAsync(vertxContext, () -> handler.handle(succeededFuture(helper.buildErrorResponse(422))));
         }
       })
       .exceptionally(t -> {
         logger.error("Failed to update purchase order with id={}", orderId, t);
-        return HelperUtils.handleErrorResponse(asyncResultHandler, helper, t);
+        return HelperUtils.handleErrorResponse(handler, helper, t);
       });
   }
 
@@ -172,4 +183,23 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
         .thenAccept(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
         .exceptionally(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
+
+  @Override
+  @Validate
+  public void postOrdersRolloverReEncumberJobs(String lang, ReEncumberJob entity, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    reEncumberJobService.startJob(entity, new RequestContext(vertxContext, okapiHeaders))
+      .thenAccept(job -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL),
+        String.format(RE_ENCUMBER_JOBS_LOCATION_PREFIX, job.getId()), job))))
+      .exceptionally(fail -> handleErrorResponse(asyncResultHandler, fail));
+  }
+
+  @Override
+  @Validate
+  public void getOrdersRolloverReEncumberJobsById(String id, String lang, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    reEncumberJobService.getJob(id, new RequestContext(vertxContext, okapiHeaders))
+      .thenAccept(job -> asyncResultHandler.handle(succeededFuture(buildOkResponse(job))))
+      .exceptionally(fail -> handleErrorResponse(asyncResultHandler, fail));
+  }
 }
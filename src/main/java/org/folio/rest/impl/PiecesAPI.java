@@ -12,7 +12,9 @@ import org.apache.logging.log4j.Logger;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Piece;
+import org.folio.rest.jaxrs.model.PieceCollection;
 import org.folio.rest.jaxrs.resource.OrdersPieces;
+import org.folio.rest.jaxrs.resource.OrdersPiecesBatch;
 import org.folio.service.pieces.PieceCreationFlowManager;
 import org.folio.service.pieces.PieceDeletionFlowManager;
 import org.folio.service.pieces.PieceStorageService;
@@ -26,7 +28,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
-public class PiecesAPI extends BaseApi implements OrdersPieces {
+public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesBatch {
 
   private static final Logger logger = LogManager.getLogger();
 
@@ -65,6 +67,19 @@ public class PiecesAPI extends BaseApi implements OrdersPieces {
       .exceptionally(t -> handleErrorResponse(asyncResultHandler, t));
   }
 
+  @Override
+  @Validate
+  public void postOrdersPiecesBatch(String lang, PieceCollection entity, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    pieceCreationFlowManager.createPieces(entity.getPieces(), new RequestContext(vertxContext, okapiHeaders))
+      .thenAccept(pieces -> {
+        logger.info("Successfully created {} pieces", pieces.size());
+        asyncResultHandler.handle(succeededFuture(buildOkResponse(new PieceCollection().withPieces(pieces)
+          .withTotalRecords(pieces.size()))));
+      })
+      .exceptionally(t -> handleErrorResponse(asyncResultHandler, t));
+  }
+
   @Override
   public void getOrdersPiecesById(String id, String lang, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
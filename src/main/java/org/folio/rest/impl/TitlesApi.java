@@ -14,6 +14,7 @@ import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Title;
+import org.folio.rest.jaxrs.model.TitleCollection;
 import org.folio.rest.jaxrs.resource.OrdersTitles;
 import org.folio.service.titles.TitlesService;
 import org.folio.spring.SpringContextUtil;
@@ -53,6 +54,15 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
       .exceptionally(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
 
+  @Override
+  @Validate
+  public void postOrdersTitlesBatch(String lang, TitleCollection entity, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    titlesService.createTitles(entity.getTitles(), new RequestContext(vertxContext, okapiHeaders))
+      .thenAccept(results -> asyncResultHandler.handle(succeededFuture(buildOkResponse(results))))
+      .exceptionally(fail -> handleErrorResponse(asyncResultHandler, fail));
+  }
+
   @Override
   @Validate
   public void getOrdersTitlesById(String id, String lang, Map<String, String> okapiHeaders,
@@ -14,6 +14,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -36,8 +37,11 @@ public class AcquisitionsUnitsService {
   private static final String ENDPOINT_ACQ_UNITS_MEMBERSHIPS_BY_ID = ENDPOINT_ACQ_UNITS_MEMBERSHIPS + "/{id}";
   private static final String ENDTOPINT_ACQ_UNITS = resourcesPath(ACQUISITIONS_UNITS);
   private static final String ENDTOPINT_ACQ_UNITS_BY_ID = ENDTOPINT_ACQ_UNITS + "/{id}";
+  private static final long CACHE_TTL_SECONDS = 30;
 
   private final RestClient restClient;
+  private final ReferenceDataCache<List<String>> acqUnitIdsForSearchCache = ReferenceDataCache.create("acqUnitIdsForSearch",
+    CACHE_TTL_SECONDS);
 
   public AcquisitionsUnitsService(RestClient restClient) {
     this.restClient = restClient;
@@ -69,12 +73,12 @@ public class AcquisitionsUnitsService {
 
   public CompletableFuture<AcquisitionsUnit> createAcquisitionsUnit(AcquisitionsUnit unit, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDTOPINT_ACQ_UNITS);
-    return restClient.post(requestEntry, unit, requestContext, AcquisitionsUnit.class);
+    return invalidateAcqUnitIdsOnSuccess(restClient.post(requestEntry, unit, requestContext, AcquisitionsUnit.class), requestContext);
   }
 
   public CompletableFuture<Void> updateAcquisitionsUnit(AcquisitionsUnit unit, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDTOPINT_ACQ_UNITS_BY_ID).withId(unit.getId());
-    return restClient.put(requestEntry, unit, requestContext);
+    return invalidateAcqUnitIdsOnSuccess(restClient.put(requestEntry, unit, requestContext), requestContext);
   }
 
   public CompletableFuture<AcquisitionsUnit> getAcquisitionsUnit(String id, RequestContext requestContext) {
@@ -87,13 +91,22 @@ public class AcquisitionsUnitsService {
       .thenCompose(unit -> updateAcquisitionsUnit(unit, requestContext));
   }
 
+  /**
+   * Ids of the units used in the expression are cached per user for a short time, see {@link ReferenceDataCache}, and
+   * invalidated when units or memberships are changed by the module. The ids are not cached for the requests without
+   * the user.
+   */
   public CompletableFuture<String> buildAcqUnitsCqlExprToSearchRecords(RequestContext requestContext, String tableAlias) {
-    return getAcqUnitIdsForSearch(requestContext).thenApply(ids -> {
-      if (ids.isEmpty()) {
-        return NO_ACQ_UNIT_ASSIGNED_CQL;
-      }
-      return String.format("%s or (%s)", HelperUtils.convertFieldListToCqlQuery(ids, tableAlias + ACQUISITIONS_UNIT_IDS, false), NO_ACQ_UNIT_ASSIGNED_CQL);
-    });
+    String userId = getCurrentUserId(requestContext);
+    CompletableFuture<List<String>> acqUnitIds = userId == null ? getAcqUnitIdsForSearch(requestContext)
+      : acqUnitIdsForSearchCache.get(userId, requestContext, () -> getAcqUnitIdsForSearch(requestContext));
+    return acqUnitIds
+      .thenApply(ids -> {
+        if (ids.isEmpty()) {
+          return NO_ACQ_UNIT_ASSIGNED_CQL;
+        }
+        return String.format("%s or (%s)", HelperUtils.convertFieldListToCqlQuery(ids, tableAlias + ACQUISITIONS_UNIT_IDS, false), NO_ACQ_UNIT_ASSIGNED_CQL);
+      });
   }
 
   private CompletableFuture<List<String>> getAcqUnitIdsForSearch(RequestContext requestContext) {
@@ -140,12 +153,13 @@ public class AcquisitionsUnitsService {
   public CompletableFuture<AcquisitionsUnitMembership> createAcquisitionsUnitsMembership(AcquisitionsUnitMembership membership,
                                                                                          RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT_ACQ_UNITS_MEMBERSHIPS);
-    return restClient.post(requestEntry, membership, requestContext, AcquisitionsUnitMembership.class);
+    return invalidateAcqUnitIdsOnSuccess(restClient.post(requestEntry, membership, requestContext, AcquisitionsUnitMembership.class),
+      requestContext);
   }
 
   public CompletableFuture<Void> updateAcquisitionsUnitsMembership(AcquisitionsUnitMembership membership, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT_ACQ_UNITS_MEMBERSHIPS_BY_ID).withId(membership.getId());
-    return restClient.put(requestEntry, membership, requestContext);
+    return invalidateAcqUnitIdsOnSuccess(restClient.put(requestEntry, membership, requestContext), requestContext);
   }
 
   public CompletableFuture<AcquisitionsUnitMembership> getAcquisitionsUnitsMembership(String id, RequestContext requestContext) {
@@ -155,7 +169,7 @@ public class AcquisitionsUnitsService {
 
   public CompletableFuture<Void> deleteAcquisitionsUnitsMembership(String id, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT_ACQ_UNITS_MEMBERSHIPS_BY_ID).withId(id);
-    return restClient.delete(requestEntry, requestContext);
+    return invalidateAcqUnitIdsOnSuccess(restClient.delete(requestEntry, requestContext), requestContext);
   }
 
   private CompletableFuture<List<String>> getOpenForReadAcqUnitIds(RequestContext requestContext) {
@@ -173,6 +187,13 @@ public class AcquisitionsUnitsService {
     });
   }
 
+  private <T> CompletableFuture<T> invalidateAcqUnitIdsOnSuccess(CompletableFuture<T> future, RequestContext requestContext) {
+    return future.thenApply(result -> {
+      acqUnitIdsForSearchCache.invalidateAll(requestContext);
+      return result;
+    });
+  }
+
   private String getCurrentUserId(RequestContext requestContext) {
     return requestContext.getHeaders().get(OKAPI_USERID_HEADER);
   }
@@ -9,6 +9,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -16,15 +17,24 @@ import org.folio.rest.jaxrs.model.Prefix;
 import org.folio.rest.jaxrs.model.PrefixCollection;
 import org.folio.service.orders.PurchaseOrderService;
 
+/**
+ * Prefixes and collections of prefixes are cached per tenant, see {@link ReferenceDataCache}, and invalidated when
+ * prefixes are changed through this instance of the module. Prefixes found used by orders are remembered, so repeated
+ * deletion attempts don't search orders.
+ */
 public class PrefixService {
 
   private static final Logger logger = LogManager.getLogger();
   private static final String ENDPOINT = "/orders-storage/configuration/prefixes";
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
-
+  private static final long CACHE_TTL_SECONDS = 60;
 
   private final RestClient restClient;
   private final PurchaseOrderService purchaseOrderService;
+  private final ReferenceDataCache<PrefixCollection> prefixCollectionsCache = ReferenceDataCache.create("prefixCollections",
+    CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<Prefix> prefixesCache = ReferenceDataCache.create("prefixes", CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<Boolean> usedPrefixesCache = ReferenceDataCache.create("usedPrefixes", CACHE_TTL_SECONDS);
 
   public PrefixService(RestClient restClient, PurchaseOrderService purchaseOrderService) {
     this.restClient = restClient;
@@ -32,18 +42,26 @@ public class PrefixService {
   }
 
   public CompletableFuture<PrefixCollection> getPrefixes(String query, int offset, int limit, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
-    return restClient.get(requestEntry, requestContext, PrefixCollection.class);
+    return prefixCollectionsCache.get(ReferenceDataCache.getCollectionKey(query, offset, limit), requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
+      return restClient.get(requestEntry, requestContext, PrefixCollection.class);
+    });
   }
 
   public CompletableFuture<Prefix> getPrefixById(String id, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.get(requestEntry, requestContext, Prefix.class);
+    return prefixesCache.get(id, requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
+      return restClient.get(requestEntry, requestContext, Prefix.class);
+    });
   }
 
   public CompletableFuture<Prefix> createPrefix(Prefix prefix, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT);
-    return restClient.post(requestEntry, prefix, requestContext, Prefix.class);
+    return restClient.post(requestEntry, prefix, requestContext, Prefix.class)
+      .thenApply(created -> {
+        prefixCollectionsCache.invalidateAll(requestContext);
+        return created;
+      });
   }
 
   public CompletableFuture<Void> updatePrefix(String id, Prefix prefix, RequestContext requestContext) {
@@ -55,24 +73,43 @@ public class PrefixService {
       return future;
     }
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.put(requestEntry, prefix, requestContext);
+    return restClient.put(requestEntry, prefix, requestContext)
+      .thenRun(() -> invalidatePrefix(id, requestContext));
   }
 
   public CompletableFuture<Void> deletePrefix(String id, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return getPrefixById(id, requestContext)
+    // the prefix to delete is loaded from the storage, only the check if it is used is cached
+    return restClient.get(requestEntry, requestContext, Prefix.class)
       .thenCompose(prefix -> checkPrefixNotUsed(prefix, requestContext))
-      .thenCompose(aVoid -> restClient.delete(requestEntry, requestContext));
+      .thenCompose(aVoid -> restClient.delete(requestEntry, requestContext))
+      .thenRun(() -> invalidatePrefix(id, requestContext));
   }
 
   private CompletableFuture<Void> checkPrefixNotUsed(Prefix prefix, RequestContext requestContext) {
+    // only used prefixes are cached, the loader completes with null for the prefix not used by orders
+    return usedPrefixesCache.get(prefix.getName(), requestContext, () -> isPrefixUsed(prefix, requestContext))
+      .thenAccept(used -> {
+        if (Boolean.TRUE.equals(used)) {
+          throw new HttpException(400, PREFIX_IS_USED);
+        }
+      });
+  }
+
+  private CompletableFuture<Boolean> isPrefixUsed(Prefix prefix, RequestContext requestContext) {
     String query = "poNumberPrefix==" + prefix.getName();
     return purchaseOrderService.getPurchaseOrders(query, 0, 0, requestContext)
-      .thenAccept(purchaseOrders -> {
+      .thenApply(purchaseOrders -> {
         if (purchaseOrders.getTotalRecords() > 0) {
           logger.error("Prefix is used by {} orders", purchaseOrders.getTotalRecords());
-          throw new HttpException(400, PREFIX_IS_USED);
+          return Boolean.TRUE;
         }
+        return null;
       });
   }
+
+  private void invalidatePrefix(String id, RequestContext requestContext) {
+    prefixesCache.invalidate(id, requestContext);
+    prefixCollectionsCache.invalidateAll(requestContext);
+  }
 }
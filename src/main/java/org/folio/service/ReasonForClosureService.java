@@ -6,37 +6,55 @@ import static org.folio.orders.utils.ErrorCodes.MISMATCH_BETWEEN_ID_IN_PATH_AND_
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.ReasonForClosure;
 import org.folio.rest.jaxrs.model.ReasonForClosureCollection;
 
+/**
+ * Reasons for closure and collections of the reasons are cached per tenant, see {@link ReferenceDataCache}, and
+ * invalidated when the reasons are changed through this instance of the module.
+ */
 public class ReasonForClosureService {
 
   private static final String ENDPOINT = "/orders-storage/configuration/reasons-for-closure";
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
+  private static final long CACHE_TTL_SECONDS = 60;
   private final RestClient restClient;
+  private final ReferenceDataCache<ReasonForClosureCollection> reasonForClosureCollectionsCache = ReferenceDataCache
+    .create("reasonForClosureCollections", CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<ReasonForClosure> reasonsForClosureCache = ReferenceDataCache.create("reasonsForClosure",
+    CACHE_TTL_SECONDS);
 
   public ReasonForClosureService(RestClient restClient) {
     this.restClient = restClient;
   }
 
   public CompletableFuture<ReasonForClosureCollection> getReasonsForClosure(String query, int offset, int limit, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
-    return restClient.get(requestEntry, requestContext, ReasonForClosureCollection.class);
+    return reasonForClosureCollectionsCache.get(ReferenceDataCache.getCollectionKey(query, offset, limit), requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
+      return restClient.get(requestEntry, requestContext, ReasonForClosureCollection.class);
+    });
   }
 
   public CompletableFuture<ReasonForClosure> getReasonForClosureById(String id, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.get(requestEntry, requestContext, ReasonForClosure.class);
+    return reasonsForClosureCache.get(id, requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
+      return restClient.get(requestEntry, requestContext, ReasonForClosure.class);
+    });
   }
 
   public CompletableFuture<ReasonForClosure> createReasonForClosure(ReasonForClosure reasonForClosure, RequestContext requestContext) {
     // Set Source.USER according to requirement. Source.SYSTEM was populated by storage module.
     reasonForClosure.setSource(ReasonForClosure.Source.USER);
     RequestEntry requestEntry = new RequestEntry(ENDPOINT);
-    return restClient.post(requestEntry, reasonForClosure, requestContext, ReasonForClosure.class);
+    return restClient.post(requestEntry, reasonForClosure, requestContext, ReasonForClosure.class)
+      .thenApply(created -> {
+        reasonForClosureCollectionsCache.invalidateAll(requestContext);
+        return created;
+      });
   }
 
   public CompletableFuture<Void> updateReasonForClosure(String id, ReasonForClosure reasonForClosure, RequestContext requestContext) {
@@ -52,12 +70,19 @@ public class ReasonForClosureService {
     // Set Source.USER according to requirement. Source.SYSTEM was populated by storage module.
     reasonForClosure.setSource(ReasonForClosure.Source.USER);
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.put(requestEntry, reasonForClosure, requestContext);
+    return restClient.put(requestEntry, reasonForClosure, requestContext)
+      .thenRun(() -> invalidateReasonForClosure(id, requestContext));
   }
 
   public CompletableFuture<Void> deleteReasonForClosure(String id, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.delete(requestEntry, requestContext);
+    return restClient.delete(requestEntry, requestContext)
+      .thenRun(() -> invalidateReasonForClosure(id, requestContext));
+  }
+
+  private void invalidateReasonForClosure(String id, RequestContext requestContext) {
+    reasonsForClosureCache.invalidate(id, requestContext);
+    reasonForClosureCollectionsCache.invalidateAll(requestContext);
   }
 
 }
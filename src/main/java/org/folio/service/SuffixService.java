@@ -9,6 +9,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -16,14 +17,24 @@ import org.folio.rest.jaxrs.model.Suffix;
 import org.folio.rest.jaxrs.model.SuffixCollection;
 import org.folio.service.orders.PurchaseOrderService;
 
+/**
+ * Suffixes and collections of suffixes are cached per tenant, see {@link ReferenceDataCache}, and invalidated when
+ * suffixes are changed through this instance of the module. Suffixes found used by orders are remembered, so repeated
+ * deletion attempts don't search orders.
+ */
 public class SuffixService {
 
   private static final Logger logger = LogManager.getLogger();
   private static final String ENDPOINT = "/orders-storage/configuration/suffixes";
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
+  private static final long CACHE_TTL_SECONDS = 60;
 
   private final RestClient restClient;
   private final PurchaseOrderService purchaseOrderService;
+  private final ReferenceDataCache<SuffixCollection> suffixCollectionsCache = ReferenceDataCache.create("suffixCollections",
+    CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<Suffix> suffixesCache = ReferenceDataCache.create("suffixes", CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<Boolean> usedSuffixesCache = ReferenceDataCache.create("usedSuffixes", CACHE_TTL_SECONDS);
 
   public SuffixService(RestClient restClient, PurchaseOrderService purchaseOrderService) {
     this.restClient = restClient;
@@ -31,20 +42,28 @@ public class SuffixService {
   }
 
   public CompletableFuture<SuffixCollection> getSuffixes(String query, int offset, int limit, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
-      .withOffset(offset)
-      .withLimit(limit);
-    return restClient.get(requestEntry, requestContext, SuffixCollection.class);
+    return suffixCollectionsCache.get(ReferenceDataCache.getCollectionKey(query, offset, limit), requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
+        .withOffset(offset)
+        .withLimit(limit);
+      return restClient.get(requestEntry, requestContext, SuffixCollection.class);
+    });
   }
 
   public CompletableFuture<Suffix> getSuffixById(String id, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.get(requestEntry, requestContext, Suffix.class);
+    return suffixesCache.get(id, requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
+      return restClient.get(requestEntry, requestContext, Suffix.class);
+    });
   }
 
   public CompletableFuture<Suffix> createSuffix(Suffix suffix, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT);
-    return restClient.post(requestEntry, suffix, requestContext, Suffix.class);
+    return restClient.post(requestEntry, suffix, requestContext, Suffix.class)
+      .thenApply(created -> {
+        suffixCollectionsCache.invalidateAll(requestContext);
+        return created;
+      });
   }
 
   public CompletableFuture<Void> updateSuffix(String id, Suffix suffix, RequestContext requestContext) {
@@ -56,23 +75,43 @@ public class SuffixService {
       return future;
     }
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.put(requestEntry, suffix, requestContext);
+    return restClient.put(requestEntry, suffix, requestContext)
+      .thenRun(() -> invalidateSuffix(id, requestContext));
   }
 
   public CompletableFuture<Void> deleteSuffix(String id, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return getSuffixById(id, requestContext).thenCompose(suffix -> checkSuffixNotUsed(suffix, requestContext))
-      .thenCompose(aVoid -> restClient.delete(requestEntry, requestContext));
+    // the suffix to delete is loaded from the storage, only the check if it is used is cached
+    return restClient.get(requestEntry, requestContext, Suffix.class)
+      .thenCompose(suffix -> checkSuffixNotUsed(suffix, requestContext))
+      .thenCompose(aVoid -> restClient.delete(requestEntry, requestContext))
+      .thenRun(() -> invalidateSuffix(id, requestContext));
   }
 
   private CompletableFuture<Void> checkSuffixNotUsed(Suffix suffix, RequestContext requestContext) {
+    // only used suffixes are cached, the loader completes with null for the suffix not used by orders
+    return usedSuffixesCache.get(suffix.getName(), requestContext, () -> isSuffixUsed(suffix, requestContext))
+      .thenAccept(used -> {
+        if (Boolean.TRUE.equals(used)) {
+          throw new HttpException(400, SUFFIX_IS_USED);
+        }
+      });
+  }
+
+  private CompletableFuture<Boolean> isSuffixUsed(Suffix suffix, RequestContext requestContext) {
     String query = "poNumberSuffix==" + suffix.getName();
     return purchaseOrderService.getPurchaseOrders(query, 0, 0, requestContext)
-      .thenAccept(purchaseOrders -> {
+      .thenApply(purchaseOrders -> {
         if (purchaseOrders.getTotalRecords() > 0) {
           logger.error("Suffix is used by {} orders", purchaseOrders.getTotalRecords());
-          throw new HttpException(400, SUFFIX_IS_USED);
+          return Boolean.TRUE;
         }
+        return null;
       });
   }
+
+  private void invalidateSuffix(String id, RequestContext requestContext) {
+    suffixesCache.invalidate(id, requestContext);
+    suffixCollectionsCache.invalidateAll(requestContext);
+  }
 }
@@ -1,52 +1,64 @@
 package org.folio.service;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.ResourcePathResolver.TAGS;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
+import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
-import org.apache.commons.collections4.CollectionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.acq.model.tag.Tag;
 import org.folio.rest.acq.model.tag.TagCollection;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 
+import one.util.streamex.StreamEx;
+
 public class TagService {
 
+  private static final Logger logger = LogManager.getLogger(TagService.class);
+
   private static final String TAG_ENDPOINT = resourcesPath(TAGS);
+  private static final String LABEL = "label";
+  private static final long CACHE_TTL_SECONDS = 300;
+  static final int CREATE_BATCH_SIZE = 10;
 
   private final RestClient restClient;
+  private final ReferenceDataCache<Tag> knownTagsCache = ReferenceDataCache.create("tags", CACHE_TTL_SECONDS);
 
   public TagService(RestClient restClient) {
     this.restClient = restClient;
   }
 
+  /**
+   * Creates the tags which don't exist yet. The labels already seen for the tenant are not looked up again, the others
+   * are searched with one query per {@value org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ} labels. Missing tags are
+   * created in batches of {@value #CREATE_BATCH_SIZE} parallel requests, a tag created concurrently by another request is
+   * not considered as failure.
+   *
+   * @param tagLabels labels of the tags
+   * @return future completed when all the tags exist
+   */
   public CompletableFuture<Void> createTagsIfMissing(Set<String> tagLabels, RequestContext requestContext) {
-    List<String> tagList = new ArrayList<>(tagLabels);
-    String query = HelperUtils.convertFieldListToCqlQuery(tagList, "label", true);
-
-    return getTags(query, 0, Integer.MAX_VALUE, requestContext)
-      .thenApply(existingTagsCollection -> {
-        List<String> existingTags = existingTagsCollection.getTags().stream()
-          .map(Tag::getLabel)
-          .collect(Collectors.toList());
-
-        if (!existingTags.isEmpty()) {
-          return CollectionUtils.removeAll(tagList, existingTags);
-        }
-        return tagList;
-      })
-      .thenCompose(tagsForCreate -> {
-        List<CompletableFuture<Tag>> futures = new ArrayList<>();
-        tagsForCreate.forEach(tag -> futures.add(createTag(tag, requestContext)));
-
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    return knownTagsCache.getAll(tagLabels, requestContext, labels -> getTagsByLabels(labels, requestContext))
+      .thenCompose(existingTags -> {
+        List<String> tagsForCreate = tagLabels.stream()
+          .filter(label -> !existingTags.containsKey(label))
+          .collect(toList());
+        return createTags(tagsForCreate, requestContext);
       });
   }
 
@@ -64,4 +76,43 @@ public class TagService {
     return restClient.post(requestEntry, tag, requestContext, Tag.class);
   }
 
+  private CompletableFuture<Map<String, Tag>> getTagsByLabels(List<String> labels, RequestContext requestContext) {
+    return collectResultsOnSuccess(StreamEx.ofSubLists(labels, MAX_IDS_FOR_GET_RQ)
+      .map(chunk -> getTags(HelperUtils.convertFieldListToCqlQuery(chunk, LABEL, true), 0, Integer.MAX_VALUE, requestContext))
+      .toList())
+      .thenApply(collections -> StreamEx.of(collections)
+        .flatCollection(TagCollection::getTags)
+        .toMap(Tag::getLabel, Function.identity(), (tag, duplicate) -> tag));
+  }
+
+  private CompletableFuture<Void> createTags(List<String> labels, RequestContext requestContext) {
+    CompletableFuture<Void> future = completedFuture(null);
+    for (List<String> batch : StreamEx.ofSubLists(labels, CREATE_BATCH_SIZE).toList()) {
+      future = future.thenCompose(v -> CompletableFuture.allOf(batch.stream()
+        .map(label -> createTagIfNotExists(label, requestContext))
+        .toArray(CompletableFuture[]::new)));
+    }
+    return future;
+  }
+
+  private CompletableFuture<Void> createTagIfNotExists(String label, RequestContext requestContext) {
+    return createTag(label, requestContext)
+      .handle((tag, t) -> {
+        if (t == null) {
+          knownTagsCache.put(label, tag, requestContext);
+          return null;
+        }
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (isConflict(cause)) {
+          logger.debug("Tag '{}' has been already created", label);
+          knownTagsCache.put(label, new Tag().withLabel(label), requestContext);
+          return null;
+        }
+        throw new CompletionException(cause);
+      });
+  }
+
+  private boolean isConflict(Throwable t) {
+    return t instanceof HttpException && (((HttpException) t).getCode() == 409 || ((HttpException) t).getCode() == 422);
+  }
 }
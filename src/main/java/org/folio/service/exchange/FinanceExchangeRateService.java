@@ -1,9 +1,16 @@
 package org.folio.service.exchange;
 
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.ResourcePathResolver.FINANCE_EXCHANGE_RATE;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.folio.orders.utils.ResourcePathResolver;
 import org.folio.rest.acq.model.finance.ExchangeRate;
@@ -26,4 +33,26 @@ public class FinanceExchangeRateService {
     return restClient.get(requestEntry, requestContext, ExchangeRate.class);
   }
 
+  /**
+   * Retrieves rates of the currencies to the target currency. The rate of each distinct currency is requested once and all
+   * the requests are sent in parallel.
+   *
+   * @param fromCurrencies currency codes, may contain duplicates and the target currency
+   * @param to             target currency code
+   * @return future with rates by currency code, the target currency is not included
+   */
+  public CompletableFuture<Map<String, Double>> getExchangeRates(Collection<String> fromCurrencies, String to,
+      RequestContext requestContext) {
+    List<String> currencies = fromCurrencies.stream()
+      .filter(currency -> !currency.equals(to))
+      .distinct()
+      .collect(toList());
+    return collectResultsOnSuccess(currencies.stream()
+      .map(from -> getExchangeRate(from, to, requestContext))
+      .collect(toList()))
+      .thenApply(rates -> IntStream.range(0, currencies.size())
+        .boxed()
+        .collect(toMap(currencies::get, i -> rates.get(i).getExchangeRate())));
+  }
+
 }
@@ -10,6 +10,7 @@ import java.util.concurrent.CompletionException;
 
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.rest.acq.model.finance.FiscalYear;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -19,9 +20,13 @@ public class FiscalYearService {
 
   private static final String FISCAL_YEAR = "/finance/fiscal-years/{id}";
   private static final String CURRENT_FISCAL_YEAR = "/finance/ledgers/{id}/current-fiscal-year";
-  
+  private static final long CACHE_TTL_SECONDS = 60;
+
   private final RestClient restClient;
   private final FundService fundService;
+  private final ReferenceDataCache<FiscalYear> fiscalYearsCache = ReferenceDataCache.create("fiscalYears", CACHE_TTL_SECONDS);
+  private final ReferenceDataCache<FiscalYear> currentFiscalYearsCache = ReferenceDataCache.create("currentFiscalYears",
+      CACHE_TTL_SECONDS);
 
 
   public FiscalYearService(RestClient restClient, FundService fundService) {
@@ -29,7 +34,14 @@ public class FiscalYearService {
     this.fundService = fundService;
   }
 
+  /**
+   * Current fiscal years are cached by ledger id, see {@link ReferenceDataCache}.
+   */
   public CompletableFuture<FiscalYear> getCurrentFiscalYear(String ledgerId, RequestContext requestContext) {
+    return currentFiscalYearsCache.get(ledgerId, requestContext, () -> loadCurrentFiscalYear(ledgerId, requestContext));
+  }
+
+  private CompletableFuture<FiscalYear> loadCurrentFiscalYear(String ledgerId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(CURRENT_FISCAL_YEAR).withId(ledgerId);
     return restClient.get(requestEntry, requestContext, FiscalYear.class)
       .exceptionally(t -> {
@@ -53,8 +65,13 @@ public class FiscalYearService {
     return t instanceof HttpException && ((HttpException) t).getCode() == 404;
   }
 
+  /**
+   * Fiscal years are cached, see {@link ReferenceDataCache}.
+   */
   public CompletableFuture<FiscalYear> getFiscalYearById(String fiscalYearId, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(FISCAL_YEAR).withId(fiscalYearId);
-    return restClient.get(requestEntry, requestContext, FiscalYear.class);
+    return fiscalYearsCache.get(fiscalYearId, requestContext, () -> {
+      RequestEntry requestEntry = new RequestEntry(FISCAL_YEAR).withId(fiscalYearId);
+      return restClient.get(requestEntry, requestContext, FiscalYear.class);
+    });
   }
 }
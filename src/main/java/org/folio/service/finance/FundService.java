@@ -9,9 +9,12 @@ import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.folio.orders.rest.exceptions.HttpException;
@@ -19,6 +22,7 @@ import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.acq.model.finance.CompositeFund;
 import org.folio.rest.acq.model.finance.Fund;
 import org.folio.rest.acq.model.finance.FundCollection;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -29,28 +33,54 @@ public class FundService {
   private static final String ENDPOINT = "/finance/funds";
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
   private static final String FUNDS_BY_LEDGER_ID_QUERY = "ledgerId==%s";
+  private static final long CACHE_TTL_SECONDS = 60;
+
   private final RestClient restClient;
+  private final ReferenceDataCache<Fund> fundsCache = ReferenceDataCache.create("funds", CACHE_TTL_SECONDS);
 
   public FundService(RestClient restClient) {
     this.restClient = restClient;
   }
 
+  /**
+   * Funds are cached, see {@link ReferenceDataCache}.
+   *
+   * @return funds with the ids, future is completed exceptionally with {@link HttpException} if some fund is not found
+   */
   public CompletableFuture<List<Fund>> getAllFunds(Collection<String> fundIds, RequestContext requestContext) {
-    return collectResultsOnSuccess(
-        ofSubLists(new ArrayList<>(fundIds), MAX_IDS_FOR_GET_RQ).map(ids -> getAllFundsByIds(ids, requestContext))
-          .toList()).thenApply(
-              lists -> lists.stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList()));
+    return fundsCache.getAll(fundIds, requestContext, ids -> loadFunds(ids, requestContext))
+      .thenApply(fundsById -> {
+        List<Parameter> parameters = fundIds.stream()
+          .distinct()
+          .filter(id -> !fundsById.containsKey(id))
+          .map(id -> new Parameter().withValue(id)
+            .withKey("funds"))
+          .collect(Collectors.toList());
+        if (!parameters.isEmpty()) {
+          throw new HttpException(404, FUNDS_NOT_FOUND.toError()
+            .withParameters(parameters));
+        }
+        return new ArrayList<>(fundsById.values());
+      });
   }
 
+  /**
+   * Funds are cached, see {@link ReferenceDataCache}.
+   *
+   * @return found funds with the ids
+   */
   public CompletableFuture<List<Fund>> getFunds(Collection<String> fundIds, RequestContext requestContext) {
+    return fundsCache.getAll(fundIds, requestContext, ids -> loadFunds(ids, requestContext))
+      .thenApply(fundsById -> new ArrayList<>(fundsById.values()));
+  }
+
+  private CompletableFuture<Map<String, Fund>> loadFunds(List<String> fundIds, RequestContext requestContext) {
     return collectResultsOnSuccess(
-        ofSubLists(new ArrayList<>(fundIds), MAX_IDS_FOR_GET_RQ).map(ids -> getFundsByIds(ids, requestContext))
+        ofSubLists(fundIds, MAX_IDS_FOR_GET_RQ).map(ids -> getFundsByIds(ids, requestContext))
           .toList()).thenApply(
               lists -> lists.stream()
                 .flatMap(Collection::stream)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toMap(Fund::getId, Function.identity(), (fund, duplicate) -> fund, LinkedHashMap::new)));
   }
 
   private CompletableFuture<List<Fund>> getFundsByIds(Collection<String> ids, RequestContext requestContext) {
@@ -62,7 +92,14 @@ public class FundService {
       .thenApply(FundCollection::getFunds);
   }
 
+  /**
+   * Funds are cached, see {@link ReferenceDataCache}.
+   */
   public CompletableFuture<Fund> retrieveFundById(String fundId, RequestContext requestContext) {
+    return fundsCache.get(fundId, requestContext, () -> loadFundById(fundId, requestContext));
+  }
+
+  private CompletableFuture<Fund> loadFundById(String fundId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(fundId);
     return restClient.get(requestEntry, requestContext, CompositeFund.class)
       .thenApply(CompositeFund::getFund)
@@ -86,27 +123,4 @@ public class FundService {
     return restClient.get(requestEntry, requestContext, FundCollection.class)
       .thenApply(FundCollection::getFunds);
   }
-
-  private CompletableFuture<List<Fund>> getAllFundsByIds(Collection<String> ids, RequestContext requestContext) {
-    String query = convertIdsToCqlQuery(ids);
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
-      .withLimit(MAX_IDS_FOR_GET_RQ)
-      .withOffset(0);
-    return restClient.get(requestEntry, requestContext, FundCollection.class)
-      .thenApply(FundCollection::getFunds)
-      .thenApply(funds -> {
-        if (funds.size() == ids.size()) {
-          return funds;
-        }
-        List<Parameter> parameters = ids.stream()
-          .filter(id -> funds.stream()
-            .noneMatch(fund -> fund.getId()
-              .equals(id)))
-          .map(id -> new Parameter().withValue(id)
-            .withKey("funds"))
-          .collect(Collectors.toList());
-        throw new HttpException(404, FUNDS_NOT_FOUND.toError()
-          .withParameters(parameters));
-      });
-  }
 }
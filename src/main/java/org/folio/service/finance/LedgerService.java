@@ -1,20 +1,25 @@
 package org.folio.service.finance;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.orders.utils.ErrorCodes.LEDGER_NOT_FOUND_FOR_TRANSACTION;
 import static org.folio.orders.utils.HelperUtils.ID;
 import static org.folio.orders.utils.HelperUtils.convertIdsToCqlQuery;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.rest.acq.model.finance.Ledger;
 import org.folio.rest.acq.model.finance.LedgerCollection;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -23,30 +28,40 @@ import org.folio.rest.jaxrs.model.Parameter;
 public class LedgerService {
 
   private static final String ENDPOINT = "/finance/ledgers";
+  private static final long CACHE_TTL_SECONDS = 60;
 
   private final RestClient restClient;
+  private final ReferenceDataCache<Ledger> ledgersCache = ReferenceDataCache.create("ledgers", CACHE_TTL_SECONDS);
 
   public LedgerService(RestClient restClient) {
     this.restClient = restClient;
   }
 
+  /**
+   * Ledgers are cached, see {@link ReferenceDataCache}.
+   *
+   * @return ledgers with the ids, future is completed exceptionally with {@link HttpException} if some ledger is not found
+   */
   public CompletableFuture<List<Ledger>> getLedgersByIds(Collection<String> ledgerIds, RequestContext requestContext) {
-    String query = convertIdsToCqlQuery(ledgerIds, ID);
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
-              .withLimit(MAX_IDS_FOR_GET_RQ).withOffset(0);
-    return restClient.get(requestEntry, requestContext, LedgerCollection.class)
-      .thenApply(ledgerCollection -> {
-        if (ledgerIds.size() == ledgerCollection.getLedgers()
-          .size()) {
-          return ledgerCollection.getLedgers();
+    return ledgersCache.getAll(ledgerIds, requestContext, ids -> loadLedgersByIds(ids, requestContext))
+      .thenApply(ledgersById -> {
+        if (ledgersById.size() == ledgerIds.size()) {
+          return new ArrayList<>(ledgersById.values());
         }
-        String missingIds = String.join(", ", CollectionUtils.subtract(ledgerIds, ledgerCollection.getLedgers()
-          .stream()
-          .map(Ledger::getId)
-          .collect(toList())));
+        String missingIds = String.join(", ", CollectionUtils.subtract(ledgerIds, ledgersById.keySet()));
         throw new HttpException(404, LEDGER_NOT_FOUND_FOR_TRANSACTION.toError()
           .withParameters(Collections.singletonList(new Parameter().withKey("ledgers")
             .withValue(missingIds))));
       });
   }
+
+  private CompletableFuture<Map<String, Ledger>> loadLedgersByIds(List<String> ledgerIds, RequestContext requestContext) {
+    String query = convertIdsToCqlQuery(ledgerIds, ID);
+    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
+              .withLimit(MAX_IDS_FOR_GET_RQ).withOffset(0);
+    return restClient.get(requestEntry, requestContext, LedgerCollection.class)
+      .thenApply(ledgerCollection -> ledgerCollection.getLedgers()
+        .stream()
+        .collect(toMap(Ledger::getId, Function.identity(), (ledger, duplicate) -> ledger, LinkedHashMap::new)));
+  }
 }
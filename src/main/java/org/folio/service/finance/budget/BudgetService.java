@@ -3,19 +3,27 @@ package org.folio.service.finance.budget;
 import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.ErrorCodes.BUDGET_NOT_FOUND_FOR_TRANSACTION;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+import static org.folio.orders.utils.HelperUtils.convertIdsToCqlQuery;
+import static org.folio.orders.utils.ResourcePathResolver.BUDGETS;
+import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.rest.acq.model.finance.Budget;
+import org.folio.rest.acq.model.finance.BudgetCollection;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
@@ -26,8 +34,12 @@ import one.util.streamex.StreamEx;
 public class BudgetService {
 
   private static final String ENDPOINT = "/finance/funds/{id}/budget";
+  private static final String BUDGETS_ENDPOINT = resourcesPath(BUDGETS);
+  private static final String ACTIVE_BUDGETS_BY_FUND_IDS_QUERY = "%s and budgetStatus==Active";
+  private static final long CACHE_TTL_SECONDS = 10;
 
   private final RestClient restClient;
+  private final ReferenceDataCache<Budget> activeBudgetsCache = ReferenceDataCache.create("budgets", CACHE_TTL_SECONDS);
 
   public BudgetService(RestClient restClient) {
     this.restClient = restClient;
@@ -39,6 +51,9 @@ public class BudgetService {
       .toList());
   }
 
+  /**
+   * Budgets are always retrieved from finance, they are not cached.
+   */
   public CompletableFuture<List<Budget>> fetchBudgetsByFundIds(List<String> fundIds, RequestContext requestContext) {
     List<CompletableFuture<Budget>> futureList = fundIds.stream()
       .distinct()
@@ -51,10 +66,18 @@ public class BudgetService {
         .collect(Collectors.toList()));
   }
 
-  public CompletableFuture<List<Budget>> getBudgets(Collection<String> fundIds, RequestContext requestContext) {
-    return getBudgetsByChunks(fundIds, requestContext).thenApply(lists -> lists.stream()
-      .flatMap(Collection::stream)
-      .collect(Collectors.toList()));
+  /**
+   * Retrieves active budgets of the funds from finance, e.g. to check that there is enough money for encumbrances. The
+   * cached budgets are replaced with the retrieved ones.
+   */
+  public CompletableFuture<List<Budget>> getBudgetsBypassingCache(Collection<String> fundIds, RequestContext requestContext) {
+    return getBudgetsByChunks(fundIds, requestContext).thenApply(lists -> {
+      List<Budget> budgets = lists.stream()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toList());
+      budgets.forEach(budget -> activeBudgetsCache.put(budget.getFundId(), budget, requestContext));
+      return budgets;
+    });
   }
 
   public CompletableFuture<Budget> getActiveBudgetByFundId(String fundId, RequestContext requestContext) {
@@ -70,4 +93,36 @@ public class BudgetService {
         throw new CompletionException(cause);
       });
   }
+
+  /**
+   * Searches active budgets of the funds with one query per {@value org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ} funds.
+   * Unlike {@link #getBudgetsBypassingCache(Collection, RequestContext)}, funds without active budget are skipped. Budgets
+   * are cached for a shorter time than other finance records, see {@link ReferenceDataCache}.
+   */
+  public CompletableFuture<List<Budget>> getActiveBudgetsByFundIds(Collection<String> fundIds, RequestContext requestContext) {
+    return activeBudgetsCache.getAll(fundIds, requestContext, ids -> searchActiveBudgetsByFundIds(ids, requestContext)
+      .thenApply(this::mapByFundId))
+      .thenApply(budgetsByFundId -> new ArrayList<>(budgetsByFundId.values()));
+  }
+
+  private CompletableFuture<List<Budget>> searchActiveBudgetsByFundIds(List<String> fundIds, RequestContext requestContext) {
+    return collectResultsOnSuccess(StreamEx.ofSubLists(fundIds, MAX_IDS_FOR_GET_RQ)
+      .map(ids -> {
+        String query = String.format(ACTIVE_BUDGETS_BY_FUND_IDS_QUERY, convertIdsToCqlQuery(ids, "fundId"));
+        RequestEntry requestEntry = new RequestEntry(BUDGETS_ENDPOINT).withQuery(query)
+          .withOffset(0)
+          .withLimit(Integer.MAX_VALUE);
+        return restClient.get(requestEntry, requestContext, BudgetCollection.class)
+          .thenApply(BudgetCollection::getBudgets);
+      })
+      .toList())
+      .thenApply(lists -> lists.stream()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toList()));
+  }
+
+  private Map<String, Budget> mapByFundId(List<Budget> budgets) {
+    return budgets.stream()
+      .collect(Collectors.toMap(Budget::getFundId, Function.identity(), (budget, duplicate) -> budget, LinkedHashMap::new));
+  }
 }
@@ -1,15 +1,20 @@
 package org.folio.service.finance.expenceclass;
 
-import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.folio.orders.utils.ErrorCodes.BUDGET_EXPENSE_CLASS_NOT_FOUND;
 import static org.folio.orders.utils.ErrorCodes.INACTIVE_EXPENSE_CLASS;
 import static org.folio.orders.utils.HelperUtils.ID;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+import static org.folio.orders.utils.HelperUtils.convertFieldListToCqlQuery;
+import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 import static org.folio.service.finance.transaction.EncumbranceService.EXPENSE_CLASS_NAME;
 import static org.folio.service.finance.transaction.EncumbranceService.FUND_CODE;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,22 +22,31 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.acq.model.finance.Budget;
 import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.acq.model.finance.BudgetExpenseClassCollection;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.service.finance.budget.BudgetService;
+
+import one.util.streamex.StreamEx;
 
 public class ExpenseClassValidationService {
 
+  private static final String ACTIVE_BUDGET_EXPENSE_CLASSES_QUERY = "%s and budget.budgetStatus==Active";
+
   private final BudgetExpenseClassService budgetExpenseClassService;
   private final ExpenseClassService expenseClassService;
+  private final BudgetService budgetService;
 
   public ExpenseClassValidationService(BudgetExpenseClassService budgetExpenseClassService,
-      ExpenseClassService expenseClassService) {
+      ExpenseClassService expenseClassService, BudgetService budgetService) {
     this.budgetExpenseClassService = budgetExpenseClassService;
     this.expenseClassService = expenseClassService;
+    this.budgetService = budgetService;
   }
 
   public CompletableFuture<Void> validateExpenseClassesForOpenedOrder(CompositePurchaseOrder compOrder,
@@ -52,47 +66,88 @@ public class ExpenseClassValidationService {
       .filter(fundDistribution -> Objects.nonNull(fundDistribution.getExpenseClassId()))
       .collect(toMap(Function.identity(), FundDistribution::getExpenseClassId));
 
-    return allOf(expenseClassesByFundId.entrySet()
-      .stream()
-      .map(expenseClassByFundId -> checkExpenseClassIsActiveByFundDistribution(expenseClassByFundId, requestContext))
-      .toArray(CompletableFuture[]::new));
+    return checkExpenseClassesAreActive(expenseClassesByFundId, requestContext);
   }
 
-  public CompletableFuture<Void> checkExpenseClassIsActiveByFundDistribution(
-      Map.Entry<FundDistribution, String> expenseClassByFundId, RequestContext requestContext) {
-    String query = String.format("budget.fundId==%s and budget.budgetStatus==Active", expenseClassByFundId.getKey()
-      .getFundId());
-    return budgetExpenseClassService.getBudgetExpenseClasses(query, 0, Integer.MAX_VALUE, requestContext)
-      .thenCompose(budgetExpenseClasses -> {
-        var budgetExpenseClassIdsList = budgetExpenseClasses.getBudgetExpenseClasses()
-          .stream()
-          .map(BudgetExpenseClass::getExpenseClassId)
-          .collect(toList());
-
-        if (budgetExpenseClassIdsList.contains(expenseClassByFundId.getValue())) {
-          var hasInactiveExpenseClass = budgetExpenseClasses.getBudgetExpenseClasses()
-            .stream()
-            .filter(budgetExpenseClass -> expenseClassByFundId.getValue()
-              .contains(budgetExpenseClass.getExpenseClassId()))
-            .anyMatch(expenseClass -> BudgetExpenseClass.Status.INACTIVE.equals(expenseClass.getStatus()));
-
-          if (hasInactiveExpenseClass) {
+  /**
+   * Checks that expense classes are active for active budgets of the funds. Budget expense classes of all the funds are
+   * retrieved with one query per {@value org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ} funds and then checked in memory.
+   *
+   * @param expenseClassesByFundId expense class ids by fund distributions
+   * @return future completed exceptionally with {@link HttpException} if some expense class is not found or inactive
+   */
+  public CompletableFuture<Void> checkExpenseClassesAreActive(Map<FundDistribution, String> expenseClassesByFundId,
+      RequestContext requestContext) {
+    if (expenseClassesByFundId.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    List<String> fundIds = StreamEx.ofKeys(expenseClassesByFundId)
+      .map(FundDistribution::getFundId)
+      .distinct()
+      .toList();
+
+    CompletableFuture<List<Budget>> budgetsFuture = budgetService.getActiveBudgetsByFundIds(fundIds, requestContext);
+    CompletableFuture<List<BudgetExpenseClass>> budgetExpenseClassesFuture = getActiveBudgetExpenseClasses(fundIds, requestContext);
+
+    return budgetsFuture.thenCombine(budgetExpenseClassesFuture, this::getExpenseClassStatusesByFundId)
+      .thenCompose(statusesByFundId -> {
+        for (Map.Entry<FundDistribution, String> expenseClassByFundId : expenseClassesByFundId.entrySet()) {
+          BudgetExpenseClass.Status status = statusesByFundId
+            .getOrDefault(expenseClassByFundId.getKey().getFundId(), Map.of())
+            .get(expenseClassByFundId.getValue());
+          if (status == null) {
+            return getFundIdExpenseClassIdParameters(expenseClassByFundId, requestContext).thenApply(parameters -> {
+              throw new HttpException(400, BUDGET_EXPENSE_CLASS_NOT_FOUND.toError()
+                .withParameters(parameters));
+            });
+          }
+          if (status == BudgetExpenseClass.Status.INACTIVE) {
             return getFundIdExpenseClassIdParameters(expenseClassByFundId, requestContext).thenApply(parameters -> {
               throw new HttpException(400, INACTIVE_EXPENSE_CLASS.toError()
                 .withParameters(parameters));
             });
           }
-
-        } else {
-          return getFundIdExpenseClassIdParameters(expenseClassByFundId, requestContext).thenApply(parameters -> {
-            throw new HttpException(400, BUDGET_EXPENSE_CLASS_NOT_FOUND.toError()
-              .withParameters(parameters));
-          });
         }
         return CompletableFuture.completedFuture(null);
       });
   }
 
+  private CompletableFuture<List<BudgetExpenseClass>> getActiveBudgetExpenseClasses(List<String> fundIds,
+      RequestContext requestContext) {
+    return collectResultsOnSuccess(StreamEx.ofSubLists(fundIds, MAX_IDS_FOR_GET_RQ)
+      .map(ids -> {
+        String query = String.format(ACTIVE_BUDGET_EXPENSE_CLASSES_QUERY, convertFieldListToCqlQuery(ids, "budget.fundId", true));
+        return budgetExpenseClassService.getBudgetExpenseClasses(query, 0, Integer.MAX_VALUE, requestContext);
+      })
+      .toList())
+      .thenApply(collections -> StreamEx.of(collections)
+        .flatCollection(BudgetExpenseClassCollection::getBudgetExpenseClasses)
+        .toList());
+  }
+
+  /**
+   * @return statuses of the expense classes by expense class id by fund id
+   */
+  private Map<String, Map<String, BudgetExpenseClass.Status>> getExpenseClassStatusesByFundId(List<Budget> budgets,
+      List<BudgetExpenseClass> budgetExpenseClasses) {
+    Map<String, List<String>> fundIdsByBudgetId = budgets.stream()
+      .collect(groupingBy(Budget::getId, mapping(Budget::getFundId, toList())));
+    Map<String, Map<String, BudgetExpenseClass.Status>> statusesByFundId = new HashMap<>();
+    for (BudgetExpenseClass budgetExpenseClass : budgetExpenseClasses) {
+      // the expense class without status is not inactive
+      BudgetExpenseClass.Status status = Objects.requireNonNullElse(budgetExpenseClass.getStatus(), BudgetExpenseClass.Status.ACTIVE);
+      for (String fundId : fundIdsByBudgetId.getOrDefault(budgetExpenseClass.getBudgetId(), List.of())) {
+        statusesByFundId.computeIfAbsent(fundId, key -> new HashMap<>())
+          .merge(budgetExpenseClass.getExpenseClassId(), status, ExpenseClassValidationService::inactiveFirst);
+      }
+    }
+    return statusesByFundId;
+  }
+
+  private static BudgetExpenseClass.Status inactiveFirst(BudgetExpenseClass.Status first, BudgetExpenseClass.Status second) {
+    return first == BudgetExpenseClass.Status.INACTIVE ? first : second;
+  }
+
   private CompletableFuture<List<Parameter>> getFundIdExpenseClassIdParameters(
       Map.Entry<FundDistribution, String> expenseClassByFundId, RequestContext requestContext) {
     String query = ID + "==" + expenseClassByFundId.getValue();
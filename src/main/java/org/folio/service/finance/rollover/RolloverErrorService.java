@@ -3,7 +3,9 @@ package org.folio.service.finance.rollover;
 import static org.folio.service.finance.transaction.EncumbranceService.AND;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
@@ -13,6 +15,9 @@ import org.folio.rest.core.models.RequestEntry;
 
 public class RolloverErrorService {
     private static final String ENDPOINT = "/finance/ledger-rollovers-errors";
+    private static final String ERRORS_KEY = "ledgerFiscalYearRolloverErrors";
+    private static final String DETAILS = "details";
+    private static final String PURCHASE_ORDER_ID = "purchaseOrderId";
     private static final String ENDPOINT_BY_ID = "/finance-storage/ledger-rollovers-errors/{id}";
 
     private final RestClient restClient;
@@ -33,6 +38,24 @@ public class RolloverErrorService {
         return restClient.get(requestEntry, requestContext, LedgerFiscalYearRolloverErrorCollection.class);
     }
 
+    /**
+     * Retrieves all the errors of the ledger rollover page by page.
+     *
+     * @return future with distinct ids of the orders with the errors
+     */
+    public CompletableFuture<List<String>> getRolloverErrorsOrderIds(String rolloverId, RequestContext requestContext) {
+        String query = "ledgerRolloverId==" + rolloverId + " sortBy id";
+        RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query);
+        return restClient.getAllAsJsonObjects(requestEntry, ERRORS_KEY, requestContext)
+                .thenApply(errors -> errors.stream()
+                        .map(error -> error.getJsonObject(DETAILS))
+                        .filter(Objects::nonNull)
+                        .map(details -> details.getString(PURCHASE_ORDER_ID))
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .collect(Collectors.toList()));
+    }
+
     public CompletableFuture<Void> deleteRolloverErrors(List<LedgerFiscalYearRolloverError> errors, RequestContext requestContext) {
         return CompletableFuture.allOf(errors.stream().map(error -> deleteRolloverError(error.getId(), requestContext)).toArray(CompletableFuture[]::new));
     }
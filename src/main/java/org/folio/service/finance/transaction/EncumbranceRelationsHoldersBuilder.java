@@ -128,7 +128,8 @@ public class EncumbranceRelationsHoldersBuilder {
     if (fundIds.isEmpty()) {
       return CompletableFuture.completedFuture(encumbranceHolders);
     }
-    return budgetService.getBudgets(fundIds, requestContext)
+    // budget amounts are used to check encumbrance restrictions, so cached budgets can't be used
+    return budgetService.getBudgetsBypassingCache(fundIds, requestContext)
       .thenApply(budgets -> mapHoldersToBudgets(budgets, encumbranceHolders));
   }
 
@@ -25,6 +25,7 @@ public class TransactionService {
   private static final String ENDPOINT = "/finance/transactions";
   private static final String ENCUMBRANCE_ENDPOINT = "/finance/encumbrances";
   private static final String ENCUMBRANCE_BY_ID_ENDPOINT = "/finance/encumbrances/{id}";
+  private static final String TRANSACTIONS = "transactions";
 
   private final RestClient restClient;
 
@@ -76,11 +77,8 @@ public class TransactionService {
   }
 
   private CompletableFuture<List<Transaction>> getTransactionsChunksByIds(String query, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query)
-      .withOffset(0)
-      .withLimit(Integer.MAX_VALUE);
-    return restClient.get(requestEntry, requestContext, TransactionCollection.class)
-      .thenApply(TransactionCollection::getTransactions);
+    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query);
+    return restClient.getAll(requestEntry, requestContext, TRANSACTIONS, Transaction.class);
   }
 
   public CompletableFuture<Transaction> createTransaction(Transaction transaction, RequestContext requestContext) {
@@ -248,10 +248,8 @@ public class InventoryManager {
    * @return future with list of item records
    */
   public CompletableFuture<List<JsonObject>> getItemRecordsByQuery(String query, RequestContext requestContext) {
-    RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS))
-      .withQuery(query).withOffset(0).withLimit(Integer.MAX_VALUE);
-    return restClient.getAsJsonObject(requestEntry, requestContext)
-                     .thenApply(response -> extractEntities(response, ITEMS));
+    RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS)).withQuery(query);
+    return restClient.getAllAsJsonObjects(requestEntry, ITEMS, requestContext);
   }
 
   public CompletableFuture<Void> updateItem(JsonObject item, RequestContext requestContext) {
@@ -500,18 +498,11 @@ public class InventoryManager {
     if (piecesWithItemsQty == 0) {
       return completedFuture(Collections.emptyList());
     }
-    return pieceStorageService.getExpectedPiecesByLineId(compPOL.getId(), requestContext)
-      .thenApply(existingPieces -> {
-        List<Piece> needUpdatePieces = new ArrayList<>();
-            List<Piece> pieces = existingPieces.getPieces().stream()
-              .filter(piece -> piece.getLocationId().equals(holder.getOldLocationId()))
-              .map(piece -> piece.withLocationId(holder.getNewLocationId()))
-              .collect(toList());
-            if (!pieces.isEmpty()) {
-              needUpdatePieces.addAll(pieces);
-            }
-        return needUpdatePieces;
-      })
+    return pieceStorageService.getExpectedPiecesByLineId(compPOL.getId(),
+        piece -> holder.getOldLocationId().equals(piece.getLocationId()), requestContext)
+      .thenApply(pieces -> pieces.stream()
+        .map(piece -> piece.withLocationId(holder.getNewLocationId()))
+        .collect(toList()))
       .thenCompose(needUpdatePieces -> {
         if (!needUpdatePieces.isEmpty()) {
           return getItemRecordsByIds(needUpdatePieces.stream().map(Piece::getItemId)
@@ -792,11 +783,9 @@ public class InventoryManager {
 
   public CompletableFuture<List<JsonObject>> getItemsByHoldingId(String holdingId, RequestContext requestContext) {
     String query = String.format("holdingsRecordId==%s", holdingId);
-    RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS)).withQuery(query).withQueryParameter(LANG, "en")
-                                        .withOffset(0).withLimit(Integer.MAX_VALUE);
-    return restClient.getAsJsonObject(requestEntry, requestContext)
-      .thenApply(itemsCollection -> {
-        List<JsonObject> items = extractEntities(itemsCollection, ITEMS);
+    RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS)).withQuery(query).withQueryParameter(LANG, "en");
+    return restClient.getAllAsJsonObjects(requestEntry, ITEMS, requestContext)
+      .thenApply(items -> {
         logger.debug("{} existing items found for holding with '{}' id", items.size(), holdingId);
         return items;
       });
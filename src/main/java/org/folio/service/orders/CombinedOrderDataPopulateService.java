@@ -3,6 +3,7 @@ package org.folio.service.orders;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.rest.core.models.RequestContext;
 
@@ -20,6 +21,10 @@ public class CombinedOrderDataPopulateService implements CompositeOrderDynamicDa
   @Override
   public CompletableFuture<CompositeOrderRetrieveHolder> populate(CompositeOrderRetrieveHolder retrieveHolder,
       RequestContext requestContext) {
+    // current fiscal year is needed only for the transaction totals and re-encumber check
+    if (!retrieveHolder.isIncluded(CompositeOrderInclude.TOTALS) && !retrieveHolder.isIncluded(CompositeOrderInclude.NEED_RE_ENCUMBER)) {
+      return populateAllDynamicData(retrieveHolder, requestContext);
+    }
     return holderBuilder.withCurrentFiscalYear(retrieveHolder, requestContext)
       .thenCompose(holder -> populateAllDynamicData(holder, requestContext));
   }
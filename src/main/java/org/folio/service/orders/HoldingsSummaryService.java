@@ -9,6 +9,7 @@ import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PurchaseOrder;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -17,6 +18,8 @@ import static java.util.stream.Collectors.toMap;
 
 public class HoldingsSummaryService {
 
+  private static final Set<String> SUMMARY_LINE_FIELDS = Set.of("id", "poLineNumber", "purchaseOrderId", "receiptStatus");
+
   private PurchaseOrderService purchaseOrderService;
 
   private PurchaseOrderLineService purchaseOrderLineService;
@@ -26,19 +29,32 @@ public class HoldingsSummaryService {
     this.purchaseOrderLineService = purchaseOrderLineService;
   }
 
-  public CompletableFuture<HoldingSummaryCollection> getHoldingsSummary(String holdingId, RequestContext requestContext) {
-    var query = String.format("?query=locations=\"holdingId\" : \"%s\"", holdingId);
-    return purchaseOrderLineService.getOrderLines(query, 0, Integer.MAX_VALUE, requestContext)
-      .thenCompose(lines -> {
-        var purchaseOrderIds = lines.stream()
-          .map(PoLine::getPurchaseOrderId)
-          .collect(Collectors.toList());
+  /**
+   * Builds summaries of the PO lines with the holding. Only the fields of the lines used in the summary are mapped and
+   * the orders of the lines are retrieved once per order.
+   *
+   * @param offset number of the lines to skip
+   * @param limit  maximum number of the summaries
+   * @return future with the summaries and total number of the lines with the holding
+   */
+  public CompletableFuture<HoldingSummaryCollection> getHoldingsSummary(String holdingId, int offset, int limit,
+      RequestContext requestContext) {
+    // offset paging needs stable order of the lines
+    var query = String.format("locations=\"holdingId\" : \"%s\" sortBy id", holdingId);
+    return purchaseOrderLineService.getOrderLines(query, offset, limit, SUMMARY_LINE_FIELDS, requestContext)
+      .thenCompose(lineCollection -> {
+        var lines = lineCollection.getPoLines();
+        var totalRecords = lineCollection.getTotalRecords();
         if (lines.isEmpty()) {
-          return CompletableFuture.completedFuture((new HoldingSummaryCollection().withTotalRecords(0)));
+          return CompletableFuture.completedFuture((new HoldingSummaryCollection().withTotalRecords(totalRecords)));
         } else {
+          var purchaseOrderIds = lines.stream()
+            .map(PoLine::getPurchaseOrderId)
+            .distinct()
+            .collect(Collectors.toList());
           return purchaseOrderService.getPurchaseOrdersByIds(purchaseOrderIds, requestContext)
             .thenCompose(orders -> buildHoldingSummaries(orders, lines))
-            .thenApply(hs -> new HoldingSummaryCollection().withHoldingSummaries(hs).withTotalRecords(hs.size()));
+            .thenApply(hs -> new HoldingSummaryCollection().withHoldingSummaries(hs).withTotalRecords(totalRecords));
         }
       });
   }
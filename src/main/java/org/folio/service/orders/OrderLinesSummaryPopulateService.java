@@ -1,34 +1,45 @@
 package org.folio.service.orders;
 
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.Cost;
 import org.folio.service.configuration.ConfigurationEntriesService;
-import org.folio.service.exchange.ExchangeRateProviderResolver;
+import org.folio.service.exchange.FinanceExchangeRateService;
+import org.folio.service.exchange.ManualExchangeRateProvider;
 import org.javamoney.moneta.Money;
 
 import javax.money.convert.ConversionQuery;
+import javax.money.convert.ExchangeRateProvider;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static org.folio.orders.utils.HelperUtils.getConversionQuery;
 
 public class OrderLinesSummaryPopulateService implements CompositeOrderDynamicDataPopulateService {
 
   private final ConfigurationEntriesService configurationEntriesService;
-  private final ExchangeRateProviderResolver exchangeRateProviderResolver;
+  private final FinanceExchangeRateService financeExchangeRateService;
+  private final ExchangeRateProvider exchangeRateProvider = new ManualExchangeRateProvider();
 
   public OrderLinesSummaryPopulateService(ConfigurationEntriesService configurationEntriesService,
-      ExchangeRateProviderResolver exchangeRateProviderResolver) {
+      FinanceExchangeRateService financeExchangeRateService) {
     this.configurationEntriesService = configurationEntriesService;
-    this.exchangeRateProviderResolver = exchangeRateProviderResolver;
+    this.financeExchangeRateService = financeExchangeRateService;
   }
 
   @Override
   public CompletableFuture<CompositeOrderRetrieveHolder> populate(CompositeOrderRetrieveHolder holder,
       RequestContext requestContext) {
+    if (!holder.isIncluded(CompositeOrderInclude.SUMMARY)) {
+      return CompletableFuture.completedFuture(holder);
+    }
     CompositePurchaseOrder compPO = holder.getOrder();
     List<CompositePoLine> compositePoLines = holder.getOrder()
       .getCompositePoLines();
@@ -42,6 +53,9 @@ public class OrderLinesSummaryPopulateService implements CompositeOrderDynamicDa
   /**
    * Calculates PO's estimated price by summing the Estimated Price of the associated PO Lines. See MODORDERS-181 for more details.
    * At the moment assumption is that all prices could be in the different currency.
+   * <p>
+   * Rates of the currencies without manual exchange rate are retrieved asynchronously once per currency before the
+   * calculation, so the conversion itself doesn't call other modules.
    *
    * @param compositePoLines list of composite PO Lines
    * @return estimated purchase order's total price
@@ -49,25 +63,33 @@ public class OrderLinesSummaryPopulateService implements CompositeOrderDynamicDa
   public CompletableFuture<Double> calculateTotalEstimatedPrice(List<CompositePoLine> compositePoLines,
       RequestContext requestContext) {
     return configurationEntriesService.getSystemCurrency(requestContext)
-      .thenApply(toCurrency -> compositePoLines.stream()
-        .map(CompositePoLine::getCost)
-        .map(cost -> {
-          Money money = Money.of(cost.getPoLineEstimatedPrice(), cost.getCurrency());
-          if (money.getCurrency()
-            .getCurrencyCode()
-            .equals(toCurrency)) {
-            return money;
-          }
-          Double exchangeRate = cost.getExchangeRate();
-          ConversionQuery conversionQuery = getConversionQuery(exchangeRate, cost.getCurrency(), toCurrency);
-          var exchangeRateProvider = exchangeRateProviderResolver.resolve(conversionQuery, requestContext);
-          var conversion = exchangeRateProvider.getCurrencyConversion(conversionQuery);
+      .thenCompose(toCurrency -> getExchangeRates(compositePoLines, toCurrency, requestContext)
+        .thenApply(rates -> compositePoLines.stream()
+          .map(CompositePoLine::getCost)
+          .map(cost -> {
+            Money money = Money.of(cost.getPoLineEstimatedPrice(), cost.getCurrency());
+            if (money.getCurrency()
+              .getCurrencyCode()
+              .equals(toCurrency)) {
+              return money;
+            }
+            Double exchangeRate = Objects.requireNonNullElse(cost.getExchangeRate(), rates.get(cost.getCurrency()));
+            ConversionQuery conversionQuery = getConversionQuery(exchangeRate, cost.getCurrency(), toCurrency);
+            return money.with(exchangeRateProvider.getCurrencyConversion(conversionQuery));
+          })
+          .reduce(Money.of(0, toCurrency), Money::add)
+          .getNumber()
+          .doubleValue()));
+  }
 
-          return money.with(conversion);
-        })
-        .reduce(Money.of(0, toCurrency), Money::add)
-        .getNumber()
-        .doubleValue());
+  private CompletableFuture<Map<String, Double>> getExchangeRates(List<CompositePoLine> compositePoLines, String toCurrency,
+      RequestContext requestContext) {
+    List<String> currencies = compositePoLines.stream()
+      .map(CompositePoLine::getCost)
+      .filter(cost -> cost.getExchangeRate() == null)
+      .map(Cost::getCurrency)
+      .collect(Collectors.toList());
+    return financeExchangeRateService.getExchangeRates(currencies, toCurrency, requestContext);
   }
 
   private int calculateTotalItemsQuantity(List<CompositePoLine> poLines) {
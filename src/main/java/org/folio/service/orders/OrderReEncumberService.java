@@ -4,8 +4,6 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.ErrorCodes.FUNDS_NOT_FOUND;
 import static org.folio.orders.utils.ErrorCodes.ROLLOVER_NOT_COMPLETED;
-import static org.folio.orders.utils.ResourcePathResolver.ALERTS;
-import static org.folio.orders.utils.ResourcePathResolver.REPORTING_CODES;
 
 import java.util.Collections;
 import java.util.List;
@@ -13,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import javax.money.Monetary;
 import javax.money.MonetaryAmount;
@@ -20,23 +19,25 @@ import javax.money.MonetaryOperator;
 import javax.money.convert.CurrencyConversion;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.models.ReEncumbranceHolder;
+import org.folio.orders.mapper.OrderMapper;
 import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.core.models.RequestContext;
-import org.folio.rest.jaxrs.model.Alert;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.EncumbranceRollover;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.jaxrs.model.PoLine;
-import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.service.finance.budget.BudgetRestrictionService;
 import org.folio.service.finance.rollover.RolloverErrorService;
 import org.folio.service.finance.rollover.RolloverRetrieveService;
@@ -45,8 +46,6 @@ import org.folio.service.finance.transaction.TransactionSummariesService;
 import org.javamoney.moneta.Money;
 import org.javamoney.moneta.function.MonetaryOperators;
 
-import io.vertx.core.json.JsonObject;
-
 public class OrderReEncumberService implements CompositeOrderDynamicDataPopulateService {
 
   protected final Logger logger = LogManager.getLogger();
@@ -80,6 +79,9 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
 
   public CompletableFuture<CompositeOrderRetrieveHolder> populate(CompositeOrderRetrieveHolder orderRetrieveHolder,
                                                             RequestContext requestContext) {
+    if (!orderRetrieveHolder.isIncluded(CompositeOrderInclude.NEED_RE_ENCUMBER)) {
+      return CompletableFuture.completedFuture(orderRetrieveHolder);
+    }
     orderRetrieveHolder.withNeedReEncumber(false);
     List<ReEncumbranceHolder> reEncumbranceHolders = reEncumbranceHoldersBuilder.buildReEncumbranceHoldersWithOrdersData(orderRetrieveHolder.getOrder());
     if (reEncumbranceHolders.isEmpty()) {
@@ -109,25 +111,56 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
   }
 
   public CompletableFuture<Void> reEncumber(String orderId, RequestContext requestContext) {
-    return purchaseOrderService.getCompositeOrderById(orderId, requestContext)
+    return reEncumber(orderId, rolloverId -> rolloverRetrieveService.getRolloversProgress(rolloverId, requestContext), requestContext);
+  }
+
+  /**
+   * Re-encumbers the order after the rollover. The finance data are retrieved as a dependency graph, each lookup starts as
+   * soon as the data it needs are known: ledgers, budgets and the current fiscal year once the funds are found, rollovers
+   * and exchange rates once the fiscal year is known. Rollover errors are deleted concurrently with the update of PO lines.
+   * <p>
+   * Lookups started before the rollover check are only awaited after it, so the check errors are reported in preference
+   * to failures of the lookups.
+   * <p>
+   * Progresses of the rollovers are retrieved by the provided function, so the jobs re-encumbering many orders retrieve
+   * progress of each rollover once.
+   *
+   * @param rolloverProgresses retrieves progresses of the rollover by its id
+   */
+  public CompletableFuture<Void> reEncumber(String orderId,
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses, RequestContext requestContext) {
+    CompletableFuture<List<ReEncumbranceHolder>> fundsFound = purchaseOrderService.getCompositeOrderById(orderId, requestContext)
       .thenApply(reEncumbranceHoldersBuilder::buildReEncumbranceHoldersWithOrdersData)
       .thenCompose(holders -> reEncumbranceHoldersBuilder.withFundsData(holders, requestContext))
-      .thenApply(this::checkAllFundsFound)
-      .thenCompose(holders -> reEncumbranceHoldersBuilder.withLedgersData(holders, requestContext))
-      .thenCompose(holders -> reEncumbranceHoldersBuilder.withCurrentFiscalYearData(holders, requestContext))
+      .thenApply(this::checkAllFundsFound);
+
+    CompletableFuture<List<ReEncumbranceHolder>> ledgers = fundsFound
+      .thenCompose(holders -> reEncumbranceHoldersBuilder.withLedgersData(holders, requestContext));
+    CompletableFuture<List<ReEncumbranceHolder>> budgets = fundsFound
+      .thenCompose(holders -> reEncumbranceHoldersBuilder.withBudgets(holders, requestContext));
+    CompletableFuture<List<ReEncumbranceHolder>> fiscalYear = fundsFound
+      .thenCompose(holders -> reEncumbranceHoldersBuilder.withCurrentFiscalYearData(holders, requestContext));
+    CompletableFuture<Map<String, Pair<CurrencyConversion, CurrencyConversion>>> conversions = fiscalYear
+      .thenCompose(holders -> reEncumbranceHoldersBuilder.getConversions(holders, requestContext));
+
+    CompletableFuture<List<ReEncumbranceHolder>> rolloversChecked = fiscalYear
       .thenCompose(holders -> reEncumbranceHoldersBuilder.withRollovers(holders, requestContext))
       .thenApply(reEncumbranceHoldersBuilder::withEncumbranceRollover)
-      .thenCompose(holders -> checkRolloverHappensForAllLedgers(holders, requestContext))
-      .thenCompose(holders -> reEncumbranceHoldersBuilder.withBudgets(holders, requestContext))
-      .thenCompose(holders -> reEncumbranceHoldersBuilder.withConversions(holders, requestContext))
+      .thenCompose(holders -> checkRolloverHappensForAllLedgers(holders, rolloverProgresses));
+    CompletableFuture<List<LedgerFiscalYearRolloverError>> rolloverErrors = rolloversChecked
+      .thenCompose(holders -> getRolloverErrors(orderId, requestContext));
+
+    return rolloversChecked
       .thenApply(this::filterNeedReEncumbranceHolders)
       .thenCompose(holders -> reEncumbranceHoldersBuilder.withPreviousFyEncumbrances(holders, requestContext))
-      .thenApply(this::adjustPoLinesCost)
+      .thenCombine(conversions, (holders, converted) -> adjustPoLinesCost(reEncumbranceHoldersBuilder.withConversions(holders, converted)))
       .thenCompose(holders -> reEncumbranceHoldersBuilder.withToEncumbrances(holders, requestContext))
+      .thenCombine(CompletableFuture.allOf(ledgers, budgets), (holders, aVoid) -> holders)
       .thenCompose(holders -> validateAndCreateEncumbrances(holders, requestContext))
       .thenApply(this::updateLinkToEncumbrances)
-      .thenCompose(holders -> deleteRolloverErrors(orderId, requestContext).thenApply(aVoid -> holders))
-      .thenCompose(holders -> updatePoLines(holders, requestContext));
+      .thenCompose(holders -> CompletableFuture.allOf(
+        rolloverErrors.thenCompose(errors -> rolloverErrorService.deleteRolloverErrors(errors, requestContext)),
+        updatePoLines(holders, requestContext)));
   }
 
   private List<ReEncumbranceHolder> checkAllFundsFound(List<ReEncumbranceHolder> holders) {
@@ -143,8 +176,8 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
   }
 
   private CompletableFuture<List<ReEncumbranceHolder>> checkRolloverHappensForAllLedgers(List<ReEncumbranceHolder> holders,
-                                                                                         RequestContext requestContext) {
-    return getLedgersIdsRolloverNotCompleted(holders, requestContext)
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses) {
+    return getLedgersIdsRolloverNotCompleted(holders, rolloverProgresses)
             .thenAccept(ledgerIds -> {
               if (isRolloversPartiallyCompleted(holders, ledgerIds)) {
                 Parameter parameter = new Parameter().withKey("ledgerIds")
@@ -162,6 +195,11 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
   }
 
   private CompletableFuture<List<String>> getLedgersIdsRolloverNotCompleted(List<ReEncumbranceHolder> holders, RequestContext requestContext) {
+    return getLedgersIdsRolloverNotCompleted(holders, rolloverId -> rolloverRetrieveService.getRolloversProgress(rolloverId, requestContext));
+  }
+
+  private CompletableFuture<List<String>> getLedgersIdsRolloverNotCompleted(List<ReEncumbranceHolder> holders,
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses) {
     List<String> ledgerIds = holders.stream()
             .filter(holder -> Objects.isNull(holder.getRollover()))
             .map(ReEncumbranceHolder::getLedgerId)
@@ -172,7 +210,7 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
     return CompletableFuture.allOf(holders.stream()
             .filter(holder -> Objects.nonNull(holder.getRollover()))
             .map(ReEncumbranceHolder::getRollover)
-            .map(rollover -> rolloverRetrieveService.getRolloversProgress(rollover.getId(), requestContext)
+            .map(rollover -> rolloverProgresses.apply(rollover.getId())
                     .thenAccept(progresses -> {
                       if (isRolloverNotCompleted(progresses)) {
                         ledgerIds.add(rollover.getLedgerId());
@@ -182,7 +220,10 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
             .thenApply(aVoid -> ledgerIds);
   }
 
-  private boolean isRolloverNotCompleted(List<LedgerFiscalYearRolloverProgress> progresses) {
+  /**
+   * @return true if the rollover is not started or still in progress
+   */
+  public static boolean isRolloverNotCompleted(List<LedgerFiscalYearRolloverProgress> progresses) {
     return progresses.isEmpty() || progresses.stream()
             .anyMatch(progress -> progress.getOverallRolloverStatus() == LedgerFiscalYearRolloverProgress.RolloverStatus.IN_PROGRESS
                     || progress.getOverallRolloverStatus() == LedgerFiscalYearRolloverProgress.RolloverStatus.NOT_STARTED);
@@ -198,21 +239,16 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
     return Objects.nonNull(reEncumbranceHolder.getEncumbranceRollover());
   }
 
-  private CompletableFuture<Void> deleteRolloverErrors(String orderId, RequestContext requestContext) {
+  private CompletableFuture<List<LedgerFiscalYearRolloverError>> getRolloverErrors(String orderId, RequestContext requestContext) {
     return rolloverErrorService.getLedgerFyRolloverErrors(orderId, requestContext)
-            .thenApply(LedgerFiscalYearRolloverErrorCollection::getLedgerFiscalYearRolloverErrors)
-            .thenCompose(errors -> rolloverErrorService.deleteRolloverErrors(errors, requestContext));
+            .thenApply(LedgerFiscalYearRolloverErrorCollection::getLedgerFiscalYearRolloverErrors);
   }
 
   private CompletableFuture<Void> updatePoLines(List<ReEncumbranceHolder> holders, RequestContext requestContext) {
-    List<PoLine> lines = holders.stream().map(ReEncumbranceHolder::getPoLine).map(poLine -> {
-      List<String> alertIds = poLine.getAlerts().stream().map(Alert::getId).collect(toList());
-      List<String> codeIds = poLine.getReportingCodes().stream().map(ReportingCode::getId).collect(toList());
-      JsonObject jsonPoLine = JsonObject.mapFrom(poLine);
-      jsonPoLine.remove(ALERTS);
-      jsonPoLine.remove(REPORTING_CODES);
-      return jsonPoLine.mapTo(PoLine.class).withAlerts(alertIds).withReportingCodes(codeIds);
-    }).collect(toList());
+    List<PoLine> lines = holders.stream()
+      .map(ReEncumbranceHolder::getPoLine)
+      .map(OrderMapper.INSTANCE::mapToPoLine)
+      .collect(toList());
     return purchaseOrderLineService.updateOrderLines(lines, requestContext);
   }
 
@@ -0,0 +1,178 @@
+package org.folio.service.orders;
+
+import static org.folio.orders.utils.ResourcePathResolver.PO_NUMBER;
+import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.acq.model.SequenceNumber;
+import org.folio.rest.core.RestClient;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
+import org.folio.rest.tools.utils.TenantTool;
+
+/**
+ * Per-tenant pool of PO numbers retrieved from the storage sequence in advance. The storage hands out one number per
+ * call, so the pool is refilled with {@code poolSize} concurrent calls once there are {@code poolSize / 4} numbers or
+ * less left, and the orders created in bulk don't wait for the sequence one by one.
+ * <p>
+ * The numbers issued by the pool are unique, so they don't have to be checked against existing orders. The numbers
+ * left in the pool are lost on restart, so the pool is disabled by default and enabled with
+ * {@code -Dorders.poNumber.poolSize=<size>}.
+ */
+public class PoNumberPool {
+
+  public static final String POOL_SIZE_PROPERTY = "orders.poNumber.poolSize";
+
+  private static final Logger logger = LogManager.getLogger(PoNumberPool.class);
+  private static final String ENDPOINT = resourcesPath(PO_NUMBER);
+  private static final int MAX_ISSUED_NUMBERS = 10_000;
+
+  private final RestClient restClient;
+  private final int poolSize;
+  private final Map<String, TenantPool> pools = new ConcurrentHashMap<>();
+
+  public PoNumberPool(RestClient restClient) {
+    this(restClient, Integer.getInteger(POOL_SIZE_PROPERTY, 0));
+  }
+
+  PoNumberPool(RestClient restClient, int poolSize) {
+    this.restClient = restClient;
+    this.poolSize = poolSize;
+  }
+
+  public boolean isEnabled() {
+    return poolSize > 0;
+  }
+
+  /**
+   * @return future with the next PO number, completed on the thread which retrieved the number if the pool is empty
+   */
+  public CompletableFuture<String> getPoNumber(RequestContext requestContext) {
+    if (!isEnabled()) {
+      return generatePoNumber(requestContext);
+    }
+    return pools.computeIfAbsent(TenantTool.tenantId(requestContext.getHeaders()), tenantId -> new TenantPool())
+      .next(requestContext);
+  }
+
+  /**
+   * Checks if the PO number has been issued by the pool and not checked yet. Each issued number is reported once, so
+   * the same number provided again is checked against existing orders as any other number.
+   */
+  public boolean isIssued(String poNumber, RequestContext requestContext) {
+    TenantPool pool = pools.get(TenantTool.tenantId(requestContext.getHeaders()));
+    return pool != null && pool.removeIssued(poNumber);
+  }
+
+  private CompletableFuture<String> generatePoNumber(RequestContext requestContext) {
+    return restClient.get(new RequestEntry(ENDPOINT), requestContext, SequenceNumber.class)
+      .thenApply(SequenceNumber::getSequenceNumber);
+  }
+
+  private final class TenantPool {
+    private final Deque<String> available = new ArrayDeque<>();
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private final Set<String> issued = new LinkedHashSet<>();
+    private boolean refilling;
+
+    private CompletableFuture<String> next(RequestContext requestContext) {
+      CompletableFuture<String> future;
+      boolean refill;
+      synchronized (this) {
+        String poNumber = available.poll();
+        if (poNumber == null) {
+          future = new CompletableFuture<>();
+          waiting.add(new Waiter(future, requestContext));
+        } else {
+          future = CompletableFuture.completedFuture(issue(poNumber));
+        }
+        refill = !refilling && available.size() <= poolSize / 4;
+        refilling |= refill;
+      }
+      if (refill) {
+        refill(requestContext);
+      }
+      return future;
+    }
+
+    /**
+     * Retrieves the numbers with the context of the request which triggered the refill, so the numbers are requested
+     * with the token of a request being processed rather than of the one which created the pool.
+     */
+    private void refill(RequestContext requestContext) {
+      logger.debug("Reserving {} PO numbers", poolSize);
+      CompletableFuture<?>[] futures = new CompletableFuture[poolSize];
+      for (int i = 0; i < poolSize; i++) {
+        futures[i] = generatePoNumber(requestContext).whenComplete(this::add);
+      }
+      CompletableFuture.allOf(futures).whenComplete((v, t) -> {
+        Waiter waiter;
+        synchronized (this) {
+          // requests waiting for the numbers which failed to be retrieved are served by the next refill, which is made
+          // on behalf of the oldest of them
+          waiter = waiting.peek();
+          refilling = waiter != null;
+        }
+        if (waiter != null) {
+          refill(waiter.requestContext);
+        }
+      });
+    }
+
+    private void add(String poNumber, Throwable t) {
+      if (t != null) {
+        Waiter waiter;
+        synchronized (this) {
+          waiter = available.isEmpty() ? waiting.poll() : null;
+        }
+        if (waiter != null) {
+          waiter.future.completeExceptionally(t);
+        }
+        return;
+      }
+      Waiter waiter;
+      synchronized (this) {
+        waiter = waiting.poll();
+        if (waiter == null) {
+          available.add(poNumber);
+        } else {
+          issue(poNumber);
+        }
+      }
+      if (waiter != null) {
+        waiter.future.complete(poNumber);
+      }
+    }
+
+    private String issue(String poNumber) {
+      if (issued.size() >= MAX_ISSUED_NUMBERS) {
+        issued.remove(issued.iterator().next());
+      }
+      issued.add(poNumber);
+      return poNumber;
+    }
+
+    private synchronized boolean removeIssued(String poNumber) {
+      return issued.remove(poNumber);
+    }
+  }
+
+  private static final class Waiter {
+    private final CompletableFuture<String> future;
+    private final RequestContext requestContext;
+
+    private Waiter(CompletableFuture<String> future, RequestContext requestContext) {
+      this.future = future;
+      this.requestContext = requestContext;
+    }
+  }
+}
@@ -7,8 +7,10 @@ import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.HelperUtils.convertIdsToCqlQuery;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -30,12 +32,15 @@ import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PoLineCollection;
 
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class PurchaseOrderLineService {
   private static final Logger logger = LogManager.getLogger(PurchaseOrderLineService.class);
   private static final String ENDPOINT = "/orders-storage/po-lines";
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
+  private static final String PO_LINES_KEY = "poLines";
+  private static final String TOTAL_RECORDS_KEY = "totalRecords";
 
   private final RestClient restClient;
 
@@ -49,6 +54,33 @@ public class PurchaseOrderLineService {
                      .thenApply(PoLineCollection::getPoLines);
   }
 
+  /**
+   * Retrieves PO lines with only the listed fields mapped, other fields of the records are skipped, so large lines (e.g.
+   * with many locations) needed only for a few fields are not mapped completely.
+   *
+   * @param fields names of the PO line fields to map
+   * @return future with the lines and total number of the lines matching the query
+   */
+  public CompletableFuture<PoLineCollection> getOrderLines(String query, int offset, int limit, Set<String> fields,
+      RequestContext requestContext) {
+    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
+    return restClient.getAsJsonObject(requestEntry, requestContext)
+      .thenApply(collection -> {
+        JsonArray lines = collection.getJsonArray(PO_LINES_KEY, new JsonArray());
+        List<PoLine> poLines = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+          JsonObject line = lines.getJsonObject(i);
+          JsonObject projection = new JsonObject();
+          fields.stream()
+            .filter(line::containsKey)
+            .forEach(field -> projection.put(field, line.getValue(field)));
+          poLines.add(projection.mapTo(PoLine.class));
+        }
+        return new PoLineCollection().withPoLines(poLines)
+          .withTotalRecords(collection.getInteger(TOTAL_RECORDS_KEY, poLines.size()));
+      });
+  }
+
   public CompletableFuture<PoLine> getOrderLineById(String orderLineId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(orderLineId);
     return restClient.get(requestEntry, requestContext, PoLine.class);
@@ -0,0 +1,233 @@
+package org.folio.service.orders;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_JOB_NOT_FOUND;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_ORDERS_AMBIGUOUS;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_ORDERS_NOT_SPECIFIED;
+import static org.folio.orders.utils.ErrorCodes.ROLLOVER_NOT_COMPLETED;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.orders.utils.ErrorCodes;
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.rest.jaxrs.model.ReEncumberFailure;
+import org.folio.rest.jaxrs.model.ReEncumberJob;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.finance.rollover.RolloverErrorService;
+import org.folio.service.finance.rollover.RolloverRetrieveService;
+
+import io.vertx.core.json.JsonObject;
+import one.util.streamex.StreamEx;
+
+/**
+ * Re-encumbers orders in bulk after the rollover: either the orders with rollover errors of the ledger rollover or the
+ * listed orders. The job is started in the background and processes {@code orders.reEncumber.concurrency} orders at a
+ * time, progress of the rollovers is retrieved once for the whole job. Re-encumbered orders have their rollover errors
+ * deleted, the orders which failed keep their errors and are reported in the job.
+ * <p>
+ * The jobs are kept in memory of the module instance which started them, so the other instances don't find them and
+ * the jobs are lost on restart. The last {@value #MAX_JOBS} completed jobs of each tenant are retained, the jobs in
+ * progress are never evicted. The orders are re-encumbered with the headers of the request which started the job, so
+ * the orders processed after the token of the request expires fail and are reported in the job as the other failures.
+ * The failures of the listed orders are not stored anywhere else, they are lost with the job.
+ */
+public class ReEncumberJobService {
+
+  public static final String CONCURRENCY_PROPERTY = "orders.reEncumber.concurrency";
+
+  private static final Logger logger = LogManager.getLogger(ReEncumberJobService.class);
+  static final int MAX_JOBS = 100;
+
+  private final OrderReEncumberService orderReEncumberService;
+  private final RolloverErrorService rolloverErrorService;
+  private final RolloverRetrieveService rolloverRetrieveService;
+  private final int concurrency;
+  private final Map<String, Map<String, ReEncumberJob>> jobs = new ConcurrentHashMap<>();
+
+  public ReEncumberJobService(OrderReEncumberService orderReEncumberService, RolloverErrorService rolloverErrorService,
+      RolloverRetrieveService rolloverRetrieveService) {
+    this(orderReEncumberService, rolloverErrorService, rolloverRetrieveService, Integer.getInteger(CONCURRENCY_PROPERTY, 5));
+  }
+
+  ReEncumberJobService(OrderReEncumberService orderReEncumberService, RolloverErrorService rolloverErrorService,
+      RolloverRetrieveService rolloverRetrieveService, int concurrency) {
+    this.orderReEncumberService = orderReEncumberService;
+    this.rolloverErrorService = rolloverErrorService;
+    this.rolloverRetrieveService = rolloverRetrieveService;
+    this.concurrency = Math.max(concurrency, 1);
+  }
+
+  /**
+   * Resolves the orders to re-encumber and starts the job.
+   *
+   * @return future with the started job, completed exceptionally if the orders are not specified, both the ledger rollover
+   *         and the orders are specified or the ledger rollover is not completed
+   */
+  public CompletableFuture<ReEncumberJob> startJob(ReEncumberJob request, RequestContext requestContext) {
+    if (request.getLedgerRolloverId() == null && request.getPurchaseOrderIds().isEmpty()) {
+      return CompletableFuture.failedFuture(new HttpException(422, RE_ENCUMBER_ORDERS_NOT_SPECIFIED));
+    }
+    if (request.getLedgerRolloverId() != null && !request.getPurchaseOrderIds().isEmpty()) {
+      return CompletableFuture.failedFuture(new HttpException(422, RE_ENCUMBER_ORDERS_AMBIGUOUS));
+    }
+    Map<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> progresses = new ConcurrentHashMap<>();
+    Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses = rolloverId ->
+      getRolloverProgresses(progresses, rolloverId, requestContext);
+
+    return getOrderIds(request, rolloverProgresses, requestContext)
+      .thenApply(orderIds -> {
+        ReEncumberJob job = new ReEncumberJob().withId(UUID.randomUUID().toString())
+          .withLedgerRolloverId(request.getLedgerRolloverId())
+          .withPurchaseOrderIds(request.getPurchaseOrderIds())
+          .withStatus(ReEncumberJob.Status.IN_PROGRESS)
+          .withTotal(orderIds.size())
+          .withProcessed(0)
+          .withSucceeded(0)
+          .withFailedOrders(new ArrayList<>());
+        getTenantJobs(requestContext).put(job.getId(), job);
+        logger.info("Re-encumber job {} is started for {} orders", job.getId(), orderIds.size());
+        run(job, orderIds, rolloverProgresses, requestContext);
+        return copyOf(job);
+      });
+  }
+
+  /**
+   * @return future with the current state of the job, completed exceptionally if the job is not found
+   */
+  public CompletableFuture<ReEncumberJob> getJob(String jobId, RequestContext requestContext) {
+    ReEncumberJob job = getTenantJobs(requestContext).get(jobId);
+    if (job == null) {
+      return CompletableFuture.failedFuture(new HttpException(404, RE_ENCUMBER_JOB_NOT_FOUND));
+    }
+    return completedFuture(copyOf(job));
+  }
+
+  /**
+   * Retrieves progress of the rollover once per job. Only the successful retrieval is remembered, the progress which
+   * failed to be retrieved is requested again by the next order.
+   */
+  private CompletableFuture<List<LedgerFiscalYearRolloverProgress>> getRolloverProgresses(
+      Map<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> progresses, String rolloverId,
+      RequestContext requestContext) {
+    CompletableFuture<List<LedgerFiscalYearRolloverProgress>> future = new CompletableFuture<>();
+    CompletableFuture<List<LedgerFiscalYearRolloverProgress>> existing = progresses.putIfAbsent(rolloverId, future);
+    if (existing != null) {
+      return existing;
+    }
+    rolloverRetrieveService.getRolloversProgress(rolloverId, requestContext)
+      .whenComplete((result, t) -> {
+        if (t == null) {
+          future.complete(result);
+        } else {
+          progresses.remove(rolloverId, future);
+          future.completeExceptionally(t);
+        }
+      });
+    return future;
+  }
+
+  private CompletableFuture<List<String>> getOrderIds(ReEncumberJob request,
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses, RequestContext requestContext) {
+    String rolloverId = request.getLedgerRolloverId();
+    if (rolloverId == null) {
+      return completedFuture(StreamEx.of(request.getPurchaseOrderIds()).distinct().toList());
+    }
+    return rolloverProgresses.apply(rolloverId)
+      .thenCompose(progresses -> {
+        if (OrderReEncumberService.isRolloverNotCompleted(progresses)) {
+          Parameter parameter = new Parameter().withKey("ledgerRolloverId").withValue(rolloverId);
+          throw new HttpException(400, ROLLOVER_NOT_COMPLETED.toError().withParameters(Collections.singletonList(parameter)));
+        }
+        return rolloverErrorService.getRolloverErrorsOrderIds(rolloverId, requestContext);
+      });
+  }
+
+  private void run(ReEncumberJob job, List<String> orderIds,
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses, RequestContext requestContext) {
+    CompletableFuture<Void> future = completedFuture(null);
+    for (List<String> chunk : StreamEx.ofSubLists(orderIds, concurrency).toList()) {
+      future = future.thenCompose(v -> CompletableFuture.allOf(chunk.stream()
+          .map(orderId -> reEncumber(job, orderId, rolloverProgresses, requestContext))
+          .toArray(CompletableFuture[]::new)))
+        .thenRun(() -> logger.debug("Re-encumber job {}: {} of {} orders processed", job.getId(), job.getProcessed(), job.getTotal()));
+    }
+    future.whenComplete((v, t) -> {
+      synchronized (job) {
+        job.setStatus(t == null ? ReEncumberJob.Status.SUCCESS : ReEncumberJob.Status.ERROR);
+      }
+      if (t == null) {
+        logger.info("Re-encumber job {} is completed: {} of {} orders re-encumbered", job.getId(), job.getSucceeded(), job.getTotal());
+      } else {
+        logger.error("Re-encumber job {} failed", job.getId(), t);
+      }
+    });
+  }
+
+  private CompletableFuture<Void> reEncumber(ReEncumberJob job, String orderId,
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses, RequestContext requestContext) {
+    return orderReEncumberService.reEncumber(orderId, rolloverProgresses, requestContext)
+      .handle((v, t) -> {
+        synchronized (job) {
+          job.setProcessed(job.getProcessed() + 1);
+          if (t == null) {
+            job.setSucceeded(job.getSucceeded() + 1);
+          } else {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            logger.warn("Re-encumber job {} failed to re-encumber order {}", job.getId(), orderId, cause);
+            Error error = cause instanceof HttpException ? ((HttpException) cause).getError()
+              : new Error().withCode(ErrorCodes.GENERIC_ERROR_CODE.getCode()).withMessage(cause.getMessage());
+            job.getFailedOrders().add(new ReEncumberFailure().withPurchaseOrderId(orderId).withError(error));
+          }
+        }
+        return null;
+      });
+  }
+
+  private Map<String, ReEncumberJob> getTenantJobs(RequestContext requestContext) {
+    return jobs.computeIfAbsent(TenantTool.tenantId(requestContext.getHeaders()),
+      tenantId -> Collections.synchronizedMap(new LinkedHashMap<String, ReEncumberJob>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ReEncumberJob> eldest) {
+          if (size() > MAX_JOBS) {
+            // the oldest completed job is removed, the map may keep more jobs while they are in progress
+            Iterator<ReEncumberJob> iterator = values().iterator();
+            while (iterator.hasNext()) {
+              if (!isInProgress(iterator.next())) {
+                iterator.remove();
+                break;
+              }
+            }
+          }
+          return false;
+        }
+      }));
+  }
+
+  private static boolean isInProgress(ReEncumberJob job) {
+    synchronized (job) {
+      return job.getStatus() == ReEncumberJob.Status.IN_PROGRESS;
+    }
+  }
+
+  private ReEncumberJob copyOf(ReEncumberJob job) {
+    synchronized (job) {
+      return JsonObject.mapFrom(job).mapTo(ReEncumberJob.class);
+    }
+  }
+}
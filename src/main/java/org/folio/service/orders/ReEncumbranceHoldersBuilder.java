@@ -1,11 +1,16 @@
 package org.folio.service.orders;
 
 import static java.math.MathContext.DECIMAL64;
+import static java.util.stream.Collectors.filtering;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.reducing;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,6 +22,7 @@ import javax.money.convert.ConversionQuery;
 import javax.money.convert.CurrencyConversion;
 import javax.money.convert.ExchangeRateProvider;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.models.ReEncumbranceHolder;
 import org.folio.orders.utils.AsyncUtil;
 import org.folio.orders.utils.HelperUtils;
@@ -173,40 +179,56 @@ public class ReEncumbranceHoldersBuilder {
       .thenApply(rollovers -> withRollovers(rollovers, holders));
   }
 
-  public CompletableFuture<List<ReEncumbranceHolder>> withConversions(List<ReEncumbranceHolder> reEncumbranceHolders,
-                                                                      RequestContext requestContext) {
+  /**
+   * Resolves the currency conversions for the holders without modifying them, so that the conversions can be calculated
+   * on a worker thread while other stages are still populating the holders.
+   *
+   * @return conversions by PO line currency: left is PO line to fiscal year currency, right is the reverse conversion
+   */
+  public CompletableFuture<Map<String, Pair<CurrencyConversion, CurrencyConversion>>> getConversions(
+      List<ReEncumbranceHolder> reEncumbranceHolders, RequestContext requestContext) {
     Optional<String> fyCurrency = reEncumbranceHolders.stream()
         .map(ReEncumbranceHolder::getCurrency)
         .filter(Objects::nonNull)
         .findFirst();
     if (fyCurrency.isEmpty()) {
-      return CompletableFuture.completedFuture(reEncumbranceHolders);
+      return CompletableFuture.completedFuture(Collections.emptyMap());
     }
+    Map<String, Optional<Double>> poLineCurrencyExchangeRates = reEncumbranceHolders.stream()
+      .map(ReEncumbranceHolder::getPoLine)
+      .map(CompositePoLine::getCost)
+      .collect(groupingBy(Cost::getCurrency,
+          mapping(Cost::getExchangeRate, filtering(Objects::nonNull, reducing((rate, otherRate) -> rate)))));
     return AsyncUtil.executeBlocking(requestContext.getContext(), false, () -> {
-
-      Map<String, List<ReEncumbranceHolder>> currencyHoldersMap = reEncumbranceHolders.stream()
-        .collect(groupingBy(reEncumbranceHolder -> reEncumbranceHolder.getPoLine().getCost().getCurrency()));
-      currencyHoldersMap.forEach((poLineCurrency, holders) -> {
-        Double exchangeRate = holders.stream()
-                .map(ReEncumbranceHolder::getPoLine)
-                .map(CompositePoLine::getCost)
-                .map(Cost::getExchangeRate)
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
-        ConversionQuery poLineToFYConversionQuery = HelperUtils.getConversionQuery(exchangeRate, poLineCurrency, fyCurrency.get());
+      Map<String, Pair<CurrencyConversion, CurrencyConversion>> conversions = new HashMap<>();
+      poLineCurrencyExchangeRates.forEach((poLineCurrency, poLineExchangeRate) -> {
+        ConversionQuery poLineToFYConversionQuery = HelperUtils.getConversionQuery(poLineExchangeRate.orElse(null), poLineCurrency, fyCurrency.get());
         ExchangeRateProvider exchangeRateProvider = exchangeRateProviderResolver.resolve(poLineToFYConversionQuery, requestContext);
         CurrencyConversion poLineToFYConversion = exchangeRateProvider.getCurrencyConversion(poLineToFYConversionQuery);
-        exchangeRate = poLineToFYConversion.getExchangeRate(Money.of(0d, poLineCurrency)).getFactor().doubleValue();
+        double exchangeRate = poLineToFYConversion.getExchangeRate(Money.of(0d, poLineCurrency)).getFactor().doubleValue();
 
         double reverseRate = BigDecimal.ONE.divide(BigDecimal.valueOf(exchangeRate), DECIMAL64).doubleValue();
 
         ConversionQuery fyToPoLineConversionQuery = HelperUtils.getConversionQuery(reverseRate, fyCurrency.get(), poLineCurrency);
         CurrencyConversion fyToPoLineConversion = exchangeRateProvider.getCurrencyConversion(fyToPoLineConversionQuery);
-        holders.forEach(holder -> holder.withPoLineToFyConversion(poLineToFYConversion).withFyToPoLineConversion(fyToPoLineConversion));
+        conversions.put(poLineCurrency, Pair.of(poLineToFYConversion, fyToPoLineConversion));
       });
-      return reEncumbranceHolders;
+      return conversions;
     });
+  }
 
+  public List<ReEncumbranceHolder> withConversions(List<ReEncumbranceHolder> reEncumbranceHolders,
+                                                   Map<String, Pair<CurrencyConversion, CurrencyConversion>> conversions) {
+    if (conversions.isEmpty()) {
+      return reEncumbranceHolders;
+    }
+    reEncumbranceHolders.forEach(holder -> {
+      Pair<CurrencyConversion, CurrencyConversion> conversion = conversions.get(holder.getPoLine().getCost().getCurrency());
+      if (Objects.nonNull(conversion)) {
+        holder.withPoLineToFyConversion(conversion.getLeft()).withFyToPoLineConversion(conversion.getRight());
+      }
+    });
+    return reEncumbranceHolders;
   }
 
   public CompletableFuture<List<ReEncumbranceHolder>> withPreviousFyEncumbrances(List<ReEncumbranceHolder> holders,
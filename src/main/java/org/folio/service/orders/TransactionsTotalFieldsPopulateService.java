@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.ToDoubleFunction;
 
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.acq.model.finance.TransactionCollection;
@@ -26,6 +27,9 @@ public class TransactionsTotalFieldsPopulateService implements CompositeOrderDyn
   @Override
   public CompletableFuture<CompositeOrderRetrieveHolder> populate(CompositeOrderRetrieveHolder holder,
       RequestContext requestContext) {
+    if (!holder.isIncluded(CompositeOrderInclude.TOTALS)) {
+      return CompletableFuture.completedFuture(holder);
+    }
     return Optional.of(holder)
       .map(CompositeOrderRetrieveHolder::getFiscalYear)
       .map(s -> withTotalFields(holder, requestContext))
@@ -267,20 +267,20 @@ public class UnOpenCompositeOrderManager {
         piecesWithItem.forEach(piece -> deletedItems.add(deletePieceWithItem(piece.getId(), rqContext)
           .thenApply(v -> onOrderItem)));
       }
-      List<Piece> piecesWithoutItem = itemIdVsPiece.get(Optional.empty());
-      if (CollectionUtils.isNotEmpty(piecesWithoutItem)) {
-        List<String> pieceIds = piecesWithoutItem.stream().map(Piece::getId).collect(toList());
-        piecesWithItem.forEach(piece -> deletedItems.add(pieceStorageService.deletePiecesByIds(pieceIds, rqContext)
-          .thenApply(v -> onOrderItem)));
-      }
-    });
-    return collectResultsOnSuccess(deletedItems).thenApply(resultDeletedItems -> {
-      if (logger.isDebugEnabled()) {
-        String deletedIds = resultDeletedItems.stream().map(item -> item.getString(ID)).collect(Collectors.joining(","));
-        logger.debug(String.format("Item were removed : %s", deletedIds));
-      }
-      return resultDeletedItems;
     });
+    // Pieces without item are removed once in batches, not for each item of the PO line
+    List<String> pieceIdsWithoutItem = itemIdVsPiece.getOrDefault(Optional.empty(), Collections.emptyList()).stream()
+      .map(Piece::getId)
+      .collect(toList());
+    return pieceStorageService.deletePiecesByIds(pieceIdsWithoutItem, rqContext)
+      .thenCompose(v -> collectResultsOnSuccess(deletedItems))
+      .thenApply(resultDeletedItems -> {
+        if (logger.isDebugEnabled()) {
+          String deletedIds = resultDeletedItems.stream().map(item -> item.getString(ID)).collect(Collectors.joining(","));
+          logger.debug(String.format("Item were removed : %s", deletedIds));
+        }
+        return resultDeletedItems;
+      });
   }
 
   private List<JsonObject> getItemsByStatus(List<JsonObject> items, String status) {
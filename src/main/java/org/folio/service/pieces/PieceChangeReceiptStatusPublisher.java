@@ -11,7 +11,16 @@ import static org.folio.orders.utils.HelperUtils.LANG;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 
 public class PieceChangeReceiptStatusPublisher {
+
+  private final ReceivingHistoryCache receivingHistoryCache;
+
+  public PieceChangeReceiptStatusPublisher(ReceivingHistoryCache receivingHistoryCache) {
+    this.receivingHistoryCache = receivingHistoryCache;
+  }
+
   public void sendEvent(MessageAddress messageAddress, JsonObject data, RequestContext requestContext) {
+    receivingHistoryCache.invalidate(requestContext);
+
     DeliveryOptions deliveryOptions = new DeliveryOptions();
 
     // Add okapi headers
@@ -3,6 +3,8 @@ package org.folio.service.pieces;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.models.pieces.PieceCreationHolder;
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.orders.utils.ErrorCodes;
 import org.folio.orders.utils.ProtectedOperationType;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Piece;
@@ -11,7 +13,11 @@ import org.folio.service.finance.transaction.ReceivingEncumbranceStrategy;
 import org.folio.service.orders.PurchaseOrderLineService;
 import org.folio.service.orders.PurchaseOrderService;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 
 public class PieceCreationFlowManager {
@@ -51,4 +57,53 @@ public class PieceCreationFlowManager {
       .thenCompose(v -> pieceStorageService.insertPiece(piece, requestContext));
   }
 
+  /**
+   * Creates pieces of one PO line. Unlike creating pieces one by one, PO line and order are retrieved, encumbrances are
+   * processed and PO line is updated once for the whole batch, and Inventory records are resolved per title and holding.
+   * Pieces are sent to the storage in bounded batches, see {@link PieceStorageService#insertPieces}.
+   * <p>
+   * The flow is not atomic, as the storage has no transactions: PO line quantities, encumbrances and Inventory records
+   * are updated before the pieces are created, the same way as when a single piece is created. If any of the pieces fails
+   * to be created these updates are not reverted and the error is logged with the PO line, so the line and the pieces
+   * which were created have to be checked before the batch is retried.
+   *
+   * @param pieces pieces to create, all must belong to the same PO line
+   * @return future with created pieces
+   */
+  public CompletableFuture<List<Piece>> createPieces(List<Piece> pieces, RequestContext requestContext) {
+    if (pieces.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    Set<String> poLineIds = pieces.stream().map(Piece::getPoLineId).collect(Collectors.toSet());
+    if (poLineIds.size() > 1) {
+      return CompletableFuture.failedFuture(new HttpException(422, ErrorCodes.PIECES_FROM_DIFFERENT_PO_LINES));
+    }
+    logger.info("createPieces start, {} pieces", pieces.size());
+    PieceCreationHolder holder = new PieceCreationHolder(pieces.get(0));
+    return purchaseOrderLineService.getOrderLineById(pieces.get(0).getPoLineId(), requestContext)
+      .thenCompose(poLine -> purchaseOrderService.getPurchaseOrderById(poLine.getPurchaseOrderId(), requestContext)
+                                .thenAccept(purchaseOrder -> holder.shallowCopy(new PieceCreationHolder(purchaseOrder, poLine)))
+      )
+      .thenCompose(order -> protectionService.isOperationRestricted(holder.getOriginPurchaseOrder().getAcqUnitIds(),
+        ProtectedOperationType.CREATE, requestContext))
+      .thenCompose(v -> {
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (Piece piece : pieces) {
+          future = future.thenCompose(ok -> PieceFlowUpdatePoLineStrategies.ADD
+            .updateQuantity(1, piece, holder.getPoLineToSave(), requestContext));
+        }
+        return future;
+      })
+      .thenCompose(v -> receivingEncumbranceStrategy.processEncumbrances(holder.getPurchaseOrderToSave(), holder.getOriginPurchaseOrder(), requestContext))
+      .thenCompose(v -> purchaseOrderLineService.updateOrderLine(holder.getPoLineToSave(), requestContext))
+      .thenCompose(v -> pieceUpdateInventoryService.updateInventory(holder.getPoLineToSave(), pieces, requestContext))
+      .thenCompose(v -> pieceStorageService.insertPieces(pieces, requestContext)
+        .whenComplete((createdPieces, t) -> {
+          if (t != null) {
+            logger.error("Not all of {} pieces are created, PO line {} is already updated", pieces.size(),
+              holder.getPoLineToSave().getId(), t);
+          }
+        }));
+  }
+
 }
@@ -8,11 +8,11 @@ import static java.util.stream.Collectors.summingInt;
 import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.HelperUtils.calculateInventoryItemsQuantity;
 import static org.folio.orders.utils.HelperUtils.calculatePiecesQuantityWithoutLocation;
-import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.PoLineCommonUtil.groupLocationsByHoldingId;
 import static org.folio.orders.utils.PoLineCommonUtil.groupLocationsByLocationId;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -183,11 +183,7 @@ public class PieceService {
         piecesToCreate.addAll(createPiecesWithoutLocationId(compPOL, existingPieces));
         piecesToCreate.forEach(piece -> piece.setTitleId(titleId));
         logger.info("Trying to create pieces");
-        List<CompletableFuture<Piece>> piecesToCreateFutures = new ArrayList<>();
-        piecesToCreate.forEach(piece ->
-          piecesToCreateFutures.add(openOrderCreatePiece(piece, requestContext))
-        );
-        return collectResultsOnSuccess(piecesToCreateFutures)
+        return openOrderCreatePieces(compPOL, piecesToCreate, requestContext)
                 .thenAccept(result -> logger.info("Number of created pieces: " + result.size()))
                 .exceptionally(th -> {
                   logger.error("Piece creation error");
@@ -197,6 +193,21 @@ public class PieceService {
       .thenAccept(v -> validateItemsCreation(compPOL, createdItemsQuantity));
   }
 
+  /**
+   * Batch version of {@link #openOrderCreatePiece(Piece, RequestContext)} for the pieces of one PO line: the order is
+   * retrieved and checked for restrictions once, then the inventory is updated and pieces are created in batches.
+   */
+  private CompletableFuture<List<Piece>> openOrderCreatePieces(CompositePoLine compPOL, List<Piece> piecesToCreate,
+                                                               RequestContext requestContext) {
+    if (piecesToCreate.isEmpty()) {
+      return completedFuture(Collections.emptyList());
+    }
+    return getCompositeOrderByPoLineId(compPOL.getId(), requestContext)
+      .thenCompose(order -> protectionService.isOperationRestricted(order.getAcqUnitIds(), ProtectedOperationType.CREATE, requestContext))
+      .thenCompose(v -> pieceUpdateInventoryService.updateInventory(compPOL, piecesToCreate, requestContext))
+      .thenCompose(v -> pieceStorageService.insertPieces(piecesToCreate, requestContext));
+  }
+
   private List<Piece> createPiecesByLocationId(CompositePoLine compPOL, List<Piece> expectedPiecesWithItem, List<Piece> existingPieces) {
     List<Piece> piecesToCreate = new ArrayList<>();
     // For each location collect pieces that need to be created.
@@ -1,5 +1,6 @@
 package org.folio.service.pieces;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.core.RestClient;
@@ -11,9 +12,17 @@ import org.folio.rest.jaxrs.model.PieceCollection;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
+import one.util.streamex.StreamEx;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
@@ -21,9 +30,12 @@ import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 public class PieceStorageService {
   private static final Logger logger = LogManager.getLogger(PieceStorageService.class);
 
+  private static final String PIECES = "pieces";
   private static final String PIECES_BY_POL_ID_AND_STATUS_QUERY = "poLineId==%s and receivingStatus==%s";
   private static final String PIECE_STORAGE_ENDPOINT = resourcesPath(PIECES_STORAGE);
   private static final String PIECE_STORAGE_BY_ID_ENDPOINT = PIECE_STORAGE_ENDPOINT + "/{id}";
+  // Max number of concurrent requests to the storage sent by batch operations
+  static final int BATCH_SIZE = 25;
 
   private final RestClient restClient;
 
@@ -38,12 +50,8 @@ public class PieceStorageService {
    */
   public CompletableFuture<List<Piece>> getPiecesByPoLineId(CompositePoLine compPOL, RequestContext requestContext) {
     String query = String.format("poLineId==%s", compPOL.getId());
-    RequestEntry requestEntry = new RequestEntry(resourcesPath(PIECES_STORAGE)).withQuery(query)
-      .withLimit(Integer.MAX_VALUE)
-      .withOffset(0);
-
-    return restClient.get(requestEntry, requestContext, PieceCollection.class)
-      .thenApply(PieceCollection::getPieces);
+    RequestEntry requestEntry = new RequestEntry(resourcesPath(PIECES_STORAGE)).withQuery(query);
+    return restClient.getAll(requestEntry, requestContext, PIECES, Piece.class);
   }
 
   public CompletableFuture<Piece> getPieceById(String pieceId, RequestContext requestContext) {
@@ -66,10 +74,39 @@ public class PieceStorageService {
     return restClient.delete(requestEntry, requestContext);
   }
 
+  /**
+   * Creates pieces in the storage. Pieces are sent in batches of {@value #BATCH_SIZE} parallel requests, the next batch
+   * is sent when the previous one is completed.
+   *
+   * @param pieces pieces to create
+   * @return future with created pieces, completed exceptionally if any of the pieces is not created
+   */
+  public CompletableFuture<List<Piece>> insertPieces(List<Piece> pieces, RequestContext requestContext) {
+    return processInBatches(pieces, piece -> insertPiece(piece, requestContext).toCompletableFuture())
+      .thenApply(createdPieces -> {
+        logger.debug("{} pieces were created", createdPieces.size());
+        return createdPieces;
+      });
+  }
+
+  /**
+   * Updates pieces in the storage in batches of {@value #BATCH_SIZE} parallel requests. Failure of one piece does not
+   * stop the update of the others.
+   *
+   * @param pieces pieces to update
+   * @return future with the errors of the pieces which are not updated by piece id, empty if all the pieces are updated
+   */
+  public CompletableFuture<Map<String, Throwable>> updatePieces(List<Piece> pieces, RequestContext requestContext) {
+    return processInBatches(pieces, piece -> updatePiece(piece, requestContext)
+        .handle((v, t) -> t == null ? null : Pair.of(piece.getId(), t)))
+      .thenApply(failures -> {
+        logger.debug("{} pieces were updated, {} failed", pieces.size() - failures.size(), failures.size());
+        return failures.stream().collect(toMap(Pair::getKey, Pair::getValue, (first, second) -> first));
+      });
+  }
+
   public CompletableFuture<Void> deletePiecesByIds(List<String> pieceIds, RequestContext rqContext) {
-    List<CompletableFuture<Void>> deletedItems = new ArrayList<>(pieceIds.size());
-    pieceIds.forEach(pieceId -> deletedItems.add(deletePiece(pieceId, rqContext)));
-    return collectResultsOnSuccess(deletedItems)
+    return processInBatches(pieceIds, pieceId -> deletePiece(pieceId, rqContext))
       .thenAccept(v -> {
         if (logger.isDebugEnabled()) {
           String deletedIds = String.join(",", pieceIds);
@@ -80,7 +117,28 @@ public class PieceStorageService {
 
   public CompletableFuture<PieceCollection> getExpectedPiecesByLineId(String poLineId, RequestContext requestContext) {
     String query = String.format(PIECES_BY_POL_ID_AND_STATUS_QUERY, poLineId, Piece.ReceivingStatus.EXPECTED.value());
-    return getPieces(Integer.MAX_VALUE, 0, query, requestContext);
+    RequestEntry requestEntry = new RequestEntry(PIECE_STORAGE_ENDPOINT).withQuery(query);
+    return restClient.getAll(requestEntry, requestContext, PIECES, Piece.class)
+      .thenApply(pieces -> new PieceCollection().withPieces(pieces).withTotalRecords(pieces.size()));
+  }
+
+  /**
+   * Retrieves the expected pieces of the PO line page by page and keeps only the pieces matching the filter, so the other
+   * pieces of large PO lines are not held in memory.
+   *
+   * @param filter condition of the pieces to return
+   * @return future with the expected pieces matching the filter
+   */
+  public CompletableFuture<List<Piece>> getExpectedPiecesByLineId(String poLineId, Predicate<Piece> filter,
+      RequestContext requestContext) {
+    String query = String.format(PIECES_BY_POL_ID_AND_STATUS_QUERY, poLineId, Piece.ReceivingStatus.EXPECTED.value());
+    RequestEntry requestEntry = new RequestEntry(PIECE_STORAGE_ENDPOINT).withQuery(query);
+    List<Piece> pieces = new ArrayList<>();
+    return restClient.getPaged(requestEntry, requestContext, PIECES, Piece.class, page -> {
+        page.stream().filter(filter).forEach(pieces::add);
+        return completedFuture(null);
+      })
+      .thenApply(v -> pieces);
   }
 
   public CompletableFuture<PieceCollection> getPieces(int limit, int offset, String query, RequestContext requestContext) {
@@ -89,4 +147,16 @@ public class PieceStorageService {
       .withLimit(limit);
     return restClient.get(requestEntry, requestContext, PieceCollection.class);
   }
+
+  private <T, R> CompletableFuture<List<R>> processInBatches(List<T> records, Function<T, CompletableFuture<R>> operation) {
+    CompletableFuture<List<R>> future = completedFuture(new ArrayList<>(records.size()));
+    for (List<T> batch : StreamEx.ofSubLists(records, BATCH_SIZE).toList()) {
+      future = future.thenCompose(results -> collectResultsOnSuccess(batch.stream().map(operation).collect(toList()))
+        .thenApply(batchResults -> {
+          results.addAll(batchResults);
+          return results;
+        }));
+    }
+    return future;
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.service.pieces;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.orders.utils.HelperUtils;
@@ -13,10 +14,21 @@ import org.folio.rest.jaxrs.model.Title;
 import org.folio.service.inventory.InventoryManager;
 import org.folio.service.titles.TitlesService;
 
+import one.util.streamex.StreamEx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.HelperUtils.ID;
 import static org.folio.rest.jaxrs.model.CompositePoLine.OrderFormat.ELECTRONIC_RESOURCE;
 
@@ -61,6 +73,75 @@ public class PieceUpdateInventoryService {
     }
   }
 
+  /**
+   * Batch version of {@link #updateInventory(CompositePoLine, Piece, RequestContext)}. Pieces of package PO line are grouped
+   * by title and then by holding/location, so title, instance and holding are resolved once per group and items are
+   * created with one call per holding.
+   *
+   * @param compPOL Composite PO line to update Inventory for
+   * @param pieces  pieces of the PO line, populated with item ids of created items
+   * @return CompletableFuture with void.
+   */
+  public CompletableFuture<Void> updateInventory(CompositePoLine compPOL, List<Piece> pieces, RequestContext requestContext) {
+    if (Boolean.TRUE.equals(compPOL.getIsPackage())) {
+      Map<String, List<Piece>> piecesByTitleId = pieces.stream()
+        .collect(groupingBy(Piece::getTitleId, LinkedHashMap::new, toList()));
+      return processInBatches(new ArrayList<>(piecesByTitleId.entrySet()),
+          entry -> updateTitleInventory(compPOL, entry.getKey(), entry.getValue(), requestContext))
+        .thenAccept(v -> logger.debug("Inventory updated for {} pieces of {} titles", pieces.size(), piecesByTitleId.size()));
+    }
+    return processInBatches(pieces,
+        piece -> inventoryManager.updateItemWithPoLineId(piece.getItemId(), piece.getPoLineId(), requestContext))
+      .thenAccept(v -> logger.debug("Items of {} pieces linked to PO line", pieces.size()));
+  }
+
+  private CompletableFuture<Void> updateTitleInventory(CompositePoLine compPOL, String titleId, List<Piece> pieces,
+      RequestContext requestContext) {
+    return titlesService.getTitleById(titleId, requestContext)
+      .thenCompose(title -> {
+        if (title.getInstanceId() != null) {
+          return completedFuture(title);
+        }
+        return handleInstanceRecord(title, requestContext)
+          .thenCompose(titleWithInstance -> titlesService.updateTitle(titleWithInstance, requestContext)
+            .thenApply(json -> titleWithInstance));
+      })
+      .thenCompose(title -> {
+        Map<Pair<String, String>, List<Piece>> piecesByHolding = pieces.stream()
+          .collect(groupingBy(piece -> Pair.of(piece.getHoldingId(), piece.getLocationId()), LinkedHashMap::new, toList()));
+        return processInBatches(new ArrayList<>(piecesByHolding.entrySet()),
+          entry -> createItemRecords(compPOL, entry.getKey(), title.getInstanceId(), entry.getValue(), requestContext));
+      })
+      .thenAccept(v -> logger.debug("Inventory updated for {} pieces of title with id={}", pieces.size(), titleId));
+  }
+
+  /**
+   * Runs the operation for {@value PieceStorageService#BATCH_SIZE} records at a time, the next batch is started when the
+   * previous one is completed.
+   */
+  private <T> CompletableFuture<Void> processInBatches(List<T> records, Function<T, CompletableFuture<Void>> operation) {
+    CompletableFuture<Void> future = completedFuture(null);
+    for (List<T> batch : StreamEx.ofSubLists(records, PieceStorageService.BATCH_SIZE).toList()) {
+      future = future.thenCompose(v -> collectResultsOnSuccess(batch.stream().map(operation).collect(toList())))
+        .thenAccept(v -> {});
+    }
+    return future;
+  }
+
+  private CompletableFuture<Void> createItemRecords(CompositePoLine compPOL, Pair<String, String> holdingAndLocation,
+      String instanceId, List<Piece> pieces, RequestContext requestContext) {
+    CompletableFuture<String> holdingFuture = holdingAndLocation.getLeft() != null
+      ? completedFuture(holdingAndLocation.getLeft())
+      : handleHoldingsRecord(compPOL, new Location().withLocationId(holdingAndLocation.getRight()), instanceId, requestContext);
+    return holdingFuture
+      .thenCompose(holdingId -> createItemRecords(compPOL, holdingId, pieces.size(), requestContext))
+      .thenAccept(itemIds -> {
+        for (int i = 0; i < Math.min(itemIds.size(), pieces.size()); i++) {
+          pieces.get(i).setItemId(itemIds.get(i));
+        }
+      });
+  }
+
   public CompletableFuture<Title> handleInstanceRecord(Title title, RequestContext requestContext) {
     if (title.getInstanceId() != null) {
       return CompletableFuture.completedFuture(title);
@@ -106,27 +187,26 @@ public class PieceUpdateInventoryService {
    * Return id of created  Item
    */
   public CompletableFuture<String> createItemRecord(CompositePoLine compPOL, String holdingId, RequestContext requestContext) {
-    final int ITEM_QUANTITY = 1;
-    logger.debug("Handling {} items for PO Line and holdings with id={}", ITEM_QUANTITY, holdingId);
-    CompletableFuture<String> itemFuture = new CompletableFuture<>();
+    return createItemRecords(compPOL, holdingId, 1, requestContext)
+      .thenApply(itemIds -> itemIds.isEmpty() ? null : itemIds.get(0));
+  }
+
+  /**
+   * Return ids of created Items, empty list if items are not required by the PO line
+   */
+  public CompletableFuture<List<String>> createItemRecords(CompositePoLine compPOL, String holdingId, int quantity,
+      RequestContext requestContext) {
+    logger.debug("Handling {} items for PO Line and holdings with id={}", quantity, holdingId);
     try {
       if (PoLineCommonUtil.isItemsUpdateRequired(compPOL)) {
         if (compPOL.getOrderFormat() == ELECTRONIC_RESOURCE) {
-          inventoryManager.createMissingElectronicItems(compPOL, holdingId, ITEM_QUANTITY, requestContext)
-            .thenApply(idS -> itemFuture.complete(idS.get(0)))
-            .exceptionally(itemFuture::completeExceptionally);
-        } else {
-          inventoryManager.createMissingPhysicalItems(compPOL, holdingId, ITEM_QUANTITY, requestContext)
-            .thenApply(idS -> itemFuture.complete(idS.get(0)))
-            .exceptionally(itemFuture::completeExceptionally);
+          return inventoryManager.createMissingElectronicItems(compPOL, holdingId, quantity, requestContext);
         }
+        return inventoryManager.createMissingPhysicalItems(compPOL, holdingId, quantity, requestContext);
       }
-      else {
-        itemFuture.complete(null);
-      }
+      return completedFuture(Collections.emptyList());
     } catch (Exception e) {
-      itemFuture.completeExceptionally(e);
+      return CompletableFuture.failedFuture(e);
     }
-    return itemFuture;
   }
 }
@@ -0,0 +1,41 @@
+package org.folio.service.pieces;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.folio.rest.core.ReferenceDataCache;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.jaxrs.model.ReceivingHistoryCollection;
+
+/**
+ * Cache of receiving history pages, so the receiving UI polling and paging the history doesn't query storage for the
+ * pages it has just seen. The pages are cached by acquisitions units of the user, query, offset and limit, and all the
+ * pages of the tenant are invalidated when pieces are received, checked in or changed.
+ * <p>
+ * The cache is disabled by default and enabled with {@code -Dorders.cache.receivingHistory.ttlSeconds=<seconds>}.
+ */
+public class ReceivingHistoryCache {
+
+  private static final String KEY_FORMAT = "%s|%s|%d|%d";
+
+  private final ReferenceDataCache<ReceivingHistoryCollection> cache = ReferenceDataCache.create("receivingHistory", 0);
+
+  /**
+   * @param acqUnitsCqlExpr CQL expression limiting the history to acquisitions units of the user
+   * @param loader          retrieves the page from storage
+   * @return future with the cached or retrieved page
+   */
+  public CompletableFuture<ReceivingHistoryCollection> get(String acqUnitsCqlExpr, String query, int offset, int limit,
+      RequestContext requestContext, Supplier<CompletableFuture<ReceivingHistoryCollection>> loader) {
+    return cache.get(String.format(KEY_FORMAT, acqUnitsCqlExpr, query, offset, limit), requestContext, loader);
+  }
+
+  /**
+   * Removes all the cached pages of the tenant.
+   */
+  public void invalidate(RequestContext requestContext) {
+    if (requestContext.getHeaders() != null) {
+      cache.invalidateAll(requestContext);
+    }
+  }
+}
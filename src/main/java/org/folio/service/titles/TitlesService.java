@@ -1,17 +1,24 @@
 package org.folio.service.titles;
 
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.ResourcePathResolver.TITLES;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,9 +28,12 @@ import org.folio.orders.utils.HelperUtils;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
+import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.Title;
 import org.folio.rest.jaxrs.model.TitleCollection;
+import org.folio.rest.jaxrs.model.TitleResult;
+import org.folio.rest.jaxrs.model.TitleResults;
 import org.folio.service.orders.PurchaseOrderLineService;
 
 import one.util.streamex.StreamEx;
@@ -32,13 +42,23 @@ public class TitlesService {
   private static final Logger logger = LogManager.getLogger(TitlesService.class);
   private static final String ENDPOINT = resourcesPath(TITLES);
   private static final String BY_ID_ENDPOINT = ENDPOINT + "/{id}";
+  private static final String TITLES_KEY = "titles";
+  static final int CREATE_BATCH_SIZE = 10;
+
+  public static final String PAGE_SIZE_PROPERTY = "orders.titles.pageSize";
 
   private final PurchaseOrderLineService purchaseOrderLineService;
   private final RestClient restClient;
+  private final int pageSize;
 
   public TitlesService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService) {
+    this(restClient, purchaseOrderLineService, Integer.getInteger(PAGE_SIZE_PROPERTY, RestClient.DEFAULT_PAGE_SIZE));
+  }
+
+  TitlesService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService, int pageSize) {
     this.restClient = restClient;
     this.purchaseOrderLineService = purchaseOrderLineService;
+    this.pageSize = pageSize;
   }
 
   public CompletableFuture<Title> createTitle(Title title, RequestContext requestContext) {
@@ -56,6 +76,31 @@ public class TitlesService {
     return future;
   }
 
+  /**
+   * Creates titles of many PO lines. The PO lines and existing titles of non-package lines are retrieved for all the
+   * titles with one query per {@value org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ} PO lines, then the titles are
+   * created in batches of {@value #CREATE_BATCH_SIZE} parallel requests. Failure of a title doesn't affect the others.
+   *
+   * @param titles titles to create
+   * @return future with the result of each title in the order of the titles
+   */
+  public CompletableFuture<TitleResults> createTitles(List<Title> titles, RequestContext requestContext) {
+    List<String> poLineIds = titles.stream()
+      .map(Title::getPoLineId)
+      .distinct()
+      .collect(toList());
+    return purchaseOrderLineService.getOrderLinesByIds(poLineIds, requestContext)
+      .thenCompose(poLines -> {
+        Map<String, PoLine> poLinesById = StreamEx.of(poLines).toMap(PoLine::getId, Function.identity(), (line, duplicate) -> line);
+        List<String> nonPackageLineIds = poLines.stream()
+          .filter(poLine -> !Boolean.TRUE.equals(poLine.getIsPackage()))
+          .map(PoLine::getId)
+          .collect(toList());
+        return getTitlesByPoLineIds(nonPackageLineIds, requestContext)
+          .thenCompose(existingTitles -> createTitles(titles, poLinesById, new HashSet<>(existingTitles.keySet()), requestContext));
+      });
+  }
+
   public CompletableFuture<TitleCollection> getTitles(int limit, int offset, String query, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(limit);
     return restClient.get(requestEntry, requestContext, TitleCollection.class);
@@ -76,12 +121,19 @@ public class TitlesService {
     return restClient.delete(requestEntry, requestContext);
   }
 
+  /**
+   * Retrieves all the titles of the PO lines, package lines may have any number of titles. The titles are retrieved with
+   * one query per {@value org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ} PO lines, each query is paged with pages of
+   * {@code orders.titles.pageSize} titles. Titles of the query which failed are skipped.
+   *
+   * @return future with the titles grouped by PO line id
+   */
   public CompletableFuture<Map<String, List<Title>>> getTitlesByPoLineIds(List<String> poLineIds, RequestContext requestContext) {
     return collectResultsOnSuccess(StreamEx
       .ofSubLists(poLineIds, MAX_IDS_FOR_GET_RQ)
       // Transform piece id's to CQL query
-      .map(ids -> HelperUtils.convertFieldListToCqlQuery(ids, "poLineId", true))
-      // Send get request for each CQL query
+      .map(this::buildPoLineIdsQuery)
+      // Send get requests for each CQL query
       .map(query -> getTitlesByQuery(query, requestContext))
       .toList())
       .thenApply(lists -> StreamEx.of(lists)
@@ -116,6 +168,55 @@ public class TitlesService {
     return future;
   }
 
+  private CompletableFuture<TitleResults> createTitles(List<Title> titles, Map<String, PoLine> poLinesById,
+      Set<String> poLineIdsWithTitle, RequestContext requestContext) {
+    List<CompletableFuture<TitleResult>> results = new ArrayList<>(titles.size());
+    List<Supplier<CompletableFuture<TitleResult>>> creations = new ArrayList<>();
+    for (Title title : titles) {
+      PoLine poLine = poLinesById.get(title.getPoLineId());
+      if (poLine == null) {
+        results.add(completedFuture(buildFailedResult(title, ErrorCodes.PO_LINE_NOT_FOUND.toError())));
+      } else if (!Boolean.TRUE.equals(poLine.getIsPackage()) && !poLineIdsWithTitle.add(poLine.getId())) {
+        // non-package line has only one title, also if several titles of the line are in the batch
+        results.add(completedFuture(buildFailedResult(title, ErrorCodes.TITLE_EXIST.toError())));
+      } else {
+        populateTitleByPoLine(title, poLine);
+        CompletableFuture<TitleResult> result = new CompletableFuture<>();
+        results.add(result);
+        creations.add(() -> createPopulatedTitle(title, requestContext).whenComplete((titleResult, t) -> result.complete(titleResult)));
+      }
+    }
+
+    CompletableFuture<Void> future = completedFuture(null);
+    for (List<Supplier<CompletableFuture<TitleResult>>> batch : StreamEx.ofSubLists(creations, CREATE_BATCH_SIZE).toList()) {
+      future = future.thenCompose(v -> CompletableFuture.allOf(batch.stream()
+        .map(Supplier::get)
+        .toArray(CompletableFuture[]::new)));
+    }
+    return future.thenCompose(v -> collectResultsOnSuccess(results))
+      .thenApply(titleResults -> new TitleResults().withTitleResults(titleResults)
+        .withTotalRecords(titleResults.size()));
+  }
+
+  private CompletableFuture<TitleResult> createPopulatedTitle(Title title, RequestContext requestContext) {
+    return restClient.post(new RequestEntry(ENDPOINT), title, requestContext, Title.class)
+      .thenApply(created -> new TitleResult().withTitle(created)
+        .withProcessingStatus(TitleResult.ProcessingStatus.SUCCESS))
+      .exceptionally(t -> {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        logger.error("Failed to create title for PO line {}", title.getPoLineId(), cause);
+        Error error = cause instanceof HttpException ? ((HttpException) cause).getError()
+          : new Error().withCode(ErrorCodes.GENERIC_ERROR_CODE.getCode()).withMessage(cause.getMessage());
+        return buildFailedResult(title, error);
+      });
+  }
+
+  private TitleResult buildFailedResult(Title title, Error error) {
+    return new TitleResult().withTitle(title)
+      .withProcessingStatus(TitleResult.ProcessingStatus.FAILURE)
+      .withError(error);
+  }
+
   private void populateTitleByPoLine(Title title, PoLine poLine) {
     title.setPackageName(poLine.getTitleOrPackage());
     title.setExpectedReceiptDate(Objects.nonNull(poLine.getPhysical()) ? poLine.getPhysical().getExpectedReceiptDate() : null);
@@ -126,12 +227,27 @@ public class TitlesService {
   }
 
   private CompletableFuture<List<Title>> getTitlesByQuery(String query, RequestContext requestContext) {
-    return getTitles(MAX_IDS_FOR_GET_RQ, 0, query, requestContext)
-      .thenApply(TitleCollection::getTitles)
+    List<Title> titles = new ArrayList<>();
+    return getTitlesByQuery(query, page -> {
+        titles.addAll(page);
+        return completedFuture(null);
+      }, requestContext)
+      .thenApply(v -> titles)
       .exceptionally(e -> {
-        logger.error("The issue happened getting PO Lines", e);
+        logger.error("The issue happened getting titles", e);
         return null;
       });
   }
 
+  private CompletableFuture<Void> getTitlesByQuery(String query, Function<List<Title>, CompletableFuture<Void>> pageConsumer,
+      RequestContext requestContext) {
+    RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query);
+    return restClient.getPaged(requestEntry, requestContext, TITLES_KEY, Title.class, pageSize, pageConsumer);
+  }
+
+  private String buildPoLineIdsQuery(List<String> poLineIds) {
+    // offset paging needs stable order of the titles
+    return HelperUtils.convertFieldListToCqlQuery(poLineIds, "poLineId", true) + " sortBy id";
+  }
+
 }
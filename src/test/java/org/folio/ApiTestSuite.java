@@ -8,16 +8,25 @@ import static org.folio.TestConfig.startMockServer;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
+import org.folio.helper.OrderTemplatesHelperTest;
 import org.folio.helper.PurchaseOrderHelperTest;
 import org.folio.helper.PurchaseOrderLineHelperTest;
+import org.folio.helper.VendorHelperTest;
 import org.folio.orders.events.handlers.CheckInOrderStatusChangeChangeHandlerTest;
 import org.folio.orders.events.handlers.ReceiptStatusConsistencyTest;
 import org.folio.orders.events.handlers.ReceiveOrderStatusChangeHandlerTest;
+import org.folio.orders.mapper.OrderMapperTest;
 import org.folio.orders.utils.HelperUtilsTest;
 import org.folio.orders.utils.validators.CompositePoLineValidationUtilTest;
 import org.folio.orders.utils.validators.LocationsAndPiecesConsistencyValidatorTest;
 import org.folio.orders.utils.validators.OngoingOrderValidatorTest;
+import org.folio.orders.utils.validators.ValidationDagTest;
+import org.folio.rest.core.OutboundRequestLoggerTest;
+import org.folio.rest.core.OutboundRequestMetricsTest;
+import org.folio.rest.core.ReferenceDataCacheTest;
+import org.folio.rest.core.RequestTraceTest;
 import org.folio.rest.core.RestClientTest;
+import org.folio.rest.core.WarmUpTest;
 import org.folio.rest.impl.CheckinReceivingApiTest;
 import org.folio.rest.impl.HoldingsSummaryAPITest;
 import org.folio.rest.impl.OrderTemplateTest;
@@ -35,6 +44,7 @@ import org.folio.rest.impl.protection.ReceivingCheckinProtectionTest;
 import org.folio.service.PrefixServiceTest;
 import org.folio.service.ReasonForClosureServiceTest;
 import org.folio.service.SuffixServiceTest;
+import org.folio.service.exchange.FinanceExchangeRateServiceTest;
 import org.folio.service.exchange.ManualExchangeRateProviderTest;
 import org.folio.service.finance.FundServiceTest;
 import org.folio.service.expenceclass.ExpenseClassValidationServiceTest;
@@ -52,13 +62,17 @@ import org.folio.service.orders.FundsDistributionServiceTest;
 import org.folio.service.orders.OrderInvoiceRelationServiceTest;
 import org.folio.service.orders.OrderReEncumberServiceTest;
 import org.folio.service.orders.OrderRolloverServiceTest;
+import org.folio.service.orders.PoNumberPoolTest;
 import org.folio.service.orders.PurchaseOrderLineServiceTest;
 import org.folio.service.orders.PurchaseOrderServiceTest;
+import org.folio.service.orders.ReEncumberJobServiceTest;
 import org.folio.service.orders.ReEncumbranceHoldersBuilderTest;
 import org.folio.service.orders.TransactionsTotalFieldsPopulateServiceTest;
 import org.folio.service.pieces.PieceServiceTest;
 import org.folio.service.pieces.PieceStorageServiceTest;
 import org.folio.service.pieces.PieceUpdateInventoryServiceTest;
+import org.folio.service.pieces.ReceivingHistoryCacheTest;
+import org.folio.service.titles.TitlesServiceTest;
 import org.folio.utils.PoLineCommonUtilTest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -296,4 +310,74 @@ public class ApiTestSuite {
   class OrderInvoiceRelationServiceTestNested extends OrderInvoiceRelationServiceTest {
 
   }
+
+  @Nested
+  class OrderMapperTestNested extends OrderMapperTest {
+
+  }
+
+  @Nested
+  class OutboundRequestLoggerTestNested extends OutboundRequestLoggerTest {
+
+  }
+
+  @Nested
+  class OutboundRequestMetricsTestNested extends OutboundRequestMetricsTest {
+
+  }
+
+  @Nested
+  class RequestTraceTestNested extends RequestTraceTest {
+
+  }
+
+  @Nested
+  class FinanceExchangeRateServiceTestNested extends FinanceExchangeRateServiceTest {
+
+  }
+
+  @Nested
+  class ReferenceDataCacheTestNested extends ReferenceDataCacheTest {
+
+  }
+
+  @Nested
+  class ValidationDagTestNested extends ValidationDagTest {
+
+  }
+
+  @Nested
+  class PoNumberPoolTestNested extends PoNumberPoolTest {
+
+  }
+
+  @Nested
+  class WarmUpTestNested extends WarmUpTest {
+
+  }
+
+  @Nested
+  class TitlesServiceTestNested extends TitlesServiceTest {
+
+  }
+
+  @Nested
+  class ReceivingHistoryCacheTestNested extends ReceivingHistoryCacheTest {
+
+  }
+
+  @Nested
+  class ReEncumberJobServiceTestNested extends ReEncumberJobServiceTest {
+
+  }
+
+  @Nested
+  class VendorHelperTestNested extends VendorHelperTest {
+
+  }
+
+  @Nested
+  class OrderTemplatesHelperTestNested extends OrderTemplatesHelperTest {
+
+  }
 }
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.folio.rest.RestVerticle;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.impl.MockServer;
 import org.folio.rest.tools.utils.NetworkUtils;
 import org.folio.spring.SpringContextUtil;
@@ -35,6 +36,8 @@ public final class TestConfig {
   private TestConfig() {}
 
   public static void deployVerticle() throws InterruptedException, ExecutionException, TimeoutException {
+    // mock server responses differ between tests for the same records
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "false");
     int okapiPort = NetworkUtils.nextFreePort();
     RestAssured.baseURI = "http://localhost:" + okapiPort;
     RestAssured.port = okapiPort;
@@ -0,0 +1,154 @@
+package org.folio.helper;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.TestConfig.getFirstContextFromVertx;
+import static org.folio.TestConfig.getVertx;
+import static org.folio.TestConfig.initSpringContext;
+import static org.folio.TestConfig.isVerticleNotDeployed;
+import static org.folio.orders.utils.ResourcePathResolver.ORDER_TEMPLATES;
+import static org.folio.orders.utils.ResourcePathResolver.resourceByIdPath;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.ApiTestSuite;
+import org.folio.config.ApplicationConfig;
+import org.folio.rest.core.ReferenceDataCache;
+import org.folio.rest.jaxrs.model.OrderTemplate;
+import org.folio.rest.jaxrs.model.OrderTemplateCollection;
+import org.folio.rest.tools.client.Response;
+import org.folio.rest.tools.client.interfaces.HttpClientInterface;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class OrderTemplatesHelperTest {
+
+  private static final String TEMPLATE_ID = UUID.randomUUID().toString();
+  private static final String TEMPLATE_ENDPOINT = resourceByIdPath(ORDER_TEMPLATES, TEMPLATE_ID);
+  private static final String COLLECTION_ENDPOINT = "?limit=";
+
+  private static boolean runningOnOwn;
+
+  private final Map<String, String> okapiHeaders = new HashMap<>(Map.of(OKAPI_HEADER_TENANT, "templatestenant"));
+  private HttpClientInterface httpClient;
+  private ReferenceDataCache<OrderTemplate> orderTemplatesCache;
+  private ReferenceDataCache<OrderTemplateCollection> orderTemplateCollectionsCache;
+  private Context context;
+  private String enabled;
+
+  @BeforeAll
+  static void before() throws InterruptedException, ExecutionException, TimeoutException {
+    if (isVerticleNotDeployed()) {
+      ApiTestSuite.before();
+      runningOnOwn = true;
+    }
+    initSpringContext(ApplicationConfig.class);
+  }
+
+  @AfterAll
+  static void after() {
+    if (runningOnOwn) {
+      ApiTestSuite.after();
+    }
+  }
+
+  @BeforeEach
+  void initCache() {
+    enabled = System.getProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "true");
+    orderTemplatesCache = ReferenceDataCache.create("orderTemplates", 60);
+    orderTemplateCollectionsCache = ReferenceDataCache.create("orderTemplateCollections", 60);
+    context = getFirstContextFromVertx(getVertx());
+    httpClient = mock(HttpClientInterface.class);
+    JsonObject template = new JsonObject().put("id", TEMPLATE_ID).put("templateName", "Template");
+    when(httpClient.request(eq(HttpMethod.GET), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(200, template)));
+    when(httpClient.request(eq(HttpMethod.GET), contains(COLLECTION_ENDPOINT), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(200, new JsonObject()
+        .put("orderTemplates", new JsonArray().add(template))
+        .put("totalRecords", 1))));
+    when(httpClient.request(eq(HttpMethod.PUT), any(Buffer.class), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(204, null)));
+    when(httpClient.request(eq(HttpMethod.DELETE), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(204, null)));
+  }
+
+  @AfterEach
+  void restoreProperties() {
+    if (enabled == null) {
+      System.clearProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    } else {
+      System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, enabled);
+    }
+  }
+
+  @Test
+  void testTemplatesShouldBeRetrievedOnce() {
+    assertEquals(TEMPLATE_ID, createHelper().getOrderTemplateById(TEMPLATE_ID).join().getId());
+    assertEquals(TEMPLATE_ID, createHelper().getOrderTemplateById(TEMPLATE_ID).join().getId());
+    assertEquals(1, createHelper().getOrderTemplates(null, 0, 10).join().getTotalRecords());
+    assertEquals(1, createHelper().getOrderTemplates(null, 0, 10).join().getTotalRecords());
+
+    verify(httpClient, times(1)).request(eq(HttpMethod.GET), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders));
+    verify(httpClient, times(1)).request(eq(HttpMethod.GET), contains(COLLECTION_ENDPOINT), eq(okapiHeaders));
+  }
+
+  @Test
+  void testUpdatedTemplateShouldBeEvicted() {
+    loadTemplates();
+
+    createHelper().updateOrderTemplate(new OrderTemplate().withId(TEMPLATE_ID).withTemplateName("Updated")).join();
+    loadTemplates();
+
+    verify(httpClient, times(2)).request(eq(HttpMethod.GET), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders));
+    verify(httpClient, times(2)).request(eq(HttpMethod.GET), contains(COLLECTION_ENDPOINT), eq(okapiHeaders));
+  }
+
+  @Test
+  void testDeletedTemplateShouldBeEvicted() {
+    loadTemplates();
+
+    createHelper().deleteOrderTemplate(TEMPLATE_ID).join();
+    loadTemplates();
+
+    verify(httpClient, times(2)).request(eq(HttpMethod.GET), eq(TEMPLATE_ENDPOINT), eq(okapiHeaders));
+    verify(httpClient, times(2)).request(eq(HttpMethod.GET), contains(COLLECTION_ENDPOINT), eq(okapiHeaders));
+  }
+
+  private void loadTemplates() {
+    createHelper().getOrderTemplateById(TEMPLATE_ID).join();
+    createHelper().getOrderTemplates(null, 0, 10).join();
+  }
+
+  private OrderTemplatesHelper createHelper() {
+    return new OrderTemplatesHelper(httpClient, okapiHeaders, context, "en", orderTemplatesCache, orderTemplateCollectionsCache);
+  }
+
+  private static Response response(int code, JsonObject body) {
+    Response response = new Response();
+    response.setCode(code);
+    response.setBody(body);
+    return response;
+  }
+}
@@ -0,0 +1,171 @@
+package org.folio.helper;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.TestConfig.getFirstContextFromVertx;
+import static org.folio.TestConfig.getVertx;
+import static org.folio.TestConfig.initSpringContext;
+import static org.folio.TestConfig.isVerticleNotDeployed;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.ApiTestSuite;
+import org.folio.config.ApplicationConfig;
+import org.folio.rest.acq.model.Organization;
+import org.folio.rest.core.ReferenceDataCache;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.Eresource;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.tools.client.Response;
+import org.folio.rest.tools.client.interfaces.HttpClientInterface;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class VendorHelperTest {
+
+  private static final String VENDOR_ID = "d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1";
+  private static final String ACCESS_PROVIDER_ID = "50fb5514-cdf1-11e8-a8d5-f2801f1b9fd1";
+  private static final String VENDOR_ENDPOINT = "/organizations-storage/organizations/" + VENDOR_ID;
+  private static final String TTL_PROPERTY = "orders.cache.organizations.ttlSeconds";
+
+  private static boolean runningOnOwn;
+
+  private final Map<String, String> okapiHeaders = new HashMap<>(Map.of(OKAPI_HEADER_TENANT, "vendortenant"));
+  private HttpClientInterface httpClient;
+  private ReferenceDataCache<Organization> organizationsCache;
+  private Context context;
+  private String enabled;
+
+  @BeforeAll
+  static void before() throws InterruptedException, ExecutionException, TimeoutException {
+    if (isVerticleNotDeployed()) {
+      ApiTestSuite.before();
+      runningOnOwn = true;
+    }
+    initSpringContext(ApplicationConfig.class);
+  }
+
+  @AfterAll
+  static void after() {
+    if (runningOnOwn) {
+      ApiTestSuite.after();
+    }
+  }
+
+  @BeforeEach
+  void initCache() {
+    enabled = System.getProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "true");
+    System.setProperty(TTL_PROPERTY, "60");
+    organizationsCache = ReferenceDataCache.create(VendorHelper.ORGANIZATIONS, 60);
+    context = getFirstContextFromVertx(getVertx());
+    httpClient = mock(HttpClientInterface.class);
+    JsonObject vendor = new JsonObject()
+      .put("id", VENDOR_ID)
+      .put("name", "GOBI Library Solutions")
+      .put("code", "GOBI")
+      .put("description", "Use for print and eBooks")
+      .put("status", "Active")
+      .put("isVendor", true);
+    JsonObject accessProvider = vendor.copy().put("id", ACCESS_PROVIDER_ID).put("code", "AP");
+    when(httpClient.request(eq(HttpMethod.GET), eq(VENDOR_ENDPOINT), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(vendor)));
+    when(httpClient.request(eq(HttpMethod.GET), contains("query="), eq(okapiHeaders)))
+      .thenAnswer(invocation -> completedFuture(response(new JsonObject()
+        .put(VendorHelper.ORGANIZATIONS, new JsonArray().add(accessProvider)))));
+  }
+
+  @AfterEach
+  void restoreProperties() {
+    System.clearProperty(TTL_PROPERTY);
+    if (enabled == null) {
+      System.clearProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    } else {
+      System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, enabled);
+    }
+  }
+
+  @Test
+  void testVendorShouldBeRetrievedOnce() {
+    CompositePurchaseOrder order = new CompositePurchaseOrder().withVendor(VENDOR_ID);
+
+    Errors first = createHelper().validateVendor(order).join();
+    Errors second = createHelper().validateVendor(order).join();
+
+    assertTrue(first.getErrors().isEmpty());
+    assertTrue(second.getErrors().isEmpty());
+    verify(httpClient, times(1)).request(eq(HttpMethod.GET), eq(VENDOR_ENDPOINT), eq(okapiHeaders));
+  }
+
+  @Test
+  void testOnlyNotCachedAccessProvidersShouldBeRetrieved() {
+    createHelper().validateVendor(new CompositePurchaseOrder().withVendor(VENDOR_ID)).join();
+    List<CompositePoLine> poLines = List.of(poLine(VENDOR_ID), poLine(ACCESS_PROVIDER_ID));
+
+    Errors errors = createHelper().validateAccessProviders(poLines).join();
+
+    assertTrue(errors.getErrors().isEmpty());
+    verify(httpClient).request(eq(HttpMethod.GET),
+      and(contains(ACCESS_PROVIDER_ID), not(contains(VENDOR_ID))), eq(okapiHeaders));
+
+    createHelper().validateAccessProviders(poLines).join();
+    verify(httpClient, times(1)).request(eq(HttpMethod.GET), contains("query="), eq(okapiHeaders));
+  }
+
+  @Test
+  void testCachedVendorShouldHaveValidationFieldsOnly() {
+    createHelper().validateVendor(new CompositePurchaseOrder().withVendor(VENDOR_ID)).join();
+
+    RequestContext requestContext = new RequestContext(context, okapiHeaders);
+    Organization cached = organizationsCache.get(VENDOR_ID, requestContext,
+      () -> CompletableFuture.failedFuture(new IllegalStateException("Vendor is expected to be cached"))).join();
+
+    assertEquals(VENDOR_ID, cached.getId());
+    assertEquals("GOBI Library Solutions", cached.getName());
+    assertEquals(Organization.Status.ACTIVE, cached.getStatus());
+    assertTrue(cached.getIsVendor());
+    assertNull(cached.getCode());
+    assertNull(cached.getDescription());
+  }
+
+  private VendorHelper createHelper() {
+    return new VendorHelper(httpClient, okapiHeaders, context, "en", organizationsCache);
+  }
+
+  private static CompositePoLine poLine(String accessProviderId) {
+    return new CompositePoLine().withEresource(new Eresource().withAccessProvider(accessProviderId));
+  }
+
+  private static Response response(JsonObject body) {
+    Response response = new Response();
+    response.setCode(200);
+    response.setBody(body);
+    return response;
+  }
+}
@@ -30,6 +30,7 @@ import org.folio.rest.acq.model.Piece;
 import org.folio.rest.acq.model.Piece.ReceivingStatus;
 import org.folio.rest.acq.model.PoLine;
 import org.folio.rest.acq.model.PoLine.ReceiptStatus;
+import org.folio.rest.core.RestClient;
 import org.folio.rest.impl.MockServer;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.service.orders.PurchaseOrderLineService;
@@ -67,6 +68,8 @@ public class ReceiptStatusConsistencyTest {
 
   @Autowired
   private PurchaseOrderLineService purchaseOrderLineService;
+  @Autowired
+  private RestClient restClient;
 
   @BeforeAll
   static void before() throws InterruptedException, ExecutionException, TimeoutException {
@@ -82,7 +85,7 @@ public class ReceiptStatusConsistencyTest {
   @BeforeEach
   void setUp() {
     SpringContextUtil.autowireDependencies(this, vertx.getOrCreateContext());
-    vertx.eventBus().consumer(TEST_ADDRESS, new ReceiptStatusConsistency(vertx, purchaseOrderLineService));
+    vertx.eventBus().consumer(TEST_ADDRESS, new ReceiptStatusConsistency(vertx, purchaseOrderLineService, restClient));
   }
 
   @AfterEach
@@ -0,0 +1,87 @@
+package org.folio.orders.mapper;
+
+import static org.folio.TestUtils.getMockAsJson;
+import static org.folio.rest.impl.MockServer.BASE_MOCK_DATA_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Collectors;
+
+import org.folio.rest.jaxrs.model.Alert;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PurchaseOrder;
+import org.folio.rest.jaxrs.model.ReportingCode;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class OrderMapperTest {
+  private static final String ORDER_ID = "1ab7ef6a-d1d4-4a4f-90a2-882aed18af14";
+  private static final String ORDER_PATH = BASE_MOCK_DATA_PATH + "compositeOrders/" + ORDER_ID + ".json";
+
+  private final OrderMapper orderMapper = OrderMapper.INSTANCE;
+
+  @Test
+  void testCloneShouldProduceEqualDeepCopy() {
+    CompositePurchaseOrder order = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
+
+    CompositePurchaseOrder clone = orderMapper.clone(order);
+
+    assertEquals(JsonObject.mapFrom(order), JsonObject.mapFrom(clone));
+    assertNotSame(order.getCompositePoLines().get(0), clone.getCompositePoLines().get(0));
+    assertNotSame(order.getCompositePoLines().get(0).getCost(), clone.getCompositePoLines().get(0).getCost());
+  }
+
+  @Test
+  void testMapToPurchaseOrderShouldMatchJsonConversion() {
+    CompositePurchaseOrder order = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
+    JsonObject expected = JsonObject.mapFrom(order);
+    expected.remove("compositePoLines");
+
+    PurchaseOrder purchaseOrder = orderMapper.mapToPurchaseOrder(order);
+
+    assertEquals(expected.mapTo(PurchaseOrder.class), purchaseOrder);
+  }
+
+  @Test
+  void testMapToCompositePurchaseOrderShouldMatchJsonConversion() {
+    CompositePurchaseOrder order = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
+    PurchaseOrder purchaseOrder = orderMapper.mapToPurchaseOrder(order);
+
+    CompositePurchaseOrder compPO = orderMapper.mapToCompositePurchaseOrder(purchaseOrder);
+
+    assertEquals(JsonObject.mapFrom(purchaseOrder).mapTo(CompositePurchaseOrder.class), compPO);
+  }
+
+  @Test
+  void testMapToPoLineShouldReplaceAlertsAndReportingCodesWithIds() {
+    CompositePoLine compPoLine = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class).getCompositePoLines().get(0);
+    compPoLine.getAlerts().add(new Alert().withId("alertId"));
+    compPoLine.getReportingCodes().add(new ReportingCode().withId("codeId"));
+
+    PoLine poLine = orderMapper.mapToPoLine(compPoLine);
+
+    assertEquals(compPoLine.getAlerts().stream().map(Alert::getId).collect(Collectors.toList()), poLine.getAlerts());
+    assertEquals(compPoLine.getReportingCodes().stream().map(ReportingCode::getId).collect(Collectors.toList()),
+      poLine.getReportingCodes());
+    assertEquals(compPoLine.getCost(), poLine.getCost());
+    assertNotSame(compPoLine.getCost(), poLine.getCost());
+  }
+
+  @Test
+  void testMapToCompositePoLineShouldSkipAlertsAndReportingCodes() {
+    CompositePoLine compPoLine = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class).getCompositePoLines().get(0);
+    PoLine poLine = orderMapper.mapToPoLine(compPoLine);
+
+    CompositePoLine result = orderMapper.mapToCompositePoLine(poLine);
+
+    assertEquals(compPoLine.getId(), result.getId());
+    assertEquals(compPoLine.getLocations(), result.getLocations());
+    assertEquals(compPoLine.getFundDistribution(), result.getFundDistribution());
+    assertTrue(result.getAlerts().isEmpty());
+    assertTrue(result.getReportingCodes().isEmpty());
+  }
+}
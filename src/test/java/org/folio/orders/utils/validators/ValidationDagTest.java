@@ -0,0 +1,110 @@
+package org.folio.orders.utils.validators;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.jaxrs.model.Error;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+public class ValidationDagTest {
+
+  @Test
+  void testErrorsShouldBeReportedInOrderOfValidators() {
+    CompletableFuture<List<Error>> slow = new CompletableFuture<>();
+    List<Error> errors = new ArrayList<>();
+
+    CompletableFuture<Void> result = new ValidationDag(false)
+      .add("first", () -> slow)
+      .add("second", () -> completedFuture(List.of(new Error().withCode("second"))))
+      .run(errors::addAll);
+    assertFalse(result.isDone());
+    slow.complete(List.of(new Error().withCode("first")));
+
+    result.join();
+    assertThat(errors, contains(hasCode("first"), hasCode("second")));
+  }
+
+  @Test
+  void testValidatorShouldStartAfterDependencies() {
+    CompletableFuture<Void> preparation = new CompletableFuture<>();
+    AtomicBoolean started = new AtomicBoolean();
+
+    CompletableFuture<Void> result = new ValidationDag(false)
+      .addCheck("preparation", () -> preparation)
+      .addCheck("validation", () -> {
+        started.set(true);
+        return completedFuture(null);
+      }, "preparation")
+      .run(errors -> assertThat(errors, empty()));
+    assertFalse(started.get());
+    preparation.complete(null);
+
+    result.join();
+    assertTrue(started.get());
+  }
+
+  @Test
+  void testFailFastShouldSkipNotStartedValidators() {
+    CompletableFuture<Void> slow = new CompletableFuture<>();
+    AtomicBoolean started = new AtomicBoolean();
+    List<Error> errors = new ArrayList<>();
+
+    CompletableFuture<Void> result = new ValidationDag(true)
+      .addCheck("slow", () -> slow)
+      .add("invalid", () -> completedFuture(List.of(new Error().withCode("invalid"))))
+      .addCheck("dependent", () -> {
+        started.set(true);
+        return completedFuture(null);
+      }, "slow")
+      .run(errors::addAll);
+    assertTrue(result.isDone());
+    slow.complete(null);
+
+    result.join();
+    assertFalse(started.get());
+    assertThat(errors, contains(hasCode("invalid")));
+  }
+
+  @Test
+  void testExceptionOfFirstFailedValidatorShouldBeRethrown() {
+    List<Error> errors = new ArrayList<>();
+
+    CompletableFuture<Void> result = new ValidationDag(false)
+      .addCheck("forbidden", () -> CompletableFuture.failedFuture(new HttpException(403, "forbidden")))
+      .add("invalid", () -> completedFuture(List.of(new Error().withCode("invalid"))))
+      .addCheck("thrown", () -> {
+        throw new HttpException(422, "thrown");
+      })
+      .run(errors::addAll);
+
+    CompletionException exception = assertThrows(CompletionException.class, result::join);
+    assertEquals(403, ((HttpException) exception.getCause()).getCode());
+    assertThat(errors, contains(hasCode("invalid")));
+  }
+
+  @Test
+  void testUnknownDependencyShouldBeRejected() {
+    ValidationDag dag = new ValidationDag(false);
+    assertThrows(IllegalArgumentException.class, () -> dag.addCheck("validation", () -> completedFuture(null), "unknown"));
+  }
+
+  private static Matcher<Error> hasCode(String code) {
+    return hasProperty("code", equalTo(code));
+  }
+}
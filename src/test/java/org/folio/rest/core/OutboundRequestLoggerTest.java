@@ -0,0 +1,122 @@
+package org.folio.rest.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.tools.client.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpMethod;
+
+public class OutboundRequestLoggerTest {
+
+  private final Logger logger = (Logger) LogManager.getLogger(OutboundRequestLogger.class);
+  private CapturingAppender appender;
+
+  @BeforeEach
+  void addAppender() {
+    appender = new CapturingAppender();
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void removeAppender() {
+    logger.removeAppender(appender);
+    appender.stop();
+  }
+
+  @Test
+  void testGetPathShouldStripQuery() {
+    assertEquals("/orders-storage/po-lines", OutboundRequestLogger.getPath("/orders-storage/po-lines?limit=10&query=id==1"));
+    assertEquals("/orders-storage/po-lines", OutboundRequestLogger.getPath("/orders-storage/po-lines"));
+  }
+
+  @Test
+  void testTruncateShouldKeepShortValues() {
+    assertEquals("{\"id\":\"1\"}", OutboundRequestLogger.truncate("{\"id\":\"1\"}"));
+  }
+
+  @Test
+  void testTruncateShouldCutLongValues() {
+    String value = StringUtils.repeat('a', 10000);
+
+    String result = OutboundRequestLogger.truncate(value);
+
+    assertTrue(result.length() < value.length());
+    assertTrue(result.endsWith("(truncated, 10000 chars total)"));
+  }
+
+  @Test
+  void testParseSampleRateShouldFallBackToDefault() {
+    assertEquals(0.5, OutboundRequestLogger.parseSampleRate(" 0.5 "));
+    assertEquals(0.1, OutboundRequestLogger.parseSampleRate(null));
+    assertEquals(0.1, OutboundRequestLogger.parseSampleRate("10%"));
+  }
+
+  @Test
+  void testUnsuccessfulResponseShouldBeLoggedOnce() {
+    Response response = new Response();
+    response.setCode(404);
+    long startTime = OutboundRequestLogger.start();
+
+    OutboundRequestLogger.logResponse(HttpMethod.GET, "/finance/funds?query=id==1", startTime, 0, response);
+    OutboundRequestLogger.logFailure(HttpMethod.GET, "/finance/funds?query=id==1", startTime, 0,
+      new CompletionException(new HttpException(404, "Not found")));
+
+    List<LogEvent> events = appender.getEvents(Level.WARN);
+    assertThat(events, hasSize(1));
+    assertThat(events.get(0).getMessage().getFormattedMessage(), containsString("method=GET endpoint=/finance/funds status=404"));
+    assertThat(events.get(0).getMessage().getFormattedMessage(), containsString("responseBytes=-"));
+    assertThat(appender.getEvents(Level.ERROR), hasSize(0));
+  }
+
+  @Test
+  void testFailureWithoutResponseShouldBeLoggedWithoutStatus() {
+    long startTime = OutboundRequestLogger.start();
+
+    OutboundRequestLogger.logFailure(HttpMethod.POST, "/finance/funds", startTime, 12, new RuntimeException("Connection refused"));
+
+    List<LogEvent> events = appender.getEvents(Level.ERROR);
+    assertThat(events, hasSize(1));
+    String message = events.get(0).getMessage().getFormattedMessage();
+    assertThat(message, containsString("method=POST endpoint=/finance/funds status=- "));
+    assertThat(message, containsString("requestBytes=12 error=Connection refused"));
+  }
+
+  private static class CapturingAppender extends AbstractAppender {
+
+    private final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+    CapturingAppender() {
+      super("capturing", null, null, true, Property.EMPTY_ARRAY);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+      events.add(event.toImmutable());
+    }
+
+    List<LogEvent> getEvents(Level level) {
+      return events.stream().filter(event -> event.getLevel() == level).collect(toList());
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.rest.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.tools.client.Response;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.http.HttpMethod;
+
+public class OutboundRequestMetricsTest {
+
+  @Test
+  void testGetEndpointTemplateShouldReplaceIdsAndStripQuery() {
+    assertEquals("/orders-storage/po-lines/{id}",
+      OutboundRequestMetrics.getEndpointTemplate("/orders-storage/po-lines/a0d13648-347b-4ac9-8c2f-5bc47248b87e?lang=en"));
+    assertEquals("/finance/funds", OutboundRequestMetrics.getEndpointTemplate("/finance/funds?limit=15&query=id==1"));
+    assertEquals("/inventory/items/{id}", OutboundRequestMetrics.getEndpointTemplate("http://localhost:9130/inventory/items/12"));
+  }
+
+  @Test
+  void testGetModuleShouldGroupEndpointsByDownstreamModule() {
+    assertEquals("inventory", OutboundRequestMetrics.getModule("/holdings-storage/holdings/{id}"));
+    assertEquals("finance", OutboundRequestMetrics.getModule("/finance-storage/budget-expense-classes"));
+    assertEquals("storage", OutboundRequestMetrics.getModule("/orders-storage/pieces"));
+    assertEquals("configuration", OutboundRequestMetrics.getModule("/configurations/entries"));
+    assertEquals("acquisitions-units", OutboundRequestMetrics.getModule("/acquisitions-units-storage/memberships"));
+    assertEquals("tags", OutboundRequestMetrics.getModule("/tags"));
+  }
+
+  @Test
+  void testTrackShouldRecordLatencyErrorsAndInFlight() {
+    String endpoint = "/orders-storage/alerts/a0d13648-347b-4ac9-8c2f-5bc47248b87e";
+    Response response = new Response();
+    response.setCode(200);
+
+    Map<String, String> headers = Collections.emptyMap();
+
+    BiConsumer<Response, Throwable> success = OutboundRequestMetrics.track(HttpMethod.GET, endpoint, headers, System.nanoTime());
+    BiConsumer<Response, Throwable> failure = OutboundRequestMetrics.track(HttpMethod.GET, endpoint, headers, System.nanoTime());
+    Gauge inFlight = OutboundRequestMetrics.getRegistry().find(OutboundRequestMetrics.IN_FLIGHT_METRIC)
+      .tag("module", "storage").gauge();
+    assertNotNull(inFlight);
+    double inFlightBefore = inFlight.value();
+    long requestsBefore = getRequestsCount();
+    double errorsBefore = getErrorsCount();
+
+    success.accept(response, null);
+    failure.accept(null, new HttpException(500, "Internal error"));
+
+    assertEquals(inFlightBefore - 2, inFlight.value());
+    assertEquals(requestsBefore + 1, getRequestsCount());
+    assertEquals(errorsBefore + 1, getErrorsCount());
+  }
+
+  // the registry is shared with the other tests of the suite, so only the increments are asserted
+  private long getRequestsCount() {
+    Timer timer = OutboundRequestMetrics.getRegistry().find(OutboundRequestMetrics.REQUESTS_METRIC)
+      .tags("endpoint", "/orders-storage/alerts/{id}", "status", "200").timer();
+    return timer == null ? 0 : timer.count();
+  }
+
+  private double getErrorsCount() {
+    Counter counter = OutboundRequestMetrics.getRegistry().find(OutboundRequestMetrics.ERRORS_METRIC)
+      .tags("endpoint", "/orders-storage/alerts/{id}").counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
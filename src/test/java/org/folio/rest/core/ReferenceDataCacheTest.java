@@ -0,0 +1,129 @@
+package org.folio.rest.core;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.folio.rest.core.models.RequestContext;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceDataCacheTest {
+
+  private final RequestContext tenant1 = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant1"));
+  private final RequestContext tenant2 = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant2"));
+
+  @Test
+  void testGetShouldCacheRecordPerTenant() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+
+    assertEquals("fund1", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("fund1")).join());
+    assertEquals("fund1", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("other")).join());
+    assertEquals("fund2", cache.get("id", tenant2, () -> CompletableFuture.completedFuture("fund2")).join());
+  }
+
+  @Test
+  void testConcurrentGetShouldShareOneCall() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+    CompletableFuture<String> loading = new CompletableFuture<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<String> first = cache.get("id", tenant1, () -> {
+      calls.incrementAndGet();
+      return loading;
+    });
+    CompletableFuture<String> second = cache.get("id", tenant1, () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture("other");
+    });
+    assertFalse(second.isDone());
+    loading.complete("fund");
+
+    assertEquals("fund", first.join());
+    assertEquals("fund", second.join());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testGetShouldNotCacheFailedAndNotFoundRecords() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+
+    CompletableFuture<String> failed = cache.get("id", tenant1, () -> CompletableFuture.failedFuture(new IllegalStateException()));
+    assertThrows(CompletionException.class, failed::join);
+    assertNull(cache.get("id", tenant1, () -> CompletableFuture.completedFuture(null)).join());
+    assertEquals("fund", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("fund")).join());
+  }
+
+  @Test
+  void testFullCacheShouldEvictOldestRecords() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+    cache.put("oldest", "fund", tenant1);
+    for (int i = 0; i < ReferenceDataCache.MAX_ENTRIES; i++) {
+      cache.put("id" + i, "fund" + i, tenant2);
+    }
+
+    String lastKey = "id" + (ReferenceDataCache.MAX_ENTRIES - 1);
+    assertEquals("reloaded", cache.get("oldest", tenant1, () -> CompletableFuture.completedFuture("reloaded")).join());
+    assertEquals("fund" + (ReferenceDataCache.MAX_ENTRIES - 1),
+      cache.get(lastKey, tenant2, () -> CompletableFuture.completedFuture("other")).join());
+  }
+
+  @Test
+  void testGetShouldReloadExpiredRecord() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.NANOSECONDS);
+
+    assertEquals("fund", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("fund")).join());
+    assertEquals("updated", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("updated")).join());
+  }
+
+  @Test
+  void testGetAllShouldLoadOnlyMissingRecords() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+    cache.put("id1", "fund1", tenant1);
+    AtomicInteger calls = new AtomicInteger();
+    Function<List<String>, CompletableFuture<Map<String, String>>> loader = ids -> {
+      calls.incrementAndGet();
+      assertThat(ids, contains("id2", "id3"));
+      return CompletableFuture.completedFuture(Map.of("id2", "fund2"));
+    };
+
+    Map<String, String> funds = cache.getAll(List.of("id1", "id2", "id3", "id2"), tenant1, loader).join();
+
+    assertEquals(Map.of("id1", "fund1", "id2", "fund2"), funds);
+    assertEquals(1, calls.get());
+    assertEquals("fund2", cache.get("id2", tenant1, () -> CompletableFuture.completedFuture("other")).join());
+  }
+
+  @Test
+  void testInvalidateAllShouldRemoveRecordsOfTenant() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 1, TimeUnit.MINUTES);
+    cache.put("id", "fund1", tenant1);
+    cache.put("id", "fund2", tenant2);
+
+    cache.invalidateAll(tenant1);
+
+    assertEquals("other", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("other")).join());
+    assertEquals("fund2", cache.get("id", tenant2, () -> CompletableFuture.completedFuture("other")).join());
+  }
+
+  @Test
+  void testDisabledCacheShouldAlwaysLoadRecords() {
+    ReferenceDataCache<String> cache = new ReferenceDataCache<>("test", 0, TimeUnit.SECONDS);
+    cache.put("id", "fund", tenant1);
+
+    assertEquals("other", cache.get("id", tenant1, () -> CompletableFuture.completedFuture("other")).join());
+    assertTrue(cache.getAll(List.of("id"), tenant1, ids -> CompletableFuture.completedFuture(Map.of())).join().isEmpty());
+  }
+}
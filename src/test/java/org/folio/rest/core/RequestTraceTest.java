@@ -0,0 +1,82 @@
+package org.folio.rest.core;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+
+public class RequestTraceTest {
+
+  @Test
+  void testStartShouldNotTraceRequestWithoutTraceHeader() {
+    Map<String, String> headers = new HashMap<>();
+    Handler<AsyncResult<Response>> handler = result -> { };
+
+    assertSame(handler, RequestTrace.start("GET /orders/composite-orders/{id}", headers, handler));
+    assertNull(RequestTrace.find(headers));
+  }
+
+  @Test
+  void testTracedRequestShouldReturnSummaryHeader() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RequestTrace.TRACE_HEADER, "true");
+    AtomicReference<Response> response = new AtomicReference<>();
+
+    Handler<AsyncResult<Response>> handler = RequestTrace.start("PUT /orders/composite-orders/{id}", headers,
+      result -> response.set(result.result()));
+    RequestTrace trace = RequestTrace.find(headers);
+    assertNotNull(trace);
+    trace.record(HttpMethod.GET, "finance", "/finance/funds", System.nanoTime(), 100, 200);
+    trace.record(HttpMethod.GET, "finance", "/finance/funds", System.nanoTime(), 100, 200);
+    trace.record(HttpMethod.PUT, "storage", "/orders-storage/po-lines/{id}", System.nanoTime(), -1, 404);
+    handler.handle(succeededFuture(Response.noContent().build()));
+
+    String summary = response.get().getHeaderString(RequestTrace.SUMMARY_HEADER);
+    assertThat(summary, containsString("calls=3 failed=1 responseBytes=200"));
+    assertThat(summary, containsString("finance=2/"));
+    assertThat(summary, containsString("storage=1/"));
+    assertThat(summary, containsString("GET /finance/funds x2"));
+    assertNull(RequestTrace.find(headers));
+  }
+
+  @Test
+  void testNotCompletedTraceShouldExpire() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RequestTrace.TRACE_HEADER, "true");
+
+    RequestTrace.start("POST /orders/composite-orders", headers, result -> { });
+    assertNotNull(RequestTrace.find(headers));
+
+    RequestTrace.removeExpired(System.nanoTime() + TimeUnit.HOURS.toNanos(1));
+
+    assertNull(RequestTrace.find(headers));
+  }
+
+  @Test
+  void testGetBusyTimeShouldMergeOverlappingCalls() {
+    long ms = TimeUnit.MILLISECONDS.toNanos(1);
+    List<RequestTrace.Call> calls = List.of(
+      new RequestTrace.Call("GET /a", "a", "request", 0, 10 * ms, 0, 200),
+      new RequestTrace.Call("GET /b", "b", "request", 5 * ms, 15 * ms, 0, 200),
+      new RequestTrace.Call("GET /c", "c", "request", 20 * ms, 30 * ms, 0, 200));
+
+    assertEquals(25, RequestTrace.getBusyTime(calls));
+  }
+}
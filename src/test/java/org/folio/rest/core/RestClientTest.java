@@ -8,27 +8,34 @@ import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.acq.model.finance.TransactionCollection;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.tools.client.Response;
 import org.folio.rest.tools.client.interfaces.HttpClientInterface;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -155,6 +162,57 @@ public class RestClientTest {
       restClient.post(requestEntry, expTransaction, requestContext, Transaction.class).join();
     });
   }
-}
 
+  @Test
+  void testGetAllShouldRequestNextPageUntilPageIsNotFull() {
+    RestClient restClient = Mockito.spy(new RestClient());
+    List<Transaction> fullPage = Stream.generate(() -> new Transaction().withId(UUID.randomUUID().toString()))
+      .limit(RestClient.DEFAULT_PAGE_SIZE)
+      .collect(Collectors.toList());
+    List<Transaction> lastPage = List.of(new Transaction().withId(UUID.randomUUID().toString()));
+
+    doReturn(completedFuture(JsonObject.mapFrom(new TransactionCollection().withTransactions(fullPage))))
+      .doReturn(completedFuture(JsonObject.mapFrom(new TransactionCollection().withTransactions(lastPage))))
+      .when(restClient).getAsJsonObject(any(RequestEntry.class), eq(requestContext));
+
+    RequestEntry requestEntry = new RequestEntry(resourcesPath(PURCHASE_ORDER)).withQuery("id==*");
+    List<Transaction> transactions = restClient.getAll(requestEntry, requestContext, "transactions", Transaction.class).join();
+
+    assertThat(transactions.size(), equalTo(RestClient.DEFAULT_PAGE_SIZE + 1));
+    assertThat(transactions.get(RestClient.DEFAULT_PAGE_SIZE), equalTo(lastPage.get(0)));
+    ArgumentCaptor<RequestEntry> pageEntries = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(2)).getAsJsonObject(pageEntries.capture(), eq(requestContext));
+    assertThat(pageEntries.getAllValues().get(0).getQueryParams().get("offset"), equalTo(0));
+    assertThat(pageEntries.getAllValues().get(1).getQueryParams().get("offset"), equalTo(RestClient.DEFAULT_PAGE_SIZE));
+    assertThat(pageEntries.getAllValues().get(1).getQuery(), equalTo("id==* sortBy id"));
+    assertThat(requestEntry.getQueryParams().get("offset"), nullValue());
+    assertThat(requestEntry.getQuery(), equalTo("id==*"));
+  }
+
+  @Test
+  void testGetAllShouldKeepSortingOfQuery() {
+    RestClient restClient = Mockito.spy(new RestClient());
+    doReturn(completedFuture(JsonObject.mapFrom(new TransactionCollection())))
+      .when(restClient).getAsJsonObject(any(RequestEntry.class), eq(requestContext));
+
+    restClient.getAll(new RequestEntry(resourcesPath(PURCHASE_ORDER)).withQuery("id==* sortBy metadata.createdDate"),
+      requestContext, "transactions", Transaction.class).join();
+    restClient.getAll(new RequestEntry(resourcesPath(PURCHASE_ORDER)), requestContext, "transactions", Transaction.class).join();
 
+    ArgumentCaptor<RequestEntry> pageEntries = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(2)).getAsJsonObject(pageEntries.capture(), eq(requestContext));
+    assertThat(pageEntries.getAllValues().get(0).getQuery(), equalTo("id==* sortBy metadata.createdDate"));
+    assertThat(pageEntries.getAllValues().get(1).getQuery(), equalTo("cql.allRecords=1 sortBy id"));
+  }
+
+  @Test
+  void testDecodeShouldReleaseRecordsOfCollection() {
+    Transaction transaction = new Transaction().withId(UUID.randomUUID().toString());
+    JsonObject collection = JsonObject.mapFrom(new TransactionCollection().withTransactions(List.of(transaction)));
+
+    List<Transaction> transactions = JsonCollectionDecoder.decode(collection, "transactions", Transaction.class);
+
+    assertThat(transactions, equalTo(List.of(transaction)));
+    assertThat(collection.getJsonArray("transactions").getValue(0), equalTo(null));
+  }
+}
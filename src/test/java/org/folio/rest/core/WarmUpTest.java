@@ -0,0 +1,20 @@
+package org.folio.rest.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class WarmUpTest {
+
+  @Test
+  void testWarmUpShouldMapGeneratedModels() {
+    assertThat(new WarmUp(1).warmUpModels(), greaterThan(0));
+  }
+
+  @Test
+  void testWarmUpShouldProcessAllOrders() {
+    assertEquals(5, new WarmUp(5).warmUpOrders());
+  }
+}
@@ -18,6 +18,7 @@ import static org.folio.TestConstants.X_OKAPI_USER_ID;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.impl.PurchaseOrdersApiTest.X_OKAPI_TENANT;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -99,11 +100,26 @@ public class HoldingsSummaryAPITest {
     String holdingId = UUID.randomUUID().toString();
     String endpoint = String.format(HOLDING_SUMMARY_ENDPOINT, holdingId);
     HoldingSummaryCollection summaryCollection = new HoldingSummaryCollection().withTotalRecords(0);
-    doReturn(completedFuture(summaryCollection)).when(holdingsSummaryService).getHoldingsSummary(eq(holdingId), any(RequestContext.class));
+    doReturn(completedFuture(summaryCollection)).when(holdingsSummaryService)
+      .getHoldingsSummary(eq(holdingId), anyInt(), anyInt(), any(RequestContext.class));
 
     verifyGet(endpoint, prepareHeaders(X_OKAPI_URL, EMPTY_CONFIG_X_OKAPI_TENANT), APPLICATION_JSON, 200);
 
-    verify(holdingsSummaryService, times(1)).getHoldingsSummary(eq(holdingId), any(RequestContext.class));
+    verify(holdingsSummaryService, times(1))
+      .getHoldingsSummary(eq(holdingId), eq(0), eq(Integer.MAX_VALUE), any(RequestContext.class));
+  }
+
+  @Test
+  void shouldPassPagingToHoldingSummary() {
+    String holdingId = UUID.randomUUID().toString();
+    String endpoint = String.format(HOLDING_SUMMARY_ENDPOINT, holdingId) + "?offset=20&limit=10";
+    HoldingSummaryCollection summaryCollection = new HoldingSummaryCollection().withTotalRecords(25);
+    doReturn(completedFuture(summaryCollection)).when(holdingsSummaryService)
+      .getHoldingsSummary(eq(holdingId), anyInt(), anyInt(), any(RequestContext.class));
+
+    verifyGet(endpoint, prepareHeaders(X_OKAPI_URL, EMPTY_CONFIG_X_OKAPI_TENANT), APPLICATION_JSON, 200);
+
+    verify(holdingsSummaryService, times(1)).getHoldingsSummary(eq(holdingId), eq(20), eq(10), any(RequestContext.class));
   }
 
   /**
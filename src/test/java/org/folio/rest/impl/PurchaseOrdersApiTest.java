@@ -1621,6 +1621,68 @@ public class PurchaseOrdersApiTest {
     assertEquals(calculateTotalQuantity(resp.getCompositePoLines().get(0)), resp.getTotalItems().intValue());
   }
 
+  @Test
+  void testGetOrderByIdWithoutParts() {
+    logger.info("=== Test Get Order By Id - Only purchase order record ===");
+
+    String url = String.format(COMPOSITE_ORDERS_BY_ID_PATH, PO_ID_CLOSED_STATUS) + "?include=";
+    final CompositePurchaseOrder resp = verifySuccessGet(url, CompositePurchaseOrder.class);
+
+    assertEquals(PO_ID_CLOSED_STATUS, resp.getId());
+    assertThat(resp.getCompositePoLines(), empty());
+    assertNull(resp.getTotalItems());
+    assertNull(MockServer.getPoLineSearches());
+    assertNull(MockServer.getTitlesSearches());
+  }
+
+  @Test
+  void testGetOrderByIdWithPoLinesOnly() {
+    logger.info("=== Test Get Order By Id - With PO lines only ===");
+
+    String url = String.format(COMPOSITE_ORDERS_BY_ID_PATH, PO_ID_CLOSED_STATUS) + "?include=poLines";
+    final CompositePurchaseOrder resp = verifySuccessGet(url, CompositePurchaseOrder.class);
+
+    assertEquals(PO_ID_CLOSED_STATUS, resp.getId());
+    assertEquals(1, resp.getCompositePoLines().size());
+    assertNull(resp.getTotalItems());
+    assertNull(MockServer.getTitlesSearches());
+  }
+
+  @Test
+  void testGetOrderByIdWithSummaryOnly() {
+    logger.info("=== Test Get Order By Id - With summary only ===");
+
+    String url = String.format(COMPOSITE_ORDERS_BY_ID_PATH, PO_ID_CLOSED_STATUS) + "?include=summary";
+    final CompositePurchaseOrder resp = verifySuccessGet(url, CompositePurchaseOrder.class);
+
+    assertEquals(PO_ID_CLOSED_STATUS, resp.getId());
+    assertThat(resp.getCompositePoLines(), empty());
+    assertNotNull(resp.getTotalItems());
+    assertNull(MockServer.getTitlesSearches());
+  }
+
+  @Test
+  void testGetOrderByIdWithTitlesShouldReturnPoLines() {
+    logger.info("=== Test Get Order By Id - Titles imply PO lines ===");
+
+    String url = String.format(COMPOSITE_ORDERS_BY_ID_PATH, PO_ID_CLOSED_STATUS) + "?include=titles";
+    final CompositePurchaseOrder resp = verifySuccessGet(url, CompositePurchaseOrder.class);
+
+    assertEquals(PO_ID_CLOSED_STATUS, resp.getId());
+    assertEquals(1, resp.getCompositePoLines().size());
+    assertNull(resp.getTotalItems());
+  }
+
+  @Test
+  void testGetOrderByIdWithUnknownPart() {
+    logger.info("=== Test Get Order By Id - Unknown part of the order - 400 ===");
+
+    String url = String.format(COMPOSITE_ORDERS_BY_ID_PATH, PO_ID_CLOSED_STATUS) + "?include=poLines,unknown";
+    Errors errors = verifyGet(url, APPLICATION_JSON, 400).as(Errors.class);
+
+    assertEquals(INVALID_INCLUDE_PARAMETER.getCode(), errors.getErrors().get(0).getCode());
+  }
+
   @Test
   void testGetOrderByIdIncorrectIdFormat() {
     logger.info("=== Test Get Order By Id - Incorrect Id format - 400 ===");
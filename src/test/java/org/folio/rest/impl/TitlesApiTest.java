@@ -28,6 +28,7 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
@@ -43,6 +44,8 @@ import org.folio.rest.jaxrs.model.Details;
 import org.folio.rest.jaxrs.model.Errors;
 import org.folio.rest.jaxrs.model.Physical;
 import org.folio.rest.jaxrs.model.TitleCollection;
+import org.folio.rest.jaxrs.model.TitleResult;
+import org.folio.rest.jaxrs.model.TitleResults;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -52,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 
 import io.restassured.http.Header;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class TitlesApiTest {
@@ -59,6 +63,7 @@ public class TitlesApiTest {
 
   public static final String TITLES_ENDPOINT = "/orders/titles";
   private static final String TITLES_ID_PATH = TITLES_ENDPOINT + "/%s";
+  private static final String TITLES_BATCH_ENDPOINT = TITLES_ENDPOINT + "/batch";
   static final String VALID_UUID = "c3e26c0e-d6a6-46fb-9309-d494cd0c82de";
   static final String CONSISTENT_RECEIVED_STATUS_TITLE_UUID = "7d0aa803-a659-49f0-8a95-968f277c87d7";
   public static final String SAMPLE_TITLE_ID = "9a665b22-9fe5-4c95-b4ee-837a5433c95d";
@@ -166,6 +171,35 @@ public class TitlesApiTest {
     assertEquals(titleWithPackagePoLineRS.getReceivingNote(), packageNote);
   }
 
+  @Test
+  void testPostTitlesBatch() {
+    logger.info("=== Test POST Titles batch ===");
+
+    String poLineId = UUID.randomUUID().toString();
+    CompositePoLine poLine = getMinimalContentCompositePoLine()
+      .withId(poLineId);
+    addMockEntry(PO_LINES, JsonObject.mapFrom(poLine));
+
+    Title title = titleJsonReqData.mapTo(Title.class).withPoLineId(poLineId);
+    Title duplicate = titleJsonReqData.mapTo(Title.class).withPoLineId(poLineId);
+    Title titleOfUnknownLine = titleJsonReqData.mapTo(Title.class).withPoLineId(UUID.randomUUID().toString());
+    JsonObject batch = new JsonObject()
+      .put("titles", new JsonArray(List.of(JsonObject.mapFrom(title), JsonObject.mapFrom(duplicate), JsonObject.mapFrom(titleOfUnknownLine))))
+      .put("totalRecords", 3);
+
+    TitleResults results = verifyPostResponse(TITLES_BATCH_ENDPOINT, batch.encode(),
+      prepareHeaders(EXIST_CONFIG_X_OKAPI_TENANT_LIMIT_10, X_OKAPI_USER_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).as(TitleResults.class);
+
+    assertEquals(3, results.getTotalRecords());
+    TitleResult created = results.getTitleResults().get(0);
+    assertEquals(TitleResult.ProcessingStatus.SUCCESS, created.getProcessingStatus());
+    assertThat(created.getTitle().getId(), Matchers.notNullValue());
+    assertEquals(TitleResult.ProcessingStatus.FAILURE, results.getTitleResults().get(1).getProcessingStatus());
+    assertEquals("titleExist", results.getTitleResults().get(1).getError().getCode());
+    assertEquals(TitleResult.ProcessingStatus.FAILURE, results.getTitleResults().get(2).getProcessingStatus());
+    assertEquals("poLineNotFound", results.getTitleResults().get(2).getError().getCode());
+  }
+
   @Test
   void testGetTitles() {
     logger.info("=== Test Get Titles  ===");
@@ -2,6 +2,7 @@ package org.folio.service;
 
 import static org.folio.orders.utils.ErrorCodes.MISMATCH_BETWEEN_ID_IN_PATH_AND_BODY;
 import static org.folio.orders.utils.ErrorCodes.PREFIX_IS_USED;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,15 +11,18 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Prefix;
@@ -174,4 +178,32 @@ public class PrefixServiceTest {
 
   }
 
+  @Test
+  void testUsedPrefixShouldBeSearchedOnceWhenCacheIsEnabled() {
+    RequestContext tenantContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant"));
+    String enabled = System.getProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "true");
+    PrefixService cachingService;
+    try {
+      cachingService = new PrefixService(restClient, purchaseOrderService);
+    } finally {
+      if (enabled == null) {
+        System.clearProperty(ReferenceDataCache.ENABLED_PROPERTY);
+      } else {
+        System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, enabled);
+      }
+    }
+    when(restClient.get(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(new Prefix().withName("used")));
+    when(purchaseOrderService.getPurchaseOrders(anyString(), anyInt(), anyInt(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PurchaseOrderCollection().withTotalRecords(1)));
+
+    String id = UUID.randomUUID().toString();
+    assertThrows(CompletionException.class, () -> cachingService.deletePrefix(id, tenantContext).join());
+    assertThrows(CompletionException.class, () -> cachingService.deletePrefix(id, tenantContext).join());
+
+    // the prefix is loaded for each deletion, the search of the orders is cached
+    verify(restClient, times(2)).get(any(), any(), any());
+    verify(purchaseOrderService).getPurchaseOrders(eq("poNumberPrefix==used"), eq(0), eq(0), any());
+    verify(restClient, never()).delete(any(), any());
+  }
 }
@@ -7,22 +7,36 @@ import static org.folio.TestConstants.X_OKAPI_USER_ID;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.impl.MockServer.BASE_MOCK_DATA_PATH;
+import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.rest.acq.model.tag.Tag;
 import org.folio.rest.acq.model.tag.TagCollection;
+import org.folio.rest.core.ReferenceDataCache;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -75,4 +89,86 @@ class TagServiceTest {
 
   }
 
+  @Test
+  void createTagsIfMissingShouldIgnoreTagCreatedConcurrently() {
+    String sampleTag = "created";
+    TagCollection emptyTagCollection = new TagCollection()
+      .withTags(new ArrayList<>())
+      .withTotalRecords(0);
+
+    doReturn(completedFuture(emptyTagCollection)).when(restClient).get(any(), any(),  any());
+    doReturn(CompletableFuture.failedFuture(new HttpException(422, "Tag already exists")))
+      .when(restClient).post(any(), any(),  any(), any());
+
+    CompletableFuture<Void> response = tagService.createTagsIfMissing(Collections.singleton(sampleTag), requestContextMock);
+    response.join();
+
+    Assertions.assertFalse(response.isCompletedExceptionally());
+  }
+
+  @Test
+  void createTagsIfMissingShouldLookUpLabelsInChunks() {
+    Set<String> labels = IntStream.rangeClosed(0, MAX_IDS_FOR_GET_RQ)
+      .mapToObj(i -> "tag" + i)
+      .collect(Collectors.toSet());
+    doReturn(completedFuture(new TagCollection().withTotalRecords(0))).when(restClient).get(any(), any(), any());
+    doReturn(completedFuture(new Tag())).when(restClient).post(any(), any(), any(), any());
+
+    tagService.createTagsIfMissing(labels, requestContextMock).join();
+
+    ArgumentCaptor<RequestEntry> lookups = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(2)).get(lookups.capture(), any(), any());
+    assertThat(lookups.getAllValues().get(0).getQuery(), containsString("label==("));
+    verify(restClient, times(labels.size())).post(any(), any(), any(), any());
+  }
+
+  @Test
+  void createTagsIfMissingShouldSkipKnownTags() {
+    withCacheEnabled(() -> {
+      TagService cachingTagService = new TagService(restClient);
+      doReturn(completedFuture(new TagCollection().withTags(List.of(new Tag().withLabel("existing"))).withTotalRecords(1)))
+        .doReturn(completedFuture(new TagCollection().withTotalRecords(0)))
+        .when(restClient).get(any(), any(), any());
+      doReturn(completedFuture(new Tag().withLabel("new"))).when(restClient).post(any(), any(), any(), any());
+
+      cachingTagService.createTagsIfMissing(Set.of("existing"), requestContextMock).join();
+      cachingTagService.createTagsIfMissing(Set.of("existing", "new"), requestContextMock).join();
+      cachingTagService.createTagsIfMissing(Set.of("existing", "new"), requestContextMock).join();
+
+      ArgumentCaptor<RequestEntry> lookups = ArgumentCaptor.forClass(RequestEntry.class);
+      verify(restClient, times(2)).get(lookups.capture(), any(), any());
+      assertThat(lookups.getAllValues().get(1).getQuery(), not(containsString("existing")));
+      verify(restClient, times(1)).post(any(), any(), any(), any());
+    });
+  }
+
+  @Test
+  void tagCreatedConcurrentlyShouldBeKnown() {
+    withCacheEnabled(() -> {
+      TagService cachingTagService = new TagService(restClient);
+      doReturn(completedFuture(new TagCollection().withTotalRecords(0))).when(restClient).get(any(), any(), any());
+      doReturn(CompletableFuture.failedFuture(new HttpException(409, "Tag already exists")))
+        .when(restClient).post(any(), any(), any(), any());
+
+      cachingTagService.createTagsIfMissing(Set.of("created"), requestContextMock).join();
+      cachingTagService.createTagsIfMissing(Set.of("created"), requestContextMock).join();
+
+      verify(restClient, times(1)).get(any(), any(), any());
+      verify(restClient, times(1)).post(any(), any(), any(), any());
+    });
+  }
+
+  private void withCacheEnabled(Runnable test) {
+    String enabled = System.getProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "true");
+    try {
+      test.run();
+    } finally {
+      if (enabled == null) {
+        System.clearProperty(ReferenceDataCache.ENABLED_PROPERTY);
+      } else {
+        System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, enabled);
+      }
+    }
+  }
 }
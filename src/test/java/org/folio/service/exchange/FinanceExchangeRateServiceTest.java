@@ -0,0 +1,66 @@
+package org.folio.service.exchange;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.folio.rest.acq.model.finance.ExchangeRate;
+import org.folio.rest.core.RestClient;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class FinanceExchangeRateServiceTest {
+
+  @InjectMocks
+  private FinanceExchangeRateService financeExchangeRateService;
+  @Mock
+  private RestClient restClient;
+  @Mock
+  private RequestContext requestContext;
+
+  @BeforeEach
+  public void initMocks() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  void testGetExchangeRatesShouldRequestEachCurrencyOnce() {
+    doReturn(completedFuture(new ExchangeRate().withExchangeRate(1.1d)))
+      .when(restClient).get(argThat(isRateFrom("EUR")), eq(requestContext), eq(ExchangeRate.class));
+    doReturn(completedFuture(new ExchangeRate().withExchangeRate(1.3d)))
+      .when(restClient).get(argThat(isRateFrom("GBP")), eq(requestContext), eq(ExchangeRate.class));
+
+    Map<String, Double> rates = financeExchangeRateService
+      .getExchangeRates(List.of("EUR", "USD", "GBP", "EUR", "EUR"), "USD", requestContext).join();
+
+    assertEquals(Map.of("EUR", 1.1d, "GBP", 1.3d), rates);
+    verify(restClient, times(2)).get(any(RequestEntry.class), eq(requestContext), eq(ExchangeRate.class));
+  }
+
+  @Test
+  void testGetExchangeRatesShouldNotCallFinanceForSystemCurrency() {
+    Map<String, Double> rates = financeExchangeRateService
+      .getExchangeRates(List.of("USD", "USD"), "USD", requestContext).join();
+
+    assertEquals(Map.of(), rates);
+    verify(restClient, times(0)).get(any(RequestEntry.class), any(RequestContext.class), eq(ExchangeRate.class));
+  }
+
+  private ArgumentMatcher<RequestEntry> isRateFrom(String currency) {
+    return requestEntry -> requestEntry != null && requestEntry.buildEndpoint().contains("from=" + currency);
+  }
+}
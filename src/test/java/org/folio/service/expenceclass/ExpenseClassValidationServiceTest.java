@@ -3,19 +3,33 @@ package org.folio.service.expenceclass;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.TestUtils.getMockAsJson;
 import static org.folio.rest.impl.PurchaseOrderLinesApiTest.COMP_PO_LINES_MOCK_DATA_PATH;
+import static org.folio.orders.utils.ErrorCodes.INACTIVE_EXPENSE_CLASS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.acq.model.finance.Budget;
+import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.acq.model.finance.BudgetExpenseClassCollection;
+import org.folio.rest.acq.model.finance.ExpenseClassCollection;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.service.finance.budget.BudgetService;
+import org.folio.service.finance.expenceclass.BudgetExpenseClassService;
+import org.folio.service.finance.expenceclass.ExpenseClassService;
 import org.folio.service.finance.expenceclass.ExpenseClassValidationService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -50,7 +64,7 @@ public class ExpenseClassValidationServiceTest {
     ExpenseClassValidationService expenseClassValidationService = mock(ExpenseClassValidationService.class,CALLS_REAL_METHODS);
     RequestContext requestContext = new RequestContext(null,null);
 
-    doReturn(completedFuture(null)).when(expenseClassValidationService).checkExpenseClassIsActiveByFundDistribution(any(), any());
+    doReturn(completedFuture(null)).when(expenseClassValidationService).checkExpenseClassesAreActive(any(), any());
 
     CompletableFuture<Void> response = expenseClassValidationService.validateExpenseClasses(compositePoLineList, requestContext);
     response.join();
@@ -58,4 +72,70 @@ public class ExpenseClassValidationServiceTest {
     Assertions.assertTrue(response.isDone());
 
   }
+
+  @Test
+  @DisplayName("Should throw inactive expense class when budget expense class is inactive")
+  void testShouldThrowInactiveExpenseClassWhenBudgetExpenseClassIsInactive() {
+    String fundId = UUID.randomUUID().toString();
+    String anotherFundId = UUID.randomUUID().toString();
+    String budgetId = UUID.randomUUID().toString();
+    String anotherBudgetId = UUID.randomUUID().toString();
+    String expenseClassId = UUID.randomUUID().toString();
+
+    CompositePoLine poLine = new CompositePoLine().withFundDistribution(List.of(
+      new FundDistribution().withFundId(fundId).withCode("ACTIVE").withExpenseClassId(expenseClassId),
+      new FundDistribution().withFundId(anotherFundId).withCode("INACTIVE").withExpenseClassId(expenseClassId)));
+
+    BudgetExpenseClassService budgetExpenseClassService = mock(BudgetExpenseClassService.class);
+    ExpenseClassService expenseClassService = mock(ExpenseClassService.class);
+    BudgetService budgetService = mock(BudgetService.class);
+    RequestContext requestContext = new RequestContext(null, null);
+
+    doReturn(completedFuture(List.of(new Budget().withId(budgetId).withFundId(fundId),
+      new Budget().withId(anotherBudgetId).withFundId(anotherFundId))))
+      .when(budgetService).getActiveBudgetsByFundIds(any(), any());
+    doReturn(completedFuture(new BudgetExpenseClassCollection().withBudgetExpenseClasses(List.of(
+      new BudgetExpenseClass().withBudgetId(budgetId).withExpenseClassId(expenseClassId).withStatus(BudgetExpenseClass.Status.ACTIVE),
+      new BudgetExpenseClass().withBudgetId(anotherBudgetId).withExpenseClassId(expenseClassId).withStatus(BudgetExpenseClass.Status.INACTIVE)))))
+      .when(budgetExpenseClassService).getBudgetExpenseClasses(anyString(), anyInt(), anyInt(), any());
+    doReturn(completedFuture(new ExpenseClassCollection()))
+      .when(expenseClassService).getExpenseClasses(anyString(), anyInt(), anyInt(), any());
+
+    ExpenseClassValidationService expenseClassValidationService =
+      new ExpenseClassValidationService(budgetExpenseClassService, expenseClassService, budgetService);
+
+    CompletionException exception = Assertions.assertThrows(CompletionException.class,
+      () -> expenseClassValidationService.validateExpenseClasses(List.of(poLine), requestContext).join());
+
+    HttpException cause = (HttpException) exception.getCause();
+    Assertions.assertEquals(INACTIVE_EXPENSE_CLASS.getCode(), cause.getError().getCode());
+    Assertions.assertEquals("INACTIVE", cause.getError().getParameters().get(0).getValue());
+    verify(budgetExpenseClassService, times(1)).getBudgetExpenseClasses(anyString(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("Should treat budget expense class without status as active")
+  void testShouldPassWhenBudgetExpenseClassHasNoStatus() {
+    String fundId = UUID.randomUUID().toString();
+    String budgetId = UUID.randomUUID().toString();
+    String expenseClassId = UUID.randomUUID().toString();
+
+    CompositePoLine poLine = new CompositePoLine().withFundDistribution(List.of(
+      new FundDistribution().withFundId(fundId).withCode("NO_STATUS").withExpenseClassId(expenseClassId)));
+
+    BudgetExpenseClassService budgetExpenseClassService = mock(BudgetExpenseClassService.class);
+    BudgetService budgetService = mock(BudgetService.class);
+    RequestContext requestContext = new RequestContext(null, null);
+
+    doReturn(completedFuture(List.of(new Budget().withId(budgetId).withFundId(fundId))))
+      .when(budgetService).getActiveBudgetsByFundIds(any(), any());
+    doReturn(completedFuture(new BudgetExpenseClassCollection().withBudgetExpenseClasses(List.of(
+      new BudgetExpenseClass().withBudgetId(budgetId).withExpenseClassId(expenseClassId).withStatus(null)))))
+      .when(budgetExpenseClassService).getBudgetExpenseClasses(anyString(), anyInt(), anyInt(), any());
+
+    ExpenseClassValidationService expenseClassValidationService =
+      new ExpenseClassValidationService(budgetExpenseClassService, mock(ExpenseClassService.class), budgetService);
+
+    Assertions.assertDoesNotThrow(() -> expenseClassValidationService.validateExpenseClasses(List.of(poLine), requestContext).join());
+  }
 }
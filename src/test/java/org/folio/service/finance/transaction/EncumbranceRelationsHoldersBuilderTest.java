@@ -364,7 +364,7 @@ public class EncumbranceRelationsHoldersBuilderTest {
     holders.add(holder2);
     holders.add(holder3);
 
-    when(budgetService.getBudgets(anyCollection(), any()))
+    when(budgetService.getBudgetsBypassingCache(anyCollection(), any()))
         .thenReturn(CompletableFuture.completedFuture(List.of(budget1, budget2, budget3)));
 
     //When
@@ -3,10 +3,18 @@ package org.folio.service.inventory;
 import static org.folio.TestUtils.getMockData;
 import static org.folio.rest.impl.MockServer.BASE_MOCK_DATA_PATH;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -18,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import io.vertx.core.json.JsonObject;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PoLineCollection;
 import org.folio.rest.jaxrs.model.PurchaseOrder;
 import org.folio.service.orders.HoldingsSummaryService;
 import org.folio.service.orders.PurchaseOrderLineService;
@@ -60,13 +69,34 @@ public class HoldingsSummaryServiceTest {
     when(purchaseOrderService.getPurchaseOrdersByIds(any(), any()))
       .thenReturn(CompletableFuture.completedFuture(purchaseOrders));
 
-    when(purchaseOrderLineService.getOrderLines(anyString(), anyInt(), anyInt(), any()))
-      .thenReturn(CompletableFuture.completedFuture(polines));
+    when(purchaseOrderLineService.getOrderLines(anyString(), anyInt(), anyInt(), anySet(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PoLineCollection().withPoLines(polines).withTotalRecords(1)));
 
-    var hs = holdingsSummaryService.getHoldingsSummary(UUID.randomUUID().toString(), requestContext)
+    var hs = holdingsSummaryService.getHoldingsSummary(UUID.randomUUID().toString(), 0, Integer.MAX_VALUE, requestContext)
       .join();
 
     assertThat(hs.getHoldingSummaries().size(), greaterThan(0));
 
   }
+
+  @Test
+  void testGetHoldingSummaryPageShouldRetrieveEachOrderOnce() throws IOException {
+    var order = new JsonObject(getMockData(BASE_MOCK_DATA_PATH + "purchase-orders/81_ongoing_pending.json")).mapTo(PurchaseOrder.class);
+    var line = new JsonObject(getMockData(BASE_MOCK_DATA_PATH + "lines/81-1_pending_fomat-other.json")).mapTo(PoLine.class);
+    var secondLine = JsonObject.mapFrom(line).mapTo(PoLine.class).withId(UUID.randomUUID().toString());
+    String holdingId = UUID.randomUUID().toString();
+
+    when(purchaseOrderService.getPurchaseOrdersByIds(any(), any()))
+      .thenReturn(CompletableFuture.completedFuture(List.of(order)));
+    when(purchaseOrderLineService.getOrderLines(anyString(), anyInt(), anyInt(), anySet(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PoLineCollection().withPoLines(List.of(line, secondLine))
+        .withTotalRecords(12)));
+
+    var hs = holdingsSummaryService.getHoldingsSummary(holdingId, 10, 2, requestContext).join();
+
+    assertThat(hs.getHoldingSummaries(), hasSize(2));
+    assertThat(hs.getTotalRecords(), equalTo(12));
+    verify(purchaseOrderLineService).getOrderLines(and(contains(holdingId), endsWith(" sortBy id")), eq(10), eq(2), anySet(), any());
+    verify(purchaseOrderService).getPurchaseOrdersByIds(eq(List.of(line.getPurchaseOrderId())), any());
+  }
 }
@@ -2,12 +2,16 @@ package org.folio.service.orders;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.models.CompositeOrderInclude;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -53,4 +57,17 @@ public class CombinedOrderDataPopulateServiceTest {
 
   }
 
+  @Test
+  void shouldNotRetrieveFiscalYearIfTotalsAndReEncumberAreNotIncluded() {
+
+    CompositePurchaseOrder order = new CompositePurchaseOrder().withId(UUID.randomUUID().toString());
+    CompositeOrderRetrieveHolder holder = new CompositeOrderRetrieveHolder(order)
+      .withIncludes(EnumSet.of(CompositeOrderInclude.PO_LINES, CompositeOrderInclude.SUMMARY));
+
+    populateService.populate(holder, requestContext).join();
+
+    verify(holderBuilder, never()).withCurrentFiscalYear(any(), any());
+    verify(populateServices).stream();
+  }
+
 }
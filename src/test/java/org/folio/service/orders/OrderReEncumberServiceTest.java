@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -396,7 +397,7 @@ public class OrderReEncumberServiceTest {
     when(spyReEncumbranceHoldersBuilder.withRollovers(any(), any())).thenReturn(completedFuture(Collections.emptyList()));
     when(spyReEncumbranceHoldersBuilder.withEncumbranceRollover(any())).thenReturn(Collections.emptyList());
     when(spyReEncumbranceHoldersBuilder.withBudgets(any(), any())).thenReturn(completedFuture(Collections.emptyList()));
-    when(spyReEncumbranceHoldersBuilder.withConversions(any(), any())).thenReturn(completedFuture(Collections.emptyList()));
+    when(spyReEncumbranceHoldersBuilder.getConversions(any(), any())).thenReturn(completedFuture(Collections.emptyMap()));
     when(spyReEncumbranceHoldersBuilder.withPreviousFyEncumbrances(any(), any())).thenReturn(completedFuture(Collections.emptyList()));
     when(spyReEncumbranceHoldersBuilder.withToEncumbrances(any(), any())).thenReturn(completedFuture(Collections.emptyList()));
     doNothing().when(budgetRestrictionService).checkEncumbranceRestrictions(anyList());
@@ -412,6 +413,46 @@ public class OrderReEncumberServiceTest {
     assertFalse(future.isCompletedExceptionally());
   }
 
+  @Test
+  void shouldRetrieveIndependentFinanceDataConcurrently() {
+    String orderId = UUID.randomUUID().toString();
+    List<ReEncumbranceHolder> holders = Collections.emptyList();
+    CompletableFuture<List<ReEncumbranceHolder>> ledgersFuture = new CompletableFuture<>();
+
+    when(purchaseOrderService.getCompositeOrderById(eq(orderId), eq(requestContext)))
+        .thenReturn(completedFuture(new CompositePurchaseOrder().withId(orderId)));
+    when(spyReEncumbranceHoldersBuilder.buildReEncumbranceHoldersWithOrdersData(any())).thenReturn(holders);
+    when(spyReEncumbranceHoldersBuilder.withFundsData(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.withLedgersData(any(), any())).thenReturn(ledgersFuture);
+    when(spyReEncumbranceHoldersBuilder.withCurrentFiscalYearData(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.withRollovers(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.withEncumbranceRollover(any())).thenReturn(holders);
+    when(spyReEncumbranceHoldersBuilder.withBudgets(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.getConversions(any(), any())).thenReturn(completedFuture(Collections.emptyMap()));
+    when(spyReEncumbranceHoldersBuilder.withPreviousFyEncumbrances(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.withToEncumbrances(any(), any())).thenReturn(completedFuture(holders));
+    when(rolloverErrorService.getLedgerFyRolloverErrors(anyString(), any()))
+        .thenReturn(completedFuture(new LedgerFiscalYearRolloverErrorCollection()));
+    when(rolloverErrorService.deleteRolloverErrors(anyList(), any())).thenReturn(completedFuture(null));
+    when(purchaseOrderLineService.updateOrderLines(anyList(), any())).thenReturn(completedFuture(null));
+
+    CompletableFuture<Void> future = orderReEncumberService.reEncumber(orderId, requestContext);
+
+    // the lookups which don't need ledgers are done while ledgers are being retrieved
+    verify(spyReEncumbranceHoldersBuilder).withBudgets(any(), any());
+    verify(spyReEncumbranceHoldersBuilder).getConversions(any(), any());
+    verify(spyReEncumbranceHoldersBuilder).withToEncumbrances(any(), any());
+    verify(rolloverErrorService).getLedgerFyRolloverErrors(eq(orderId), any());
+    verify(purchaseOrderLineService, never()).updateOrderLines(anyList(), any());
+    assertFalse(future.isDone());
+
+    ledgersFuture.complete(holders);
+
+    future.join();
+    verify(rolloverErrorService).deleteRolloverErrors(anyList(), any());
+    verify(purchaseOrderLineService).updateOrderLines(anyList(), any());
+  }
+
   @Test
   void shouldFilterReEncumberHoldersWithEmptyEncumbranceRollover() {
 
@@ -435,7 +476,7 @@ public class OrderReEncumberServiceTest {
     when(spyReEncumbranceHoldersBuilder.withRollovers(any(), any())).thenReturn(completedFuture(holders));
     when(spyReEncumbranceHoldersBuilder.withEncumbranceRollover(any())).thenReturn(holders);
     when(spyReEncumbranceHoldersBuilder.withBudgets(any(), any())).thenReturn(completedFuture(holders));
-    when(spyReEncumbranceHoldersBuilder.withConversions(any(), any())).thenReturn(completedFuture(holders));
+    when(spyReEncumbranceHoldersBuilder.getConversions(any(), any())).thenReturn(completedFuture(Collections.emptyMap()));
     when(spyReEncumbranceHoldersBuilder.withPreviousFyEncumbrances(any(), any()))
         .thenAnswer(invocation -> completedFuture(invocation.getArgument(0)));
     when(spyReEncumbranceHoldersBuilder.withToEncumbrances(any(), any()))
@@ -601,7 +642,7 @@ public class OrderReEncumberServiceTest {
     doReturn(completedFuture(holders)).when(spyReEncumbranceHoldersBuilder).withRollovers(any(), any());
     doReturn(holders).when(spyReEncumbranceHoldersBuilder).withEncumbranceRollover(any());
     doReturn(completedFuture(holders)).when(spyReEncumbranceHoldersBuilder).withBudgets(any(), any());
-    doReturn(completedFuture(holders)).when(spyReEncumbranceHoldersBuilder).withConversions(any(), any());
+    doReturn(completedFuture(Collections.emptyMap())).when(spyReEncumbranceHoldersBuilder).getConversions(any(), any());
     doReturn(completedFuture(holders)).when(spyReEncumbranceHoldersBuilder).withPreviousFyEncumbrances(any(), any());
     doReturn(completedFuture(holders)).when(spyReEncumbranceHoldersBuilder).withToEncumbrances(any(), any());
     doNothing().when(budgetRestrictionService).checkEncumbranceRestrictions(anyList());
@@ -0,0 +1,119 @@
+package org.folio.service.orders;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.acq.model.SequenceNumber;
+import org.folio.rest.core.RestClient;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PoNumberPoolTest {
+
+  private final RequestContext requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant"));
+  private final AtomicInteger sequence = new AtomicInteger();
+  private RestClient restClient;
+
+  @BeforeEach
+  void initMocks() {
+    restClient = mock(RestClient.class);
+    when(restClient.get(any(RequestEntry.class), any(), eq(SequenceNumber.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(new SequenceNumber()
+        .withSequenceNumber(String.valueOf(sequence.incrementAndGet()))));
+  }
+
+  @Test
+  void testPoolShouldReserveNumbersInAdvance() {
+    PoNumberPool pool = new PoNumberPool(restClient, 4);
+
+    List<String> numbers = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      numbers.add(pool.getPoNumber(requestContext).join());
+    }
+
+    assertEquals(List.of("1", "2"), numbers);
+    verify(restClient, times(4)).get(any(RequestEntry.class), any(), eq(SequenceNumber.class));
+  }
+
+  @Test
+  void testPoolShouldBeRefilledBelowLowWaterMark() {
+    PoNumberPool pool = new PoNumberPool(restClient, 4);
+    pool.getPoNumber(requestContext).join();
+    pool.getPoNumber(requestContext).join();
+
+    assertEquals("3", pool.getPoNumber(requestContext).join());
+    verify(restClient, times(8)).get(any(RequestEntry.class), any(), eq(SequenceNumber.class));
+    assertEquals("4", pool.getPoNumber(requestContext).join());
+    assertEquals("5", pool.getPoNumber(requestContext).join());
+  }
+
+  @Test
+  void testIssuedNumberShouldBeReportedOnce() {
+    PoNumberPool pool = new PoNumberPool(restClient, 4);
+
+    String poNumber = pool.getPoNumber(requestContext).join();
+
+    assertTrue(pool.isIssued(poNumber, requestContext));
+    assertFalse(pool.isIssued(poNumber, requestContext));
+    assertFalse(pool.isIssued("2", requestContext));
+  }
+
+  @Test
+  void testFailedReservationShouldFailWaitingRequest() {
+    when(restClient.get(any(RequestEntry.class), any(), eq(SequenceNumber.class)))
+      .thenReturn(CompletableFuture.failedFuture(new HttpException(500, "Sequence is not available")));
+    PoNumberPool pool = new PoNumberPool(restClient, 2);
+
+    CompletableFuture<String> future = pool.getPoNumber(requestContext);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertEquals(500, ((HttpException) exception.getCause()).getCode());
+  }
+
+  @Test
+  void testPoolShouldBeRefilledForWaitingRequest() {
+    RequestContext waitingRequestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant"));
+    CompletableFuture<SequenceNumber> sequenceNumber = new CompletableFuture<>();
+    doReturn(sequenceNumber).when(restClient).get(any(RequestEntry.class), eq(requestContext), eq(SequenceNumber.class));
+    PoNumberPool pool = new PoNumberPool(restClient, 1);
+
+    CompletableFuture<String> first = pool.getPoNumber(requestContext);
+    CompletableFuture<String> second = pool.getPoNumber(waitingRequestContext);
+    sequenceNumber.complete(new SequenceNumber().withSequenceNumber("1"));
+
+    assertEquals("1", first.join());
+    assertEquals("1", second.join());
+    verify(restClient).get(any(RequestEntry.class), eq(waitingRequestContext), eq(SequenceNumber.class));
+  }
+
+  @Test
+  void testDisabledPoolShouldRetrieveNumberForEachRequest() {
+    PoNumberPool pool = new PoNumberPool(restClient, 0);
+
+    assertEquals("1", pool.getPoNumber(requestContext).join());
+    assertEquals("2", pool.getPoNumber(requestContext).join());
+
+    assertFalse(pool.isIssued("1", requestContext));
+    verify(restClient, times(2)).get(any(RequestEntry.class), any(), eq(SequenceNumber.class));
+  }
+}
@@ -11,6 +11,7 @@ import static org.folio.TestConstants.X_OKAPI_USER_ID;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.impl.PurchaseOrdersApiTest.X_OKAPI_TENANT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -20,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -41,6 +43,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import io.vertx.core.Context;
+import io.vertx.core.json.JsonObject;
 
 public class PurchaseOrderLineServiceTest {
   @InjectMocks
@@ -108,6 +111,26 @@ public class PurchaseOrderLineServiceTest {
   }
 
 
+  @Test
+  void successRetrievePurchaseOrderLinesWithListedFields() {
+    PoLine poLine = new PoLine().withId(UUID.randomUUID().toString())
+      .withPoLineNumber("1000-1")
+      .withTitleOrPackage("Title")
+      .withReceiptStatus(PoLine.ReceiptStatus.AWAITING_RECEIPT);
+    JsonObject collection = JsonObject.mapFrom(new PoLineCollection().withPoLines(List.of(poLine)).withTotalRecords(5));
+    when(restClientMock.getAsJsonObject(any(), any())).thenReturn(CompletableFuture.completedFuture(collection));
+
+    PoLineCollection actLines = purchaseOrderLineService.getOrderLines("id==*", 0, 1, Set.of("id", "receiptStatus"),
+      requestContext).join();
+
+    assertEquals(5, actLines.getTotalRecords());
+    PoLine actLine = actLines.getPoLines().get(0);
+    assertEquals(poLine.getId(), actLine.getId());
+    assertEquals(PoLine.ReceiptStatus.AWAITING_RECEIPT, actLine.getReceiptStatus());
+    assertNull(actLine.getTitleOrPackage());
+    assertNull(actLine.getPoLineNumber());
+  }
+
   @Test
   void successUpdateSinglePurchaseOrderLine() {
     String orderLineId = UUID.randomUUID().toString();
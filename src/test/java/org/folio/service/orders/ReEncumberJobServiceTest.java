@@ -0,0 +1,197 @@
+package org.folio.service.orders;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_JOB_NOT_FOUND;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_ORDERS_AMBIGUOUS;
+import static org.folio.orders.utils.ErrorCodes.RE_ENCUMBER_ORDERS_NOT_SPECIFIED;
+import static org.folio.orders.utils.ErrorCodes.ROLLOVER_NOT_COMPLETED;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress.RolloverStatus.IN_PROGRESS;
+import static org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress.RolloverStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.jaxrs.model.ReEncumberJob;
+import org.folio.service.finance.rollover.RolloverErrorService;
+import org.folio.service.finance.rollover.RolloverRetrieveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReEncumberJobServiceTest {
+
+  private final RequestContext requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant"));
+  private final String rolloverId = UUID.randomUUID().toString();
+  private OrderReEncumberService orderReEncumberService;
+  private RolloverErrorService rolloverErrorService;
+  private RolloverRetrieveService rolloverRetrieveService;
+  private ReEncumberJobService reEncumberJobService;
+
+  @BeforeEach
+  void initMocks() {
+    orderReEncumberService = mock(OrderReEncumberService.class);
+    rolloverErrorService = mock(RolloverErrorService.class);
+    rolloverRetrieveService = mock(RolloverRetrieveService.class);
+    reEncumberJobService = new ReEncumberJobService(orderReEncumberService, rolloverErrorService, rolloverRetrieveService, 2);
+    // each order re-encumbered checks progress of the same rollover
+    when(orderReEncumberService.reEncumber(anyString(), any(), eq(requestContext))).thenAnswer(invocation -> {
+      Function<String, CompletableFuture<List<LedgerFiscalYearRolloverProgress>>> rolloverProgresses = invocation.getArgument(1);
+      return rolloverProgresses.apply(rolloverId).thenApply(progresses -> null);
+    });
+    when(rolloverRetrieveService.getRolloversProgress(eq(rolloverId), eq(requestContext)))
+      .thenReturn(completedFuture(List.of(new LedgerFiscalYearRolloverProgress().withOverallRolloverStatus(SUCCESS))));
+  }
+
+  @Test
+  void testJobShouldReEncumberOrdersWithRolloverErrors() {
+    List<String> orderIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    when(rolloverErrorService.getRolloverErrorsOrderIds(eq(rolloverId), eq(requestContext))).thenReturn(completedFuture(orderIds));
+
+    ReEncumberJob job = reEncumberJobService.startJob(new ReEncumberJob().withLedgerRolloverId(rolloverId), requestContext).join();
+
+    assertEquals(ReEncumberJob.Status.SUCCESS, job.getStatus());
+    assertEquals(3, job.getTotal());
+    assertEquals(3, job.getSucceeded());
+    orderIds.forEach(orderId -> verify(orderReEncumberService).reEncumber(eq(orderId), any(), eq(requestContext)));
+    verify(rolloverRetrieveService, times(1)).getRolloversProgress(anyString(), any());
+  }
+
+  @Test
+  void testFailedOrdersShouldBeReportedInJob() {
+    String failedOrderId = UUID.randomUUID().toString();
+    String orderId = UUID.randomUUID().toString();
+    doReturn(CompletableFuture.failedFuture(new HttpException(400, ROLLOVER_NOT_COMPLETED)))
+      .when(orderReEncumberService).reEncumber(eq(failedOrderId), any(), eq(requestContext));
+
+    ReEncumberJob started = reEncumberJobService.startJob(new ReEncumberJob()
+      .withPurchaseOrderIds(List.of(failedOrderId, orderId, failedOrderId)), requestContext).join();
+    ReEncumberJob job = reEncumberJobService.getJob(started.getId(), requestContext).join();
+
+    assertEquals(ReEncumberJob.Status.SUCCESS, job.getStatus());
+    assertEquals(2, job.getTotal());
+    assertEquals(2, job.getProcessed());
+    assertEquals(1, job.getSucceeded());
+    assertEquals(1, job.getFailedOrders().size());
+    assertEquals(failedOrderId, job.getFailedOrders().get(0).getPurchaseOrderId());
+    assertEquals(ROLLOVER_NOT_COMPLETED.getCode(), job.getFailedOrders().get(0).getError().getCode());
+  }
+
+  @Test
+  void testFailedRolloverProgressShouldBeRetrieved() {
+    List<String> orderIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    when(rolloverRetrieveService.getRolloversProgress(eq(rolloverId), eq(requestContext)))
+      .thenReturn(CompletableFuture.failedFuture(new HttpException(500, "Internal server error")))
+      .thenReturn(completedFuture(List.of(new LedgerFiscalYearRolloverProgress().withOverallRolloverStatus(SUCCESS))));
+    ReEncumberJobService sequentialJobService = new ReEncumberJobService(orderReEncumberService, rolloverErrorService,
+      rolloverRetrieveService, 1);
+
+    ReEncumberJob job = sequentialJobService.startJob(new ReEncumberJob().withPurchaseOrderIds(orderIds), requestContext).join();
+
+    assertEquals(ReEncumberJob.Status.SUCCESS, job.getStatus());
+    assertEquals(1, job.getSucceeded());
+    assertEquals(1, job.getFailedOrders().size());
+    assertEquals(orderIds.get(0), job.getFailedOrders().get(0).getPurchaseOrderId());
+    verify(rolloverRetrieveService, times(2)).getRolloversProgress(eq(rolloverId), eq(requestContext));
+  }
+
+  @Test
+  void testJobShouldProgressChunkByChunk() {
+    List<String> orderIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    CompletableFuture<Void> firstOrder = new CompletableFuture<>();
+    doReturn(firstOrder).when(orderReEncumberService).reEncumber(eq(orderIds.get(0)), any(), eq(requestContext));
+
+    ReEncumberJob job = reEncumberJobService.startJob(new ReEncumberJob().withPurchaseOrderIds(orderIds), requestContext).join();
+
+    assertEquals(ReEncumberJob.Status.IN_PROGRESS, job.getStatus());
+    assertEquals(1, job.getProcessed());
+    verify(orderReEncumberService, never()).reEncumber(eq(orderIds.get(2)), any(), any());
+
+    firstOrder.complete(null);
+
+    job = reEncumberJobService.getJob(job.getId(), requestContext).join();
+    assertEquals(ReEncumberJob.Status.SUCCESS, job.getStatus());
+    assertEquals(3, job.getSucceeded());
+  }
+
+  @Test
+  void testJobShouldNotStartIfRolloverIsNotCompleted() {
+    when(rolloverRetrieveService.getRolloversProgress(eq(rolloverId), eq(requestContext)))
+      .thenReturn(completedFuture(List.of(new LedgerFiscalYearRolloverProgress().withOverallRolloverStatus(IN_PROGRESS))));
+
+    CompletableFuture<ReEncumberJob> future = reEncumberJobService.startJob(new ReEncumberJob().withLedgerRolloverId(rolloverId), requestContext);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    HttpException cause = (HttpException) exception.getCause();
+    assertEquals(400, cause.getCode());
+    assertEquals(ROLLOVER_NOT_COMPLETED.getCode(), cause.getError().getCode());
+    verify(rolloverErrorService, never()).getRolloverErrorsOrderIds(anyString(), any());
+  }
+
+  @Test
+  void testJobWithoutOrdersShouldBeRejected() {
+    CompletableFuture<ReEncumberJob> future = reEncumberJobService.startJob(new ReEncumberJob(), requestContext);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertEquals(RE_ENCUMBER_ORDERS_NOT_SPECIFIED.getCode(), ((HttpException) exception.getCause()).getError().getCode());
+  }
+
+  @Test
+  void testJobWithRolloverAndOrdersShouldBeRejected() {
+    CompletableFuture<ReEncumberJob> future = reEncumberJobService.startJob(new ReEncumberJob().withLedgerRolloverId(rolloverId)
+      .withPurchaseOrderIds(List.of(UUID.randomUUID().toString())), requestContext);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertEquals(422, ((HttpException) exception.getCause()).getCode());
+    assertEquals(RE_ENCUMBER_ORDERS_AMBIGUOUS.getCode(), ((HttpException) exception.getCause()).getError().getCode());
+    verify(rolloverErrorService, never()).getRolloverErrorsOrderIds(anyString(), any());
+  }
+
+  @Test
+  void testJobInProgressShouldNotBeEvicted() {
+    String orderId = UUID.randomUUID().toString();
+    doReturn(new CompletableFuture<Void>()).when(orderReEncumberService).reEncumber(eq(orderId), any(), eq(requestContext));
+    ReEncumberJob inProgress = reEncumberJobService.startJob(new ReEncumberJob().withPurchaseOrderIds(List.of(orderId)),
+      requestContext).join();
+    ReEncumberJob oldestCompleted = null;
+
+    for (int i = 0; i < ReEncumberJobService.MAX_JOBS; i++) {
+      ReEncumberJob job = reEncumberJobService.startJob(new ReEncumberJob()
+        .withPurchaseOrderIds(List.of(UUID.randomUUID().toString())), requestContext).join();
+      if (oldestCompleted == null) {
+        oldestCompleted = job;
+      }
+    }
+
+    assertEquals(ReEncumberJob.Status.IN_PROGRESS, reEncumberJobService.getJob(inProgress.getId(), requestContext).join().getStatus());
+    CompletableFuture<ReEncumberJob> evicted = reEncumberJobService.getJob(oldestCompleted.getId(), requestContext);
+    CompletionException exception = assertThrows(CompletionException.class, evicted::join);
+    assertEquals(404, ((HttpException) exception.getCause()).getCode());
+  }
+
+  @Test
+  void testUnknownJobShouldNotBeFound() {
+    CompletableFuture<ReEncumberJob> future = reEncumberJobService.getJob(UUID.randomUUID().toString(), requestContext);
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertEquals(404, ((HttpException) exception.getCause()).getCode());
+    assertEquals(RE_ENCUMBER_JOB_NOT_FOUND.getCode(), ((HttpException) exception.getCause()).getError().getCode());
+  }
+}
@@ -443,7 +443,8 @@ public class ReEncumbranceHoldersBuilderTest {
     when(poFyToPoLineConversion.getCurrency()).thenReturn(Monetary.getCurrency("USD"));
     when(requestContext.getContext()).thenReturn(Vertx.vertx().getOrCreateContext());
 
-    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders, requestContext).join();
+    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders,
+        reEncumbranceHoldersBuilder.getConversions(holders, requestContext).join());
 
     assertEquals(resultHolders.get(0).getPoLineToFyConversion().getCurrency(), poLineToFyConversion.getCurrency());
     assertEquals(resultHolders.get(1).getPoLineToFyConversion().getCurrency(), poLineToFyConversion.getCurrency());
@@ -456,7 +457,8 @@ public class ReEncumbranceHoldersBuilderTest {
 
     List<ReEncumbranceHolder> holders = Collections.emptyList();
 
-    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders, requestContext).join();
+    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders,
+        reEncumbranceHoldersBuilder.getConversions(holders, requestContext).join());
 
     assertThat(resultHolders, is(empty()));
     verify(exchangeRateProviderResolver, never()).resolve(any(), any());
@@ -468,7 +470,8 @@ public class ReEncumbranceHoldersBuilderTest {
 
     List<ReEncumbranceHolder> holders = Arrays.asList(new ReEncumbranceHolder(), new ReEncumbranceHolder());
 
-    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders, requestContext).join();
+    List<ReEncumbranceHolder> resultHolders = reEncumbranceHoldersBuilder.withConversions(holders,
+        reEncumbranceHoldersBuilder.getConversions(holders, requestContext).join());
 
     assertEquals(resultHolders, holders);
     verify(exchangeRateProviderResolver, never()).resolve(any(), any());
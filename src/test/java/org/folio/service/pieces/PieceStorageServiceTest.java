@@ -9,6 +9,7 @@ import static org.folio.TestConfig.getVertx;
 import static org.folio.TestConfig.initSpringContext;
 import static org.folio.TestConfig.isVerticleNotDeployed;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -25,8 +26,11 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.folio.ApiTestSuite;
+import org.folio.orders.rest.exceptions.HttpException;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Piece;
@@ -118,6 +122,36 @@ public class PieceStorageServiceTest {
     verify(pieceStorageService, times(1)).deletePiece(any(String.class), eq(requestContext));
   }
 
+  @Test
+  void testShouldInsertPiecesInBatches() {
+    //given
+    List<Piece> pieces = Stream.generate(() -> new Piece().withId(UUID.randomUUID().toString()))
+      .limit(PieceStorageService.BATCH_SIZE + 1L)
+      .collect(Collectors.toList());
+    doReturn(completedFuture(new Piece())).when(pieceStorageService).insertPiece(any(Piece.class), eq(requestContext));
+    //When
+    List<Piece> createdPieces = pieceStorageService.insertPieces(pieces, requestContext).join();
+    //Then
+    assertEquals(pieces.size(), createdPieces.size());
+    verify(pieceStorageService, times(pieces.size())).insertPiece(any(Piece.class), eq(requestContext));
+  }
+
+  @Test
+  void testShouldReturnFailedPiecesOnBatchUpdate() {
+    //given
+    Piece piece = new Piece().withId(UUID.randomUUID().toString());
+    Piece failedPiece = new Piece().withId(UUID.randomUUID().toString());
+    doReturn(completedFuture(null)).when(pieceStorageService).updatePiece(eq(piece), eq(requestContext));
+    doReturn(CompletableFuture.failedFuture(new HttpException(500, "error"))).when(pieceStorageService)
+      .updatePiece(eq(failedPiece), eq(requestContext));
+    //When
+    Map<String, Throwable> failedPieces = pieceStorageService.updatePieces(List.of(piece, failedPiece), requestContext).join();
+    //Then
+    assertEquals(1, failedPieces.size());
+    assertTrue(failedPieces.containsKey(failedPiece.getId()));
+    verify(pieceStorageService, times(2)).updatePiece(any(Piece.class), eq(requestContext));
+  }
+
   private static class ContextConfiguration {
 
     @Bean
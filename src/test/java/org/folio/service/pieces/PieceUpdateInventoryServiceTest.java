@@ -32,6 +32,8 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.folio.ApiTestSuite;
 import org.folio.rest.core.models.RequestContext;
@@ -296,6 +298,56 @@ public class PieceUpdateInventoryServiceTest {
     assertEquals(piece.getTitleId(), title.getId());
   }
 
+  @Test
+  void testUpdateInventoryForBatchShouldResolveTitleAndHoldingOnce() throws ExecutionException, InterruptedException {
+    //given
+    CompositePoLine line = getMockAsJson(COMPOSITE_LINES_PATH, LINE_ID).mapTo(CompositePoLine.class);
+    line.setIsPackage(true);
+    Title title = getMockAsJson(TILES_PATH,"title").mapTo(Title.class);
+    List<Piece> pieces = List.of(createPieceWithLocationId(line, title), createPieceWithLocationId(line, title),
+      createPieceWithLocationId(line, title));
+    List<String> itemIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    Location location = new Location().withLocationId(pieces.get(0).getLocationId());
+
+    doReturn(completedFuture(title)).when(titlesService).getTitleById(title.getId(), requestContext);
+    doReturn(completedFuture(HOLDING_ID))
+      .when(pieceUpdateInventoryService).handleHoldingsRecord(any(CompositePoLine.class), eq(location), eq(title.getInstanceId()), eq(requestContext));
+    doReturn(completedFuture(itemIds))
+      .when(inventoryManager).createMissingPhysicalItems(any(CompositePoLine.class), eq(HOLDING_ID), eq(3), eq(requestContext));
+    //When
+    pieceUpdateInventoryService.updateInventory(line, pieces, requestContext).get();
+    //Then
+    verify(titlesService, times(1)).getTitleById(title.getId(), requestContext);
+    verify(titlesService, never()).updateTitle(any(Title.class), eq(requestContext));
+    verify(pieceUpdateInventoryService, times(1))
+      .handleHoldingsRecord(any(CompositePoLine.class), eq(location), eq(title.getInstanceId()), eq(requestContext));
+    assertEquals(itemIds, pieces.stream().map(Piece::getItemId).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testUpdateInventoryForBatchShouldLinkItemsInBatches() {
+    //given
+    CompositePoLine line = getMockAsJson(COMPOSITE_LINES_PATH, LINE_ID).mapTo(CompositePoLine.class);
+    line.setIsPackage(false);
+    List<Piece> pieces = IntStream.range(0, PieceStorageService.BATCH_SIZE + 5)
+      .mapToObj(i -> new Piece().withItemId(UUID.randomUUID().toString()).withPoLineId(line.getId()))
+      .collect(Collectors.toList());
+    CompletableFuture<Void> firstItem = new CompletableFuture<>();
+    doReturn(completedFuture(null))
+      .when(inventoryManager).updateItemWithPoLineId(anyString(), eq(line.getId()), eq(requestContext));
+    doReturn(firstItem)
+      .when(inventoryManager).updateItemWithPoLineId(eq(pieces.get(0).getItemId()), eq(line.getId()), eq(requestContext));
+    //When
+    CompletableFuture<Void> result = pieceUpdateInventoryService.updateInventory(line, pieces, requestContext);
+    //Then
+    verify(inventoryManager, times(PieceStorageService.BATCH_SIZE))
+      .updateItemWithPoLineId(anyString(), eq(line.getId()), eq(requestContext));
+    firstItem.complete(null);
+    result.join();
+    verify(inventoryManager, times(pieces.size()))
+      .updateItemWithPoLineId(anyString(), eq(line.getId()), eq(requestContext));
+  }
+
   @Test
   void testUpdateInventoryNegativeCaseIfPOLIsNull() {
     //When
@@ -0,0 +1,76 @@
+package org.folio.service.pieces;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.rest.core.ReferenceDataCache;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.jaxrs.model.ReceivingHistoryCollection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReceivingHistoryCacheTest {
+
+  private static final String TTL_PROPERTY = "orders.cache.receivingHistory.ttlSeconds";
+
+  private final RequestContext requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "tenant"));
+  private final AtomicInteger loads = new AtomicInteger();
+  private String enabled;
+  private ReceivingHistoryCache cache;
+
+  @BeforeEach
+  void initCache() {
+    enabled = System.getProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, "true");
+    System.setProperty(TTL_PROPERTY, "60");
+    cache = new ReceivingHistoryCache();
+  }
+
+  @AfterEach
+  void restoreProperties() {
+    System.clearProperty(TTL_PROPERTY);
+    if (enabled == null) {
+      System.clearProperty(ReferenceDataCache.ENABLED_PROPERTY);
+    } else {
+      System.setProperty(ReferenceDataCache.ENABLED_PROPERTY, enabled);
+    }
+  }
+
+  @Test
+  void testPageShouldBeRetrievedOnce() {
+    getPage("acqUnitIds=(1)", 0);
+    getPage("acqUnitIds=(1)", 0);
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testPagesShouldBeCachedByUnitsAndPaging() {
+    getPage("acqUnitIds=(1)", 0);
+    getPage("acqUnitIds=(1)", 10);
+    getPage("acqUnitIds=(2)", 0);
+
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void testInvalidatedPageShouldBeRetrievedAgain() {
+    getPage("acqUnitIds=(1)", 0);
+    cache.invalidate(requestContext);
+    getPage("acqUnitIds=(1)", 0);
+
+    assertEquals(2, loads.get());
+  }
+
+  private void getPage(String acqUnitsCqlExpr, int offset) {
+    cache.get(acqUnitsCqlExpr, "poLineId==1", offset, 10, requestContext, () -> {
+      loads.incrementAndGet();
+      return completedFuture(new ReceivingHistoryCollection());
+    }).join();
+  }
+}
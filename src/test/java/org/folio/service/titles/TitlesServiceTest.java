@@ -0,0 +1,105 @@
+package org.folio.service.titles;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.folio.orders.rest.exceptions.HttpException;
+import org.folio.rest.core.RestClient;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
+import org.folio.rest.jaxrs.model.Title;
+import org.folio.rest.jaxrs.model.TitleCollection;
+import org.folio.service.orders.PurchaseOrderLineService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.vertx.core.json.JsonObject;
+
+public class TitlesServiceTest {
+
+  private static final int PAGE_SIZE = 3;
+
+  private final RequestContext requestContext = new RequestContext(null, Map.of());
+  private final List<Title> storedTitles = new ArrayList<>();
+  private RestClient restClient;
+  private TitlesService titlesService;
+
+  @BeforeEach
+  void initMocks() {
+    restClient = Mockito.spy(new RestClient());
+    titlesService = new TitlesService(restClient, mock(PurchaseOrderLineService.class), PAGE_SIZE);
+    doAnswer(invocation -> {
+      RequestEntry requestEntry = invocation.getArgument(0);
+      String query = (String) requestEntry.getQueryParams().get("query");
+      int offset = (int) requestEntry.getQueryParams().get("offset");
+      int limit = (int) requestEntry.getQueryParams().get("limit");
+      List<Title> titles = storedTitles.stream()
+        .filter(title -> query.contains(title.getPoLineId()))
+        .skip(offset)
+        .limit(limit)
+        .collect(toList());
+      return completedFuture(JsonObject.mapFrom(new TitleCollection().withTitles(titles)));
+    }).when(restClient).getAsJsonObject(any(RequestEntry.class), any());
+  }
+
+  @Test
+  void testShouldRetrieveAllTitlesOfPackageLine() {
+    String packageLineId = UUID.randomUUID().toString();
+    String lineId = UUID.randomUUID().toString();
+    addTitles(packageLineId, 7);
+    addTitles(lineId, 1);
+
+    Map<String, List<Title>> titles = titlesService.getTitlesByPoLineIds(List.of(packageLineId, lineId), requestContext).join();
+
+    assertThat(titles.get(packageLineId), hasSize(7));
+    assertThat(titles.get(lineId), hasSize(1));
+    verify(restClient, times(3)).getAsJsonObject(any(RequestEntry.class), any());
+  }
+
+  @Test
+  void testShouldQueryTitlesByChunksOfPoLineIds() {
+    List<String> lineIds = IntStream.range(0, 20)
+      .mapToObj(i -> UUID.randomUUID().toString())
+      .collect(toList());
+    lineIds.forEach(lineId -> addTitles(lineId, 1));
+
+    Map<String, List<Title>> titles = titlesService.getTitlesByPoLineIds(lineIds, requestContext).join();
+
+    assertThat(titles.size(), equalTo(20));
+    // 15 titles of the first chunk are retrieved with 6 pages, 5 titles of the second one with 2 pages
+    verify(restClient, times(8)).getAsJsonObject(any(RequestEntry.class), any());
+  }
+
+  @Test
+  void testTitlesOfFailedQueryShouldBeSkipped() {
+    doReturn(CompletableFuture.failedFuture(new HttpException(500, "Internal server error")))
+      .when(restClient).getAsJsonObject(any(RequestEntry.class), any());
+
+    Map<String, List<Title>> titles = titlesService.getTitlesByPoLineIds(List.of(UUID.randomUUID().toString()), requestContext).join();
+
+    assertThat(titles.size(), equalTo(0));
+  }
+
+  private void addTitles(String poLineId, int count) {
+    for (int i = 0; i < count; i++) {
+      storedTitles.add(new Title().withId(UUID.randomUUID().toString()).withPoLineId(poLineId));
+    }
+  }
+}